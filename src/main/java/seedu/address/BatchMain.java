@@ -0,0 +1,161 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.logic.BatchRunner;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.StateManager;
+import seedu.address.logic.commands.CommandRegistry;
+import seedu.address.model.AddressBook;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.CheckpointStorage;
+import seedu.address.storage.CommandHistoryStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.NewlineDelimitedCommandHistoryStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs a script of commands against the address book without starting the user interface.
+ * The address book is saved once the script ends, and at the checkpoints asked for in the parameters.
+ *
+ * @see BatchParameters#MESSAGE_USAGE
+ */
+public class BatchMain {
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMANDS_FAILED = 1;
+    public static final int EXIT_ERROR = 2;
+
+    public static final String MESSAGE_SUMMARY = "Ran %d commands in %d ms, %d failed.";
+    public static final String MESSAGE_DATA_NOT_LOADED =
+            "Data file at %s could not be loaded, so no commands were run.";
+    public static final String MESSAGE_STOPPED = "Stopped running the script: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchMain.class);
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.in, System.out, System.err));
+    }
+
+    /**
+     * Runs batch mode with the command-line parameters {@code args}, which start with
+     * {@value BatchParameters#BATCH_FLAG}, reading the script from {@code in} if no script file is given.
+     *
+     * @return {@link #EXIT_SUCCESS} if every command succeeded, {@link #EXIT_COMMANDS_FAILED} if some commands failed,
+     *     or {@link #EXIT_ERROR} if the script could not be run to the end, or its changes could not be saved or
+     *     exported.
+     */
+    public static int run(String[] args, InputStream in, PrintStream out, PrintStream err) {
+        BatchParameters parameters;
+        try {
+            parameters = BatchParameters.parse(args);
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            return EXIT_ERROR;
+        }
+
+        Config config = readConfig(parameters.getConfigPath());
+        initLogging(config);
+        logger.info("Running script with parameters " + parameters);
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = readPrefs(userPrefsStorage);
+        CommandHistoryStorage commandHistoryStorage = new NewlineDelimitedCommandHistoryStorage(
+                userPrefs.getCommandHistoryFilePath(), userPrefs.getCommandHistoryCapacity());
+        CheckpointStorage storage = new CheckpointStorage(new StorageManager(
+                StorageManager.createAddressBookStorage(userPrefs), userPrefsStorage, commandHistoryStorage));
+
+        ReadOnlyAddressBook addressBook;
+        try {
+            // Unlike the app, a script starts from an empty address book rather than the sample one
+            addressBook = storage.readAddressBook().orElseGet(AddressBook::new);
+        } catch (DataLoadingException e) {
+            err.println(String.format(MESSAGE_DATA_NOT_LOADED, storage.getAddressBookFilePath()));
+            return EXIT_ERROR;
+        }
+
+        CommandRegistry.initialize();
+        ModelManager model = new ModelManager(addressBook, userPrefs, new CommandHistory());
+        LogicManager logic = new LogicManager(model, storage, new StateManager());
+        BatchRunner runner = new BatchRunner(logic, storage::checkpoint, parameters.isAutoConfirm(),
+                parameters.getCheckpointInterval());
+
+        long start = System.nanoTime();
+        BatchRunner.Summary summary;
+        try (BufferedReader script = openScript(parameters.getScriptPath(), in)) {
+            summary = runner.run(script, err);
+            storage.close();
+            if (parameters.getExportPath() != null) {
+                // Paths other than the data file are always written as json, whatever format the data file is in
+                storage.saveAddressBook(model.getAddressBook(), parameters.getExportPath());
+            }
+        } catch (IOException e) {
+            err.println(String.format(MESSAGE_STOPPED, e));
+            return EXIT_ERROR;
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        out.println(String.format(MESSAGE_SUMMARY, summary.getCommandCount(), elapsedMillis,
+                summary.getFailedCount()));
+        return summary.getFailedCount() == 0 ? EXIT_SUCCESS : EXIT_COMMANDS_FAILED;
+    }
+
+    /**
+     * Starts logging at the level in the config file, but no lower than warnings, as logging every command would slow
+     * down long scripts and busy servers.
+     */
+    static void initLogging(Config config) {
+        if (config.getLogLevel().intValue() < Level.WARNING.intValue()) {
+            config.setLogLevel(Level.WARNING);
+        }
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns the {@code Config} in the file at {@code configFilePath}, or the default config file if it is null.
+     * Unlike the app, batch and server modes do not create or update the file.
+     */
+    static Config readConfig(Path configFilePath) {
+        Path configFilePathUsed = configFilePath != null ? configFilePath : Config.DEFAULT_CONFIG_FILE;
+        try {
+            return ConfigUtil.readConfig(configFilePathUsed).orElseGet(Config::new);
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            return new Config();
+        }
+    }
+
+    static UserPrefs readPrefs(UserPrefsStorage userPrefsStorage) {
+        try {
+            return userPrefsStorage.readUserPrefs().orElseGet(UserPrefs::new);
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + userPrefsStorage.getUserPrefsFilePath() + " could not be loaded."
+                    + " Using default preferences.");
+            return new UserPrefs();
+        }
+    }
+
+    private static BufferedReader openScript(Path scriptPath, InputStream in) throws IOException {
+        if (scriptPath == null) {
+            return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,175 @@
+package seedu.address;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Objects;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the parsed command-line parameters given to the application in batch mode.
+ */
+public class BatchParameters {
+    public static final String BATCH_FLAG = "--batch";
+    public static final String CONFIG_PREFIX = "--config=";
+    public static final String AUTO_CONFIRM_FLAG = "--yes";
+    public static final String CHECKPOINT_PREFIX = "--checkpoint=";
+    public static final String EXPORT_PREFIX = "--export=";
+    public static final String STANDARD_INPUT = "-";
+
+    public static final String MESSAGE_USAGE = "Usage: " + BATCH_FLAG + " [" + CONFIG_PREFIX + "CONFIG_FILE] ["
+            + AUTO_CONFIRM_FLAG + "] [" + CHECKPOINT_PREFIX + "COMMANDS] [" + EXPORT_PREFIX + "JSON_FILE]"
+            + " [SCRIPT_FILE]\n"
+            + "Runs the commands in SCRIPT_FILE, or in the standard input if SCRIPT_FILE is " + STANDARD_INPUT
+            + " or not given.\n"
+            + "  " + AUTO_CONFIRM_FLAG + "  confirms every command that asks for confirmation\n"
+            + "  " + CHECKPOINT_PREFIX + "COMMANDS  also saves the address book after every COMMANDS commands\n"
+            + "  " + EXPORT_PREFIX + "JSON_FILE  also saves the address book as json to JSON_FILE once the script ends";
+    public static final String MESSAGE_INVALID_PARAMETER = "Invalid parameter: %s\n" + MESSAGE_USAGE;
+
+    private Path configPath;
+    private Path scriptPath;
+    private boolean isAutoConfirm;
+    private int checkpointInterval;
+    private Path exportPath;
+
+    public Path getConfigPath() {
+        return configPath;
+    }
+
+    public void setConfigPath(Path configPath) {
+        this.configPath = configPath;
+    }
+
+    /**
+     * Returns the path of the script to run, or null if the script is read from the standard input.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    public boolean isAutoConfirm() {
+        return isAutoConfirm;
+    }
+
+    public void setAutoConfirm(boolean isAutoConfirm) {
+        this.isAutoConfirm = isAutoConfirm;
+    }
+
+    /**
+     * Returns the number of commands to run between saves, or 0 if the address book is only saved at the end.
+     */
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    public void setCheckpointInterval(int checkpointInterval) {
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Returns the path of the json file to export the address book to once the script ends, or null if it is not
+     * exported.
+     */
+    public Path getExportPath() {
+        return exportPath;
+    }
+
+    public void setExportPath(Path exportPath) {
+        this.exportPath = exportPath;
+    }
+
+    /**
+     * Returns true if {@code args} asks for the application to run in batch mode.
+     */
+    public static boolean isBatchMode(String[] args) {
+        return args.length > 0 && args[0].equals(BATCH_FLAG);
+    }
+
+    /**
+     * Parses the command-line parameters of batch mode, which start with {@value #BATCH_FLAG}.
+     *
+     * @throws IllegalArgumentException if a parameter is invalid.
+     */
+    public static BatchParameters parse(String[] args) {
+        assert isBatchMode(args) : "Only the parameters of batch mode can be parsed";
+        BatchParameters batchParameters = new BatchParameters();
+
+        for (int i = 1; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.equals(AUTO_CONFIRM_FLAG)) {
+                batchParameters.setAutoConfirm(true);
+            } else if (arg.startsWith(CONFIG_PREFIX)) {
+                batchParameters.setConfigPath(parsePath(arg, arg.substring(CONFIG_PREFIX.length())));
+            } else if (arg.startsWith(CHECKPOINT_PREFIX)) {
+                batchParameters.setCheckpointInterval(parseCheckpointInterval(arg));
+            } else if (arg.startsWith(EXPORT_PREFIX)) {
+                batchParameters.setExportPath(parsePath(arg, arg.substring(EXPORT_PREFIX.length())));
+            } else if (i == args.length - 1 && (arg.equals(STANDARD_INPUT) || !arg.startsWith("-"))) {
+                batchParameters.setScriptPath(arg.equals(STANDARD_INPUT) ? null : parsePath(arg, arg));
+            } else {
+                throw new IllegalArgumentException(String.format(MESSAGE_INVALID_PARAMETER, arg));
+            }
+        }
+        return batchParameters;
+    }
+
+    private static Path parsePath(String arg, String path) {
+        if (!FileUtil.isValidPath(path)) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_PARAMETER, arg));
+        }
+        return Paths.get(path);
+    }
+
+    private static int parseCheckpointInterval(String arg) {
+        try {
+            int interval = Integer.parseInt(arg.substring(CHECKPOINT_PREFIX.length()));
+            if (interval > 0) {
+                return interval;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below along with intervals that are not positive
+        }
+        throw new IllegalArgumentException(String.format(MESSAGE_INVALID_PARAMETER, arg));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchParameters)) {
+            return false;
+        }
+
+        BatchParameters otherBatchParameters = (BatchParameters) other;
+        return Objects.equals(configPath, otherBatchParameters.configPath)
+                && Objects.equals(scriptPath, otherBatchParameters.scriptPath)
+                && isAutoConfirm == otherBatchParameters.isAutoConfirm
+                && checkpointInterval == otherBatchParameters.checkpointInterval
+                && Objects.equals(exportPath, otherBatchParameters.exportPath);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(configPath, scriptPath, isAutoConfirm, checkpointInterval, exportPath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("configPath", configPath)
+                .add("scriptPath", scriptPath)
+                .add("isAutoConfirm", isAutoConfirm)
+                .add("checkpointInterval", checkpointInterval)
+                .add("exportPath", exportPath)
+                .toString();
+    }
+}
@@ -25,6 +25,14 @@ public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        if (BatchParameters.isBatchMode(args)) {
+            BatchMain.main(args);
+            return;
+        }
+        if (ServerParameters.isServerMode(args)) {
+            ServerMain.main(args);
+            return;
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
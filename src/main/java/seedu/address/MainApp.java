@@ -1,11 +1,14 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -13,8 +16,10 @@ import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandPipeline;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.State;
 import seedu.address.logic.StateManager;
 import seedu.address.logic.commands.CommandRegistry;
 import seedu.address.model.AddressBook;
@@ -25,15 +30,16 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyCommandHistory;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.CommandHistoryStorage;
-import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.NewlineDelimitedCommandHistoryStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.ui.StatusBarNotificationDispatcher;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -45,13 +51,22 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 2, 2, true);
 
+    public static final String MESSAGE_LOADING = "Loading address book...";
+    public static final String MESSAGE_LOADING_PROGRESS = "Loading address book... %d of %d contacts";
+    public static final String MESSAGE_LOADED = "Loaded %d contacts from %s";
+
+    /** Number of loaded persons added to the model at a time, so the UI stays responsive while the list fills. */
+    private static final int LOAD_BATCH_SIZE = 500;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
     protected Logic logic;
+    protected CommandPipeline commandPipeline;
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected State state;
 
     @Override
     public void init() throws Exception {
@@ -64,46 +79,45 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = StorageManager.createAddressBookStorage(userPrefs);
         CommandHistoryStorage commandHistoryStorage =
-                new NewlineDelimitedCommandHistoryStorage(userPrefs.getCommandHistoryFilePath());
+                new NewlineDelimitedCommandHistoryStorage(userPrefs.getCommandHistoryFilePath(),
+                        userPrefs.getCommandHistoryCapacity());
 
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage);
+        storage = new WriteBehindStorage(
+                new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage),
+                this::notifySaveFailure);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage, new StateManager());
+        // The address book is loaded once the window is shown, see start()
+        state = new StateManager();
+        state.setLoadingData(true);
+        logic = new LogicManager(model, storage, state);
 
-        ui = new UiManager(logic, model.getCommandHistory());
+        commandPipeline = new CommandPipeline(logic, Platform::runLater);
+
+        ui = new UiManager(logic, commandPipeline, model.getCommandHistory());
 
         initCommandRegistry();
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Shows the user that a save running in the background has failed.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getAddressBookFilePath());
-
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
-        try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
-                        + " populated with a sample AddressBook.");
-            }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataLoadingException e) {
-            String message = "Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                + " Will be starting with an empty AddressBook.";
-            logger.warning(message);
-            StatusBarNotificationDispatcher.getInstance().notify(message);
-            initialData = new AddressBook();
-        }
+    private void notifySaveFailure(IOException e) {
+        String message = e instanceof AccessDeniedException
+                ? String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage())
+                : String.format(LogicManager.FILE_OPS_ERROR_FORMAT, e.getMessage());
+        Platform.runLater(() -> StatusBarNotificationDispatcher.getInstance().notify(message));
+    }
 
+    /**
+     * Returns a {@code ModelManager} with an empty address book, {@code userPrefs} and the command history from
+     * {@code storage}. An empty command history will be used instead if errors occur when reading it.
+     * The address book is filled in later by {@link #startLoadingAddressBook()}.
+     */
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         Optional<CommandHistory> commandHistoryOptional;
         ReadOnlyCommandHistory commandHistory;
         try {
@@ -118,7 +132,66 @@ public class MainApp extends Application {
             commandHistory = new CommandHistory();
         }
 
-        return new ModelManager(initialData, userPrefs, commandHistory);
+        return new ModelManager(new AddressBook(), userPrefs, commandHistory);
+    }
+
+    /**
+     * Reads the address book on a background thread, then adds its persons to the model on the command pipeline's
+     * thread in batches of {@link #LOAD_BATCH_SIZE}. Commands that change the address book are rejected until every
+     * person has been added. <br>
+     * The sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    private void startLoadingAddressBook() {
+        StatusBarNotificationDispatcher.getInstance().notify(MESSAGE_LOADING);
+        Thread loader = new Thread(() -> {
+            logger.info("Using data file : " + storage.getAddressBookFilePath());
+            ReadOnlyAddressBook initialData;
+            String completionMessage;
+            try {
+                Optional<ReadOnlyAddressBook> addressBookOptional = storage.readAddressBook();
+                if (!addressBookOptional.isPresent()) {
+                    logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                            + " populated with a sample AddressBook.");
+                }
+                initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+                completionMessage = String.format(MESSAGE_LOADED, initialData.getPersonList().size(),
+                        storage.getAddressBookFilePath());
+            } catch (DataLoadingException e) {
+                completionMessage = "Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                        + " Will be starting with an empty AddressBook.";
+                logger.warning(completionMessage);
+                initialData = new AddressBook();
+            }
+
+            // The persons read are handed on as they are, so loading holds no other copy of them
+            List<Person> persons = initialData.getPersonList();
+            String message = completionMessage;
+            commandPipeline.runInOrder(() -> addLoadedPersons(persons, 0, message));
+        }, "address-book-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Adds the batch of {@code persons} starting from {@code from} to the model and schedules the batch after it,
+     * so that commands entered while loading can run in between.
+     * Once the last batch is added, {@code completionMessage} is shown on the status bar.
+     */
+    private void addLoadedPersons(List<Person> persons, int from, String completionMessage) {
+        int to = Math.min(from + LOAD_BATCH_SIZE, persons.size());
+        model.addPersons(persons.subList(from, to));
+        if (to < persons.size()) {
+            String progressMessage = String.format(MESSAGE_LOADING_PROGRESS, to, persons.size());
+            Platform.runLater(() -> StatusBarNotificationDispatcher.getInstance().notify(progressMessage));
+            commandPipeline.runInOrder(() -> addLoadedPersons(persons, to, completionMessage));
+            return;
+        }
+
+        // Loading is not a change the user can undo
+        model.clearAddressBookHistory();
+        state.setLoadingData(false);
+        Platform.runLater(() -> StatusBarNotificationDispatcher.getInstance().notify(completionMessage));
     }
 
     private void initLogging(Config config) {
@@ -210,15 +283,22 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting DevBooks " + MainApp.VERSION);
         ui.start(primaryStage);
+        startLoadingAddressBook();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        commandPipeline.shutdown();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.close();
+        } catch (IOException e) {
+            logger.severe("Failed to write out address book " + StringUtil.getDetails(e));
+        }
     }
 }
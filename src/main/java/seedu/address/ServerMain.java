@@ -0,0 +1,110 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandPipeline;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.StateManager;
+import seedu.address.logic.commands.CommandRegistry;
+import seedu.address.model.AddressBook;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.server.ApiServer;
+import seedu.address.storage.CommandHistoryStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.NewlineDelimitedCommandHistoryStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
+
+/**
+ * Serves the address book over HTTP without starting the user interface, until the process is stopped.
+ *
+ * @see ServerParameters#MESSAGE_USAGE
+ * @see ApiServer
+ */
+public class ServerMain {
+    public static final int EXIT_ERROR = 2;
+
+    public static final String MESSAGE_SERVING = "Serving the address book at http://%s:%d%s, press Ctrl+C to stop.";
+    public static final String MESSAGE_DATA_NOT_LOADED =
+            "Data file at %s could not be loaded, so the address book was not served.";
+    public static final String MESSAGE_NOT_STARTED = "Could not start the server: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(ServerMain.class);
+
+    /**
+     * Starts the server with the command-line parameters {@code args}, which start with
+     * {@value ServerParameters#SERVE_FLAG}. Exits with {@link #EXIT_ERROR} if the server could not be started.
+     */
+    public static void main(String[] args) {
+        ServerParameters parameters;
+        try {
+            parameters = ServerParameters.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(EXIT_ERROR);
+            return;
+        }
+
+        Config config = BatchMain.readConfig(parameters.getConfigPath());
+        BatchMain.initLogging(config);
+        logger.info("Starting server with parameters " + parameters);
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = BatchMain.readPrefs(userPrefsStorage);
+        CommandHistoryStorage commandHistoryStorage = new NewlineDelimitedCommandHistoryStorage(
+                userPrefs.getCommandHistoryFilePath(), userPrefs.getCommandHistoryCapacity());
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(
+                StorageManager.createAddressBookStorage(userPrefs), userPrefsStorage, commandHistoryStorage),
+                e -> logger.severe("Failed to save data " + StringUtil.getDetails(e)));
+
+        ReadOnlyAddressBook addressBook;
+        try {
+            addressBook = storage.readAddressBook().orElseGet(AddressBook::new);
+        } catch (DataLoadingException e) {
+            System.err.println(String.format(MESSAGE_DATA_NOT_LOADED, storage.getAddressBookFilePath()));
+            System.exit(EXIT_ERROR);
+            return;
+        }
+
+        CommandRegistry.initialize();
+        ModelManager model = new ModelManager(addressBook, userPrefs, new CommandHistory());
+        LogicManager logic = new LogicManager(model, storage, new StateManager());
+        // Results are handed back on the worker itself, as the request threads wait for them
+        CommandPipeline pipeline = new CommandPipeline(logic, Runnable::run);
+
+        ApiServer server;
+        try {
+            server = new ApiServer(logic, pipeline, parameters.getPort());
+        } catch (IOException e) {
+            System.err.println(String.format(MESSAGE_NOT_STARTED, e));
+            System.exit(EXIT_ERROR);
+            return;
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> stop(server, pipeline, storage), "server-shutdown"));
+        server.start();
+        System.out.println(String.format(MESSAGE_SERVING, server.getAddress().getHostString(),
+                server.getAddress().getPort(), ApiServer.PERSONS_PATH));
+    }
+
+    /**
+     * Stops taking requests, then writes out the changes made by the commands that were executed.
+     */
+    private static void stop(ApiServer server, CommandPipeline pipeline, WriteBehindStorage storage) {
+        logger.info("Stopping server");
+        server.stop();
+        pipeline.shutdown();
+        try {
+            storage.close();
+        } catch (IOException e) {
+            logger.severe("Failed to write out address book " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package seedu.address;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Objects;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the parsed command-line parameters given to the application in server mode.
+ */
+public class ServerParameters {
+    public static final String SERVE_FLAG = "--serve";
+    public static final String CONFIG_PREFIX = "--config=";
+    public static final String PORT_PREFIX = "--port=";
+    public static final int DEFAULT_PORT = 8080;
+    public static final int MAX_PORT = 65535;
+
+    public static final String MESSAGE_USAGE = "Usage: " + SERVE_FLAG + " [" + CONFIG_PREFIX + "CONFIG_FILE] ["
+            + PORT_PREFIX + "PORT]\n"
+            + "Serves the address book over HTTP on PORT of this machine, or on port " + DEFAULT_PORT
+            + " if PORT is not given.";
+    public static final String MESSAGE_INVALID_PARAMETER = "Invalid parameter: %s\n" + MESSAGE_USAGE;
+
+    private Path configPath;
+    private int port = DEFAULT_PORT;
+
+    public Path getConfigPath() {
+        return configPath;
+    }
+
+    public void setConfigPath(Path configPath) {
+        this.configPath = configPath;
+    }
+
+    /**
+     * Returns the port to serve on, or 0 if any free port may be used.
+     */
+    public int getPort() {
+        return port;
+    }
+
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    /**
+     * Returns true if {@code args} asks for the application to run in server mode.
+     */
+    public static boolean isServerMode(String[] args) {
+        return args.length > 0 && args[0].equals(SERVE_FLAG);
+    }
+
+    /**
+     * Parses the command-line parameters of server mode, which start with {@value #SERVE_FLAG}.
+     *
+     * @throws IllegalArgumentException if a parameter is invalid.
+     */
+    public static ServerParameters parse(String[] args) {
+        assert isServerMode(args) : "Only the parameters of server mode can be parsed";
+        ServerParameters serverParameters = new ServerParameters();
+
+        for (int i = 1; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.startsWith(CONFIG_PREFIX)) {
+                serverParameters.setConfigPath(parseConfigPath(arg));
+            } else if (arg.startsWith(PORT_PREFIX)) {
+                serverParameters.setPort(parsePort(arg));
+            } else {
+                throw new IllegalArgumentException(String.format(MESSAGE_INVALID_PARAMETER, arg));
+            }
+        }
+        return serverParameters;
+    }
+
+    private static Path parseConfigPath(String arg) {
+        String path = arg.substring(CONFIG_PREFIX.length());
+        if (!FileUtil.isValidPath(path)) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_PARAMETER, arg));
+        }
+        return Paths.get(path);
+    }
+
+    private static int parsePort(String arg) {
+        try {
+            int port = Integer.parseInt(arg.substring(PORT_PREFIX.length()));
+            if (port >= 0 && port <= MAX_PORT) {
+                return port;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below along with ports that are out of range
+        }
+        throw new IllegalArgumentException(String.format(MESSAGE_INVALID_PARAMETER, arg));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ServerParameters)) {
+            return false;
+        }
+
+        ServerParameters otherServerParameters = (ServerParameters) other;
+        return Objects.equals(configPath, otherServerParameters.configPath)
+                && port == otherServerParameters.port;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(configPath, port);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("configPath", configPath)
+                .add("port", port)
+                .toString();
+    }
+}
@@ -1,18 +1,32 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String CHECKSUM_FILE_SUFFIX = ".checksum";
+
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Contents of %s do not match its checksum";
+
     private static final String CHARSET = "UTF-8";
 
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -80,4 +94,175 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Appends given string to the end of a file, without reading or rewriting its previous contents.
+     * A checksum kept by {@link #writeToFileAtomically(Path, String)} no longer matches the file, so it is removed.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        createParentDirsOfFile(file);
+        Files.write(file, content.getBytes(CHARSET), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        Files.deleteIfExists(getChecksumFilePath(file));
+    }
+
+    /**
+     * Writes given string to a file, replacing the previous contents in a single step.
+     * The string is first written to a temporary file in the same directory and forced to disk, then the temporary
+     * file is renamed over {@code file}, so a crash during the write leaves either the old or the new contents.
+     * A checksum of the new contents is kept next to the file, to be checked by {@link #readFromFileVerified(Path)}.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, String content) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        writeBytesToFileAtomically(file, bytes);
+
+        // The checksum is not forced to disk: if it is lost, the file it belongs to is simply not verified
+        String checksum = checksumOf(bytes) + " " + bytes.length + " " + Files.getLastModifiedTime(file).toMillis();
+        replaceFile(getChecksumFilePath(file), checksum.getBytes(CHARSET), false);
+    }
+
+    /**
+     * Writes given bytes to a file in the same way as {@link #writeToFileAtomically(Path, String)}, but without
+     * keeping a checksum next to the file. Meant for file formats that carry a checksum of their own.
+     */
+    public static void writeBytesToFileAtomically(Path file, byte[] bytes) throws IOException {
+        createParentDirsOfFile(file);
+        replaceFile(file, bytes, true);
+        forceDirectory(file.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Reads the file, checking its contents against the checksum kept by {@link #writeToFileAtomically}.
+     * The check is skipped if there is no checksum, or if the file was modified after the checksum was written,
+     * such as by the user editing the file by hand.
+     * Assumes file exists.
+     *
+     * @throws IOException if the file cannot be read, or its contents do not match the checksum.
+     */
+    public static String readFromFileVerified(Path file) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        verifyChecksum(file, checksumOf(bytes), bytes.length);
+        return new String(bytes, CHARSET);
+    }
+
+    /**
+     * Opens an input stream over the file that checks its contents against the checksum kept by
+     * {@link #writeToFileAtomically} once the end of the file is read, in the same way as
+     * {@link #readFromFileVerified(Path)}. Assumes file exists.
+     */
+    public static InputStream openVerifiedInputStream(Path file) throws IOException {
+        return new VerifyingInputStream(file);
+    }
+
+    private static void verifyChecksum(Path file, String checksum, long size) throws IOException {
+        String[] recorded = readChecksum(file);
+        if (recorded != null
+                && recorded[2].equals(String.valueOf(Files.getLastModifiedTime(file).toMillis()))
+                && !(recorded[0].equals(checksum) && recorded[1].equals(String.valueOf(size)))) {
+            throw new IOException(String.format(MESSAGE_CHECKSUM_MISMATCH, file));
+        }
+    }
+
+    public static Path getChecksumFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + CHECKSUM_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the checksum, size and modification time recorded for {@code file},
+     * or null if there is no checksum file or it cannot be understood.
+     */
+    private static String[] readChecksum(Path file) throws IOException {
+        Path checksumFile = getChecksumFilePath(file);
+        if (!isFileExists(checksumFile)) {
+            return null;
+        }
+        String[] parts = readFromFile(checksumFile).trim().split(" ");
+        return parts.length == 3 ? parts : null;
+    }
+
+    private static void replaceFile(Path file, byte[] bytes, boolean isForced) throws IOException {
+        Path tempFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName() + ".",
+                TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                if (isForced) {
+                    channel.force(true);
+                }
+            }
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to disk, so that a file renamed into it survives a crash.
+     * Not every platform allows a directory to be opened, in which case this does nothing.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // The rename is still atomic, it is only not guaranteed to have reached the disk yet
+        }
+    }
+
+    private static String checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return Long.toHexString(crc.getValue());
+    }
+
+    /**
+     * An input stream over a file that verifies the checksum of the file when its end is reached.
+     */
+    private static class VerifyingInputStream extends CheckedInputStream {
+        private final Path file;
+        private long size = 0;
+        private boolean isVerified = false;
+
+        VerifyingInputStream(Path file) throws IOException {
+            super(Files.newInputStream(file), new CRC32());
+            this.file = file;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b == -1) {
+                verifyOnce();
+            } else {
+                size++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = super.read(buffer, offset, length);
+            if (count == -1) {
+                verifyOnce();
+            } else {
+                size += count;
+            }
+            return count;
+        }
+
+        private void verifyOnce() throws IOException {
+            if (isVerified) {
+                return;
+            }
+            isVerified = true;
+            verifyChecksum(file, Long.toHexString(getChecksum().getValue()), size);
+        }
+    }
+
 }
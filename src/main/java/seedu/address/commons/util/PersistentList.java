@@ -0,0 +1,396 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list in which every modification returns a new list and leaves the original unchanged.
+ * <p>
+ * The elements are kept in a balanced binary tree ordered by position. A modification only copies the O(log n)
+ * nodes on the path to the changed position, and the new list shares every other node with the original, so keeping
+ * many versions of a large list costs little more than keeping one.
+ *
+ * @param <E> the type of elements in the list
+ */
+public final class PersistentList<E> implements Iterable<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of {@code elements}, in order. Takes O(n) time.
+     */
+    public static <E> PersistentList<E> of(List<? extends E> elements) {
+        CollectionUtil.requireAllNonNull(elements);
+        List<? extends E> randomAccessElements = new ArrayList<>(elements);
+        return new PersistentList<>(build(randomAccessElements, 0, randomAccessElements.size()));
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not a valid position in the list.
+     */
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.element;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not a valid position in the list.
+     */
+    public PersistentList<E> set(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size());
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /**
+     * Returns a list with {@code element} appended to the end.
+     */
+    public PersistentList<E> add(E element) {
+        return add(size(), element);
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}, shifting later elements back by one.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is negative or greater than the size of the list.
+     */
+    public PersistentList<E> add(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} removed, shifting later elements forward by one.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not a valid position in the list.
+     */
+    public PersistentList<E> remove(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * Returns the number of leading positions at which this list and {@code other} hold the same instances.
+     * Subtrees the two lists share are skipped whole, so comparing a list with an earlier version of itself takes
+     * time in proportion to the number of changes between them times O(log n), rather than O(n).
+     */
+    public int commonPrefixLength(PersistentList<E> other) {
+        requireNonNull(other);
+        return commonLength(new Frontier<>(root, true), new Frontier<>(other.root, true), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the number of trailing positions at which this list and {@code other} hold the same instances, up to
+     * {@code maxLength}. Shared subtrees are skipped as in {@link #commonPrefixLength(PersistentList)}.
+     */
+    public int commonSuffixLength(PersistentList<E> other, int maxLength) {
+        requireNonNull(other);
+        return commonLength(new Frontier<>(root, false), new Frontier<>(other.root, false), maxLength);
+    }
+
+    /**
+     * Returns a new mutable list of the elements, in order.
+     */
+    public List<E> toList() {
+        List<E> elements = new ArrayList<>(size());
+        forEach(elements::add);
+        return elements;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersistentList)) {
+            return false;
+        }
+
+        PersistentList<?> otherList = (PersistentList<?>) other;
+        return toList().equals(otherList.toList());
+    }
+
+    @Override
+    public int hashCode() {
+        return toList().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    private static <E> int commonLength(Frontier<E> frontier, Frontier<E> otherFrontier, int maxLength) {
+        int length = 0;
+        while (length < maxLength && !frontier.isEmpty() && !otherFrontier.isEmpty()) {
+            int size = frontier.peekSize();
+            int otherSize = otherFrontier.peekSize();
+            if (frontier.isPeekSubtree() && frontier.peek() == otherFrontier.peek() && otherFrontier.isPeekSubtree()
+                    && length + size <= maxLength) {
+                length += size;
+                frontier.pop();
+                otherFrontier.pop();
+            } else if (!frontier.isPeekSubtree() && !otherFrontier.isPeekSubtree()) {
+                if (frontier.peek().element != otherFrontier.peek().element) {
+                    break;
+                }
+                length++;
+                frontier.pop();
+                otherFrontier.pop();
+            } else if (frontier.isPeekSubtree() && (size >= otherSize || !otherFrontier.isPeekSubtree())) {
+                frontier.expand();
+            } else {
+                otherFrontier.expand();
+            }
+        }
+        return length;
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + (bound - 1));
+        }
+    }
+
+    private static <E> Node<E> build(List<? extends E> elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(build(elements, from, mid), elements.get(mid), build(elements, mid + 1, to));
+    }
+
+    private static <E> Node<E> set(Node<E> node, int index, E element) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(set(node.left, index, element), node.element, node.right);
+        } else if (index == leftSize) {
+            return new Node<>(node.left, element, node.right);
+        } else {
+            return new Node<>(node.left, node.element, set(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(null, element, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, element), node.element, node.right);
+        } else {
+            return balance(node.left, node.element, insert(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.element, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.element, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+
+        // Replace the removed element with the first element of the right subtree
+        Node<E> first = node.right;
+        while (first.left != null) {
+            first = first.left;
+        }
+        return balance(node.left, first.element, remove(node.right, 0));
+    }
+
+    /**
+     * Returns a node joining {@code left}, {@code element} and {@code right}, rotating it if the heights of
+     * {@code left} and {@code right} differ by two, as they can after a single insertion or removal.
+     */
+    private static <E> Node<E> balance(Node<E> left, E element, Node<E> right) {
+        int leftHeight = height(left);
+        int rightHeight = height(right);
+        if (leftHeight > rightHeight + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.left, left.element, new Node<>(left.right, element, right));
+            }
+            Node<E> pivot = left.right;
+            return new Node<>(new Node<>(left.left, left.element, pivot.left), pivot.element,
+                    new Node<>(pivot.right, element, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(new Node<>(left, element, right.left), right.element, right.right);
+            }
+            Node<E> pivot = right.left;
+            return new Node<>(new Node<>(left, element, pivot.left), pivot.element,
+                    new Node<>(pivot.right, right.element, right.right));
+        }
+        return new Node<>(left, element, right);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * An immutable node of the tree, holding the size and height of the subtree rooted at it.
+     */
+    private static class Node<E> {
+        private final Node<E> left;
+        private final E element;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(Node<E> left, E element, Node<E> right) {
+            this.left = left;
+            this.element = element;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+
+    /**
+     * Iterates over the elements of a tree in order, keeping the path to the next element on a stack.
+     */
+    private static class InOrderIterator<E> implements Iterator<E> {
+        private final Deque<Node<E>> path = new ArrayDeque<>();
+
+        InOrderIterator(Node<E> root) {
+            pushLeftPath(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = path.pop();
+            pushLeftPath(node.right);
+            return node.element;
+        }
+
+        private void pushLeftPath(Node<E> node) {
+            while (node != null) {
+                path.push(node);
+                node = node.left;
+            }
+        }
+    }
+
+    /**
+     * The parts of a tree not yet visited by a walk from one end of the list, each either a whole subtree or the
+     * element of a single node, ordered from the part nearest to the end the walk started from.
+     */
+    private static class Frontier<E> {
+        private final Deque<Node<E>> nodes = new ArrayDeque<>();
+        private final Deque<Boolean> isSubtree = new ArrayDeque<>();
+        private final boolean isFromStart;
+
+        Frontier(Node<E> root, boolean isFromStart) {
+            this.isFromStart = isFromStart;
+            push(root, true);
+        }
+
+        boolean isEmpty() {
+            return nodes.isEmpty();
+        }
+
+        Node<E> peek() {
+            return nodes.peek();
+        }
+
+        boolean isPeekSubtree() {
+            return isSubtree.peek();
+        }
+
+        int peekSize() {
+            return isPeekSubtree() ? nodes.peek().size : 1;
+        }
+
+        void pop() {
+            nodes.pop();
+            isSubtree.pop();
+        }
+
+        /**
+         * Replaces the subtree at the front with its two child subtrees and the element of its root.
+         */
+        void expand() {
+            Node<E> node = nodes.peek();
+            pop();
+            push(isFromStart ? node.right : node.left, true);
+            push(node, false);
+            push(isFromStart ? node.left : node.right, true);
+        }
+
+        private void push(Node<E> node, boolean isWholeSubtree) {
+            if (node != null) {
+                nodes.push(node);
+                isSubtree.push(isWholeSubtree);
+            }
+        }
+    }
+}
@@ -5,7 +5,6 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
 
 /**
  * Helper functions for handling strings.
@@ -26,17 +25,16 @@ public class StringUtil {
      */
     public static boolean containsWordIgnoreCase(String sentence, String word) {
         requireNonNull(sentence);
-        requireNonNull(word);
-
-        String preppedWord = word.trim();
-        checkArgument(!preppedWord.isEmpty(), ERROR_EMPTY_KEYWORD);
-        checkArgument(preppedWord.split("\\s+").length == 1, ERROR_MULTIPLE_WORDS);
-
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(preppedWord::equalsIgnoreCase);
+        String preppedWord = toSingleWord(word);
+        for (int start = nextWordStart(sentence, 0); start < sentence.length();
+                start = nextWordStart(sentence, wordEnd(sentence, start))) {
+            if (wordEnd(sentence, start) - start == preppedWord.length()
+                    && sentence.regionMatches(true, start, preppedWord, 0, preppedWord.length())) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -58,19 +56,89 @@ public class StringUtil {
      */
     public static boolean hasWordStartingWithIgnoreCase(String sentence, String keyword) {
         requireNonNull(sentence);
-        requireNonNull(keyword);
+        return hasWordStartingWith(toSearchKey(sentence), toSearchKeyword(keyword));
+    }
+
+    /**
+     * Returns true if any word in {@code searchKey} starts with {@code searchKeyword}.
+     * Both are expected to have been normalized already, by {@link #toSearchKey(String)} and
+     * {@link #toSearchKeyword(String)} respectively, so that they can be matched exactly. Keys are normalized once and
+     * kept, so this can be called for every person in a search without allocating anything.
+     */
+    public static boolean hasWordStartingWith(String searchKey, String searchKeyword) {
+        for (int start = nextWordStart(searchKey, 0); start < searchKey.length();
+                start = nextWordStart(searchKey, wordEnd(searchKey, start))) {
+            if (searchKey.startsWith(searchKeyword, start)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns {@code text} with the case of every code point folded, so that texts that only differ in case have the
+     * same key. Code points are folded the way {@link String#equalsIgnoreCase(String)} compares them, and keys are in
+     * the same order under {@link String#compareTo(String)} as their texts are under
+     * {@link String#compareToIgnoreCase(String)}.
+     */
+    public static String toSearchKey(String text) {
+        requireNonNull(text);
+        StringBuilder sb = new StringBuilder(text.length());
+        text.codePoints().forEach(cp -> sb.appendCodePoint(Character.toLowerCase(Character.toUpperCase(cp))));
+        return sb.toString();
+    }
+
+    /**
+     * Returns {@code keyword} trimmed and normalized the same way as {@link #toSearchKey(String)}, ready to be matched
+     * by {@link #hasWordStartingWith(String, String)}.
+     *
+     * @throws NullPointerException If {@code keyword} is {@code null}.
+     * @throws IllegalArgumentException If {@code keyword} is empty or contains multiple words.
+     */
+    public static String toSearchKeyword(String keyword) {
+        return toSearchKey(toSingleWord(keyword));
+    }
 
-        String preppedWord = keyword.trim();
+    /**
+     * Returns {@code word} trimmed, after checking that it is a single word.
+     */
+    private static String toSingleWord(String word) {
+        requireNonNull(word);
+        String preppedWord = word.trim();
         checkArgument(!preppedWord.isEmpty(), ERROR_EMPTY_KEYWORD);
-        checkArgument(preppedWord.split("\\s+").length == 1, ERROR_MULTIPLE_WORDS);
+        checkArgument(wordEnd(preppedWord, 0) == preppedWord.length(), ERROR_MULTIPLE_WORDS);
+        return preppedWord;
+    }
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+    /**
+     * Returns the index of the first character at or after {@code from} that is not whitespace, or the length of
+     * {@code text} if there is none.
+     */
+    private static int nextWordStart(String text, int from) {
+        int i = from;
+        while (i < text.length() && isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
 
-        boolean hasWordStartingWithKeyword = Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(word -> startsWithIgnoreCase(word, preppedWord));
+    /**
+     * Returns the index of the first whitespace character at or after {@code from}, or the length of {@code text} if
+     * there is none.
+     */
+    private static int wordEnd(String text, int from) {
+        int i = from;
+        while (i < text.length() && !isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
 
-        return hasWordStartingWithKeyword;
+    /**
+     * Returns true if {@code c} separates words, the same characters as {@code \s} in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 
     /**
@@ -96,9 +164,7 @@ public class StringUtil {
         String trimmedText = text.trim();
         String trimmedPrefix = keyword.trim();
 
-        boolean isTextStartingWithKeyword = trimmedText.toLowerCase().startsWith(trimmedPrefix.toLowerCase());
-
-        return isTextStartingWithKeyword;
+        return trimmedText.regionMatches(true, 0, trimmedPrefix, 0, trimmedPrefix.length());
     }
 
     /**
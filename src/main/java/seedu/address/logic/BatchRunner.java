@@ -0,0 +1,174 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ConfirmCommand;
+import seedu.address.logic.commands.ConfirmationPendingResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the commands in a script through a {@code Logic}, one command per line, without any user interface.
+ * Blank lines and lines starting with {@value #COMMENT_PREFIX} are skipped. A failed command is reported and the
+ * script carries on with the next line. An exit command ends the script.
+ * <p>
+ * A command that asks for confirmation is confirmed right away if the runner confirms automatically. Otherwise, the
+ * next line of the script answers it, as the user would in the app.
+ * <p>
+ * Changes are saved by the checkpoint given at construction, after every {@code checkpointInterval} commands if the
+ * interval is positive, and once the script ends.
+ */
+public class BatchRunner {
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_COMMAND_FAILED = "Line %d: %s\n%s";
+    public static final String MESSAGE_NOT_CONFIRMED =
+            "Line %d: %s\nThe script ended before the operation was confirmed, so it was not carried out.";
+    public static final String MESSAGE_INVALID_CHECKPOINT_INTERVAL = "Checkpoint interval should not be negative";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+
+    private final Logic logic;
+    private final Checkpoint checkpoint;
+    private final boolean isAutoConfirm;
+    private final int checkpointInterval;
+
+    /**
+     * Creates a {@code BatchRunner} that runs commands through {@code logic} and saves the changes with
+     * {@code checkpoint} every {@code checkpointInterval} commands, or only at the end if the interval is zero.
+     *
+     * @param isAutoConfirm Whether commands that ask for confirmation are confirmed automatically.
+     */
+    public BatchRunner(Logic logic, Checkpoint checkpoint, boolean isAutoConfirm, int checkpointInterval) {
+        requireAllNonNull(logic, checkpoint);
+        checkArgument(checkpointInterval >= 0, MESSAGE_INVALID_CHECKPOINT_INTERVAL);
+        this.logic = logic;
+        this.checkpoint = checkpoint;
+        this.isAutoConfirm = isAutoConfirm;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Runs every command in {@code script}, reporting failed commands to {@code errors}, and saves the changes.
+     *
+     * @return the number of commands run and how many of them failed.
+     * @throws IOException if the script could not be read or the changes could not be saved.
+     */
+    public Summary run(BufferedReader script, PrintStream errors) throws IOException {
+        requireAllNonNull(script, errors);
+        int lineNumber = 0;
+        int commandCount = 0;
+        int failedCount = 0;
+        // Line of the command waiting for confirmation, or 0 if there is none
+        int pendingLineNumber = 0;
+        String pendingCommand = null;
+
+        String line;
+        while ((line = script.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            commandCount++;
+            pendingLineNumber = 0;
+            try {
+                CommandResult result = logic.execute(commandText);
+                if (result instanceof ConfirmationPendingResult && isAutoConfirm) {
+                    result = logic.execute(ConfirmCommand.USER_INPUT_CONFIRM);
+                } else if (result instanceof ConfirmationPendingResult) {
+                    pendingLineNumber = lineNumber;
+                    pendingCommand = commandText;
+                }
+                if (result.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                failedCount++;
+                errors.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, commandText, e.getMessage()));
+            }
+
+            if (checkpointInterval > 0 && commandCount % checkpointInterval == 0) {
+                checkpoint.save();
+            }
+        }
+
+        if (pendingLineNumber != 0) {
+            errors.println(String.format(MESSAGE_NOT_CONFIRMED, pendingLineNumber, pendingCommand));
+        }
+        checkpoint.save();
+        logger.info("Ran " + commandCount + " commands from script, " + failedCount + " failed");
+        return new Summary(commandCount, failedCount);
+    }
+
+    /**
+     * Saves the changes made by the commands run so far.
+     */
+    @FunctionalInterface
+    public interface Checkpoint {
+        void save() throws IOException;
+    }
+
+    /**
+     * The number of commands run from a script, and how many of them failed.
+     */
+    public static class Summary {
+        private final int commandCount;
+        private final int failedCount;
+
+        /**
+         * Creates a {@code Summary} of {@code commandCount} commands, {@code failedCount} of which failed.
+         */
+        public Summary(int commandCount, int failedCount) {
+            this.commandCount = commandCount;
+            this.failedCount = failedCount;
+        }
+
+        public int getCommandCount() {
+            return commandCount;
+        }
+
+        public int getFailedCount() {
+            return failedCount;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Summary)) {
+                return false;
+            }
+
+            Summary otherSummary = (Summary) other;
+            return commandCount == otherSummary.commandCount && failedCount == otherSummary.failedCount;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(commandCount, failedCount);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("commandCount", commandCount)
+                    .add("failedCount", failedCount)
+                    .toString();
+        }
+    }
+}
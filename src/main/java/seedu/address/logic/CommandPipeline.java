@@ -0,0 +1,97 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.CommandResult;
+
+/**
+ * Executes commands through a {@code Logic} on a dedicated worker thread, one at a time in the order they were
+ * submitted, so that slow commands do not hold up the thread that submits them.
+ * The result of each command is passed back through the result executor given at construction, such as the JavaFX
+ * application thread. Once commands go through a pipeline, the model should only be changed on its worker, by
+ * commands or by tasks given to {@link #runInOrder(Runnable)}.
+ */
+public class CommandPipeline {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandPipeline.class);
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final Logic logic;
+    private final Executor resultExecutor;
+    private final ExecutorService worker;
+
+    /**
+     * Creates a {@code CommandPipeline} that executes commands through {@code logic} and passes their results back
+     * through {@code resultExecutor}.
+     */
+    public CommandPipeline(Logic logic, Executor resultExecutor) {
+        requireAllNonNull(logic, resultExecutor);
+        this.logic = logic;
+        this.resultExecutor = resultExecutor;
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules {@code commandText} to be parsed and executed after every command submitted before it.
+     * The returned future is completed through the result executor, with the result of the command, or exceptionally
+     * with the {@code CommandException} or {@code ParseException} the command failed with.
+     *
+     * @see Logic#execute(String)
+     */
+    public CompletableFuture<CommandResult> execute(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        worker.execute(() -> {
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                resultExecutor.execute(() -> result.complete(commandResult));
+            } catch (Exception e) {
+                if (e instanceof RuntimeException) {
+                    logger.severe("Unexpected error while executing command: " + StringUtil.getDetails(e));
+                }
+                resultExecutor.execute(() -> result.completeExceptionally(e));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Schedules {@code task} to run on the worker after every command and task submitted before it.
+     */
+    public void runInOrder(Runnable task) {
+        worker.execute(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                logger.severe("Unexpected error in a task run in order with commands: " + StringUtil.getDetails(e));
+            }
+        });
+    }
+
+    /**
+     * Stops accepting commands and waits for the commands submitted so far to finish.
+     */
+    public void shutdown() {
+        worker.shutdown();
+        try {
+            if (!worker.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Commands still running after " + SHUTDOWN_TIMEOUT_SECONDS + " seconds");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -8,6 +8,7 @@ import java.util.logging.Logger;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ConfirmationPendingResult;
@@ -28,6 +29,9 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_DATA_LOADING =
+            "The address book is still loading. Commands that change it can be used once loading has finished.";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
@@ -52,8 +56,15 @@ public class LogicManager implements Logic {
 
         // Get command based on input and execute
         Command command = buildCommand(commandText);
+        if (command.requiresWrite() && state.isLoadingData()) {
+            throw new CommandException(MESSAGE_DATA_LOADING);
+        }
         CommandResult commandResult = command.execute(model);
 
+        if (command.requiresWrite()) {
+            // Commands that did not change the address book, such as a confirmation prompt, are not recorded
+            model.commitAddressBook();
+        }
         saveIfRequired(command);
 
         saveCommandHistory(commandText);
@@ -73,6 +84,11 @@ public class LogicManager implements Logic {
         return model.getAddressBook();
     }
 
+    @Override
+    public PersistentList<Person> getAddressBookSnapshot() {
+        return model.getAddressBookSnapshot();
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getSortedAndFilteredPersonList();
@@ -136,7 +152,7 @@ public class LogicManager implements Logic {
         model.addCommandToHistory(commandText);
 
         runSaveWithHandling((storage) -> {
-            storage.saveCommandHistory(model.getCommandHistory());
+            storage.appendCommandToHistory(commandText);
         });
     }
 
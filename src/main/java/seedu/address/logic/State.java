@@ -29,4 +29,14 @@ public interface State {
      * @param pendingOperation the operation that is pending confirmation.
      */
     void setAwaitingUserConfirmation(ConfirmationPendingResult pendingOperation);
+
+    /**
+     * Returns true if the address book is still being loaded from storage.
+     */
+    boolean isLoadingData();
+
+    /**
+     * Updates state to reflect whether the address book is still being loaded from storage.
+     */
+    void setLoadingData(boolean isLoadingData);
 }
@@ -4,11 +4,13 @@ import seedu.address.logic.commands.ConfirmationPendingResult;
 
 /**
  * The state manager of the app.
- * Tracks whether the app is awaiting user confirmation for a previously-requested operation.
+ * Tracks whether the app is awaiting user confirmation for a previously-requested operation,
+ * and whether the address book is still being loaded.
  */
 public class StateManager implements State {
     private boolean awaitingUserConfirmation;
     private ConfirmationPendingResult pendingOperation;
+    private volatile boolean isLoadingData;
 
     /**
      * Constructs {@code State}. Initializes to not awaiting user confirmation.
@@ -16,6 +18,7 @@ public class StateManager implements State {
     public StateManager() {
         this.awaitingUserConfirmation = false;
         this.pendingOperation = null;
+        this.isLoadingData = false;
     }
 
     @Override
@@ -43,4 +46,13 @@ public class StateManager implements State {
         return pendingOperation;
     }
 
+    @Override
+    public boolean isLoadingData() {
+        return isLoadingData;
+    }
+
+    @Override
+    public void setLoadingData(boolean isLoadingData) {
+        this.isLoadingData = isLoadingData;
+    }
 }
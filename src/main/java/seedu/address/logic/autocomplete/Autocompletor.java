@@ -1,23 +1,132 @@
 package seedu.address.logic.autocomplete;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.FLAG_ALPHABETICAL_ORDER;
+import static seedu.address.logic.parser.CliSyntax.FLAG_DELETE_TAG;
+import static seedu.address.logic.parser.CliSyntax.FLAG_GITHUB_LAUNCH;
+import static seedu.address.logic.parser.CliSyntax.FLAG_RECENT_ORDER;
+import static seedu.address.logic.parser.CliSyntax.FLAG_RENAME_TAG;
+import static seedu.address.logic.parser.CliSyntax.FLAG_TELEGRAM_LAUNCH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GITHUB;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PREFERRED_MODE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMOVE_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEGRAM;
+
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
-import seedu.address.logic.autocomplete.trie.Trie;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import seedu.address.logic.commands.CommandRegistry;
+import seedu.address.logic.commands.LaunchCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.TagCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.ReadOnlyCommandHistory;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 
 /**
- * Autocompletor class that provides autocomplete hints based on command words.
+ * Autocompletor class that provides autocomplete hints based on command words and argument values.
+ * The value after a {@code n\} prefix completes to the name of a person, the value after a {@code t\} or {@code r\}
+ * prefix completes to an existing tag, and a word starting with {@code -} completes to a flag of the command.
+ * The names and tags are indexed as the person list changes, so a hint never goes through the list.
+ * Completions are ranked by how often and how recently they were used in the command history, so that the hint is
+ * the completion the user most likely wants.
  */
 public class Autocompletor {
-    private final Trie trie;
+    /** Prefixes that start an argument value. */
+    private static final List<Prefix> VALUE_PREFIXES = List.of(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+            PREFIX_TELEGRAM, PREFIX_GITHUB, PREFIX_PREFERRED_MODE, PREFIX_TAG, PREFIX_REMOVE_TAG);
+
+    private static final Map<String, List<Prefix>> COMMAND_FLAGS = Map.of(
+            ListCommand.COMMAND_WORD, List.of(FLAG_ALPHABETICAL_ORDER, FLAG_RECENT_ORDER),
+            LaunchCommand.COMMAND_WORD, List.of(FLAG_TELEGRAM_LAUNCH, FLAG_GITHUB_LAUNCH),
+            TagCommand.COMMAND_WORD, List.of(FLAG_RENAME_TAG, FLAG_DELETE_TAG));
+
+    /** Number of commands after which a use of a completion counts twice as much as before. */
+    private static final int USE_HALF_LIFE = 50;
+
+    private final CompletionSet commandWords = new CompletionSet(USE_HALF_LIFE);
+    private final Map<String, CompletionSet> commandFlags = new HashMap<>();
+    private final CompletionSet names = new CompletionSet(USE_HALF_LIFE);
+    private final CompletionSet tags = new CompletionSet(USE_HALF_LIFE);
+    private long commandCount;
 
     /**
-     * Constructs an Autocompletor and initializes possible completions with command words.
+     * Constructs an Autocompletor and initializes possible completions with command words only.
      */
     public Autocompletor() {
-        trie = new Trie();
-        for (String c : CommandRegistry.getCommandWords()) {
-            trie.put(c);
+        this(FXCollections.observableArrayList(), new CommandHistory());
+    }
+
+    /**
+     * Constructs an Autocompletor and initializes possible completions with command words, and the names and tags
+     * of the persons in {@code persons}, which are kept up to date with subsequent changes to {@code persons}.
+     * Completions are ranked by their use in {@code history}.
+     */
+    public Autocompletor(ObservableList<Person> persons, ReadOnlyCommandHistory history) {
+        requireNonNull(persons);
+        requireNonNull(history);
+        CommandRegistry.getCommandWords().forEach(commandWords::add);
+        COMMAND_FLAGS.forEach((commandWord, flags) -> {
+            CompletionSet flagSet = new CompletionSet(USE_HALF_LIFE);
+            flags.forEach(flag -> flagSet.add(flag.getPrefix()));
+            commandFlags.put(commandWord, flagSet);
+        });
+
+        persons.forEach(this::addPerson);
+        persons.addListener(this::onPersonsChanged);
+
+        List<String> commands = history.getHistory();
+        // The history starts with the most recent command
+        for (int i = commands.size() - 1; i >= 0; i--) {
+            recordCommand(commands.get(i));
+        }
+    }
+
+    /**
+     * Records a use of the command word, and the names, tags and flags in {@code commandText}, so that they are
+     * ranked higher in later hints.
+     */
+    public void recordCommand(String commandText) {
+        requireNonNull(commandText);
+        String trimmed = commandText.trim();
+        if (trimmed.isEmpty()) {
+            return;
+        }
+        long useNumber = commandCount++;
+
+        int commandWordEnd = indexOfWhitespace(trimmed);
+        String commandWord = commandWordEnd == -1 ? trimmed : trimmed.substring(0, commandWordEnd);
+        commandWords.recordUse(commandWord, useNumber);
+        if (commandWordEnd == -1) {
+            return;
+        }
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(trimmed.substring(commandWordEnd),
+                VALUE_PREFIXES.toArray(Prefix[]::new));
+        argMultimap.getAllValues(PREFIX_NAME).forEach(name -> names.recordUse(name, useNumber));
+        argMultimap.getAllValues(PREFIX_TAG).forEach(tag -> tags.recordUse(tag, useNumber));
+        argMultimap.getAllValues(PREFIX_REMOVE_TAG).forEach(tag -> tags.recordUse(tag, useNumber));
+
+        CompletionSet flagSet = commandFlags.get(commandWord);
+        if (flagSet == null) {
+            return;
+        }
+        for (String word : argMultimap.getPreamble().split("\\s+")) {
+            if (word.startsWith("-")) {
+                flagSet.recordUse(word, useNumber);
+            }
         }
     }
 
@@ -31,12 +140,113 @@ public class Autocompletor {
         }
         String trimmed = input.replaceAll("^(\\s+)", "");
         String leadingWhitespace = input.substring(0, input.length() - trimmed.length());
-        List<String> matches = this.trie.keysWithPrefix(trimmed);
-        if (matches.isEmpty()) {
+
+        int commandWordEnd = indexOfWhitespace(trimmed);
+        if (commandWordEnd == -1) {
+            String match = commandWords.complete(trimmed);
+            if (match.isEmpty()) {
+                return "";
+            }
+            // Preserve the original whitespace in the input
+            return leadingWhitespace + match;
+        }
+
+        String commandWord = trimmed.substring(0, commandWordEnd);
+        String arguments = trimmed.substring(commandWordEnd);
+        String completedArguments = completeArguments(commandWord, arguments);
+        if (completedArguments.isEmpty()) {
+            return "";
+        }
+        return leadingWhitespace + commandWord + completedArguments;
+    }
+
+    /**
+     * Returns {@code arguments} with the argument being typed at its end completed, or an empty string if it cannot
+     * be completed.
+     */
+    private String completeArguments(String commandWord, String arguments) {
+        Prefix lastPrefix = null;
+        int valueStart = -1;
+        for (Prefix prefix : VALUE_PREFIXES) {
+            int prefixIndex = arguments.lastIndexOf(" " + prefix.getPrefix());
+            if (prefixIndex != -1 && prefixIndex + 1 + prefix.getPrefix().length() > valueStart) {
+                lastPrefix = prefix;
+                valueStart = prefixIndex + 1 + prefix.getPrefix().length();
+            }
+        }
+
+        if (lastPrefix != null) {
+            // A value may contain whitespace, so everything after its prefix is part of it
+            return completeValue(lastPrefix, arguments, valueStart);
+        }
+
+        int lastWordStart = lastIndexOfWhitespace(arguments) + 1;
+        String lastWord = arguments.substring(lastWordStart);
+        CompletionSet flagSet = commandFlags.get(commandWord);
+        if (flagSet == null || !lastWord.startsWith("-")) {
             return "";
         }
-        // Preserve the original whitespace in the input
-        return leadingWhitespace + matches.get(0);
+        String match = flagSet.complete(lastWord);
+        return match.isEmpty() ? "" : arguments.substring(0, lastWordStart) + match;
     }
 
+    private String completeValue(Prefix prefix, String arguments, int valueStart) {
+        String value = arguments.substring(valueStart);
+        if (value.isEmpty()) {
+            return "";
+        }
+
+        String completion;
+        if (prefix.equals(PREFIX_NAME)) {
+            completion = names.complete(value);
+        } else if (prefix.equals(PREFIX_TAG) || prefix.equals(PREFIX_REMOVE_TAG)) {
+            completion = tags.complete(value);
+        } else {
+            completion = "";
+        }
+        return completion.isEmpty() ? "" : arguments.substring(0, valueStart) + completion;
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // The same persons are still in the list
+                continue;
+            }
+            change.getRemoved().forEach(this::removePerson);
+            change.getAddedSubList().forEach(this::addPerson);
+        }
+    }
+
+    private void addPerson(Person person) {
+        names.add(person.getName().fullName);
+        for (Tag tag : person.getTags()) {
+            tags.add(tag.tagName);
+        }
+    }
+
+    private void removePerson(Person person) {
+        names.remove(person.getName().fullName);
+        for (Tag tag : person.getTags()) {
+            tags.remove(tag.tagName);
+        }
+    }
+
+    private static int indexOfWhitespace(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastIndexOfWhitespace(String text) {
+        for (int i = text.length() - 1; i >= 0; i--) {
+            if (Character.isWhitespace(text.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
 }
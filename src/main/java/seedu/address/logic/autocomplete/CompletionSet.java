@@ -0,0 +1,134 @@
+package seedu.address.logic.autocomplete;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.autocomplete.trie.Trie;
+
+/**
+ * A set of values to complete, matched against the typed text ignoring case.
+ * Each value is counted, so that a value added by several sources stays in the set until every source has removed
+ * it. Adding, removing and completing a value only walks the trie along the value, and never depends on the number
+ * of values in the set.
+ * <p>
+ * Values are ranked by how often and how recently they were used. Each use is worth twice as much as a use
+ * {@code halfLife} uses earlier, and the weight of a value is the sum of the worth of its uses. Weights are kept as
+ * base 2 logarithms, so that the worth of a use can keep growing without overflowing.
+ */
+class CompletionSet {
+    private static final double LN_2 = Math.log(2);
+
+    /**
+     * Number of forms not in the set whose uses are remembered. This covers the values of many recent commands, such
+     * as the names in the command history before the address book has loaded, without growing with every value
+     * ever typed or removed.
+     */
+    static final int MAX_ABSENT_KEYS = 4096;
+
+    /** Case-folded form of every value in the set, weighted by the uses of the values with that form. */
+    private final Trie keys = new Trie();
+    /** The values with each case-folded form, mapped to the number of times they were added. */
+    private final Map<String, TreeMap<String, Integer>> valuesByKey = new HashMap<>();
+    /** Weight of the uses of the most recently used or removed forms that are not in the set. */
+    private final Map<String, Double> weightsOfAbsentKeys = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Double> eldest) {
+            return size() > MAX_ABSENT_KEYS;
+        }
+    };
+    private final int halfLife;
+
+    /**
+     * Creates an empty {@code CompletionSet} in which the worth of a use doubles every {@code halfLife} uses.
+     */
+    CompletionSet(int halfLife) {
+        assert halfLife > 0 : "The half-life of a use should be positive";
+        this.halfLife = halfLife;
+    }
+
+    /**
+     * Adds one count of {@code value} to the set.
+     */
+    void add(String value) {
+        requireNonNull(value);
+        String key = toKey(value);
+        valuesByKey.computeIfAbsent(key, k -> {
+            Double weight = weightsOfAbsentKeys.remove(k);
+            keys.put(k, weight != null ? weight : Trie.NO_WEIGHT);
+            return new TreeMap<>();
+        }).merge(value, 1, Integer::sum);
+    }
+
+    /**
+     * Removes one count of {@code value} from the set, dropping the value once its count reaches zero.
+     * The value must have been added before. The uses of the value are remembered in case it is added again, as long
+     * as it is among the {@link #MAX_ABSENT_KEYS} most recently used or removed forms not in the set.
+     */
+    void remove(String value) {
+        requireNonNull(value);
+        String key = toKey(value);
+        TreeMap<String, Integer> values = valuesByKey.get(key);
+        assert values != null && values.containsKey(value) : "Only a value in the set can be removed";
+
+        values.computeIfPresent(value, (v, count) -> count == 1 ? null : count - 1);
+        if (values.isEmpty()) {
+            double weight = keys.getWeight(key);
+            if (weight != Trie.NO_WEIGHT) {
+                weightsOfAbsentKeys.put(key, weight);
+            }
+            valuesByKey.remove(key);
+            keys.remove(key);
+        }
+    }
+
+    /**
+     * Records a use of {@code value} as the {@code useNumber}-th use, counting from zero.
+     * The value does not have to be in the set, so that uses can be recorded before the value is added.
+     */
+    void recordUse(String value, long useNumber) {
+        requireNonNull(value);
+        String key = toKey(value);
+        double useWeight = (double) useNumber / halfLife;
+        if (valuesByKey.containsKey(key)) {
+            keys.put(key, logSum(keys.getWeight(key), useWeight));
+            return;
+        }
+        Double weight = weightsOfAbsentKeys.get(key);
+        weightsOfAbsentKeys.put(key, logSum(weight != null ? weight : Trie.NO_WEIGHT, useWeight));
+    }
+
+    /**
+     * Returns the value with the highest weight that starts with {@code prefix} ignoring case, or an empty string if
+     * there is none. Values with the same weight are ranked in lexicographic order ignoring case.
+     */
+    String complete(String prefix) {
+        requireNonNull(prefix);
+        List<String> matches = keys.topKeysWithPrefix(toKey(prefix), 1);
+        if (matches.isEmpty()) {
+            return "";
+        }
+        return valuesByKey.get(matches.get(0)).firstKey();
+    }
+
+    private static String toKey(String value) {
+        return StringUtil.toSearchKey(value);
+    }
+
+    /**
+     * Returns the base 2 logarithm of {@code 2^a + 2^b}.
+     */
+    private static double logSum(double a, double b) {
+        double max = Math.max(a, b);
+        double min = Math.min(a, b);
+        if (min == Trie.NO_WEIGHT) {
+            return max;
+        }
+        return max + Math.log1p(Math.pow(2, min - max)) / LN_2;
+    }
+}
@@ -1,22 +1,96 @@
 package seedu.address.logic.autocomplete.trie;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.PriorityQueue;
 
 /**
  * Trie data structure used chiefly for autocomplete feature.
- * This implementation is adapted from
- * (<a href="https://algs4.cs.princeton.edu/52trie/TrieST.java.html">Princeton's TrieST</a>)
- * It contains a subset of features with a 256-way trie for extended ASCII characters.
+ * This is a compressed (radix) trie: a chain of nodes with a single child is stored as one edge labelled with the
+ * whole substring, and each node only keeps the children it has, sorted by the first character of their label.
+ * Memory therefore grows with the number and length of the keys rather than with the size of the alphabet, and any
+ * Unicode character can be used in a key.
+ * Keys are returned in lexicographic order, or ranked by their weight with {@link #topKeysWithPrefix(String, int)}.
+ * Every node also keeps the highest weight of the keys below it, so the highest ranked keys can be found by walking
+ * towards them without visiting the other keys.
  */
 public class Trie {
-    private static final int R = 256; // Use extended ASCII set
+    /** Weight of a key that was put without a weight. */
+    public static final double NO_WEIGHT = Double.NEGATIVE_INFINITY;
 
-    private Node root;
+    private final Node root = new Node("");
+    private int size;
 
+    /**
+     * A node of the trie, reached from its parent by the edge labelled {@code label}.
+     */
     private static class Node {
-        private boolean isWord = false;
-        private Node[] next = new Node[R];
+        private static final char[] NO_CHILD_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private String label;
+        private boolean isKey;
+        private double weight = NO_WEIGHT;
+        /** Highest weight of the keys in the subtree rooted at this node. */
+        private double maxWeight = NO_WEIGHT;
+        /** First character of the label of each child, sorted, matching {@code children} by position. */
+        private char[] childKeys = NO_CHILD_KEYS;
+        private Node[] children = NO_CHILDREN;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node getChild(char firstChar) {
+            int position = Arrays.binarySearch(childKeys, firstChar);
+            return position >= 0 ? children[position] : null;
+        }
+
+        /**
+         * Adds {@code child}, or replaces the child whose label starts with the same character.
+         */
+        void putChild(Node child) {
+            char firstChar = child.label.charAt(0);
+            int position = Arrays.binarySearch(childKeys, firstChar);
+            if (position >= 0) {
+                children[position] = child;
+                return;
+            }
+            int insertAt = -position - 1;
+            char[] newChildKeys = new char[childKeys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(childKeys, 0, newChildKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newChildKeys[insertAt] = firstChar;
+            newChildren[insertAt] = child;
+            System.arraycopy(childKeys, insertAt, newChildKeys, insertAt + 1, childKeys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            childKeys = newChildKeys;
+            children = newChildren;
+        }
+
+        void removeChild(char firstChar) {
+            int position = Arrays.binarySearch(childKeys, firstChar);
+            assert position >= 0 : "Only an existing child can be removed";
+            char[] newChildKeys = new char[childKeys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(childKeys, 0, newChildKeys, 0, position);
+            System.arraycopy(children, 0, newChildren, 0, position);
+            System.arraycopy(childKeys, position + 1, newChildKeys, position, childKeys.length - position - 1);
+            System.arraycopy(children, position + 1, newChildren, position, children.length - position - 1);
+            childKeys = newChildKeys;
+            children = newChildren;
+        }
+
+        void updateMaxWeight() {
+            double max = isKey ? weight : NO_WEIGHT;
+            for (Node child : children) {
+                max = Math.max(max, child.maxWeight);
+            }
+            maxWeight = max;
+        }
     }
 
     /**
@@ -26,8 +100,16 @@ public class Trie {
 
     }
 
+    /**
+     * Returns the number of keys in the trie.
+     */
+    public int size() {
+        return size;
+    }
+
     /**
      * Inserts the key into the trie.
+     * A new key has no weight, and a key already in the trie keeps its weight.
      * @param key the key to insert
      * @throws IllegalArgumentException if key is null
      */
@@ -35,60 +117,333 @@ public class Trie {
         if (key == null) {
             throw new IllegalArgumentException("Key cannot be null");
         }
-        root = put(root, key, 0);
+        insert(key);
+        updateMaxWeights(key);
+    }
+
+    /**
+     * Inserts the key into the trie with the given weight, or sets the weight of the key if it is already in the trie.
+     * Keys with a higher weight are ranked first by {@link #topKeysWithPrefix(String, int)}.
+     * @param key the key to insert
+     * @param weight the weight of the key
+     * @throws IllegalArgumentException if key is null or weight is NaN
+     */
+    public void put(String key, double weight) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        if (Double.isNaN(weight)) {
+            throw new IllegalArgumentException("Weight cannot be NaN");
+        }
+        insert(key).weight = weight;
+        updateMaxWeights(key);
+    }
+
+    /**
+     * Returns the weight of the key, or {@link #NO_WEIGHT} if the key is not in the trie or was put without a weight.
+     * @throws IllegalArgumentException if key is null
+     */
+    public double getWeight(String key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        Node node = find(key);
+        return node == null || !node.isKey ? NO_WEIGHT : node.weight;
+    }
+
+    /**
+     * Inserts the key without updating the highest weights along its path, and returns the node of the key.
+     */
+    private Node insert(String key) {
+        Node node = root;
+        int depth = 0;
+        while (depth < key.length()) {
+            Node child = node.getChild(key.charAt(depth));
+            if (child == null) {
+                Node keyNode = newKeyNode(key.substring(depth));
+                node.putChild(keyNode);
+                size++;
+                return keyNode;
+            }
+
+            int common = commonPrefixLength(child.label, key, depth);
+            if (common < child.label.length()) {
+                // The key leaves the edge part-way, so the edge is split where they differ
+                Node split = new Node(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                split.putChild(child);
+                node.putChild(split);
+                Node keyNode = split;
+                if (depth + common == key.length()) {
+                    split.isKey = true;
+                } else {
+                    keyNode = newKeyNode(key.substring(depth + common));
+                    split.putChild(keyNode);
+                }
+                size++;
+                return keyNode;
+            }
+            node = child;
+            depth += common;
+        }
+
+        if (!node.isKey) {
+            node.isKey = true;
+            size++;
+        }
+        return node;
+    }
+
+    /**
+     * Recomputes the highest weight below each node on the path to {@code key}, from the deepest node up.
+     */
+    private void updateMaxWeights(String key) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        int depth = 0;
+        path.add(node);
+        while (depth < key.length()) {
+            node = node.getChild(key.charAt(depth));
+            if (node == null || !key.startsWith(node.label, depth)) {
+                break;
+            }
+            path.add(node);
+            depth += node.label.length();
+        }
+        for (int i = path.size() - 1; i >= 0; i--) {
+            path.get(i).updateMaxWeight();
+        }
+    }
+
+    /**
+     * Removes the key from the trie, if present.
+     * @param key the key to remove
+     * @return true if the key was in the trie
+     * @throws IllegalArgumentException if key is null
+     */
+    public boolean remove(String key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
+        }
+        boolean isRemoved = remove(root, key, 0);
+        if (isRemoved) {
+            size--;
+        }
+        return isRemoved;
     }
 
-    private Node put(Node x, String key, int d) {
-        if (x == null) {
-            x = new Node();
+    private boolean remove(Node node, String key, int depth) {
+        if (depth == key.length()) {
+            boolean wasKey = node.isKey;
+            node.isKey = false;
+            node.weight = NO_WEIGHT;
+            node.updateMaxWeight();
+            return wasKey;
         }
-        if (d == key.length()) {
-            x.isWord = true;
-            return x;
+
+        Node child = node.getChild(key.charAt(depth));
+        if (child == null || !key.startsWith(child.label, depth)
+                || !remove(child, key, depth + child.label.length())) {
+            return false;
         }
-        char c = key.charAt(d);
-        x.next[c] = put(x.next[c], key, d + 1);
-        return x;
+
+        // Keep the trie compressed: drop nodes that lead nowhere and merge nodes that only pass through
+        if (!child.isKey && child.children.length == 0) {
+            node.removeChild(child.label.charAt(0));
+        } else if (!child.isKey && child.children.length == 1) {
+            Node grandchild = child.children[0];
+            grandchild.label = child.label + grandchild.label;
+            node.putChild(grandchild);
+        }
+        node.updateMaxWeight();
+        return true;
     }
 
-    private Node get(Node x, String key, int d) {
-        if (x == null) {
-            return null;
+    /**
+     * Returns true if the trie contains the key.
+     * @throws IllegalArgumentException if key is null
+     */
+    public boolean contains(String key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key cannot be null");
         }
-        if (d == key.length()) {
-            return x;
+        Node node = find(key);
+        return node != null && node.isKey;
+    }
+
+    /**
+     * Returns the node reached by following {@code key} exactly, or null if there is none.
+     */
+    private Node find(String key) {
+        Node node = root;
+        int depth = 0;
+        while (depth < key.length()) {
+            node = node.getChild(key.charAt(depth));
+            if (node == null || !key.startsWith(node.label, depth)) {
+                return null;
+            }
+            depth += node.label.length();
         }
-        char c = key.charAt(d);
-        return get(x.next[c], key, d + 1);
+        return node;
     }
 
     /**
      * Returns all keys in the trie that start with the given prefix.
      * @param prefix the prefix to search for
-     * @return a list of keys that start with the given prefix
+     * @return a list of keys that start with the given prefix, in lexicographic order
      * @throws IllegalArgumentException if prefix is null
      */
     public List<String> keysWithPrefix(String prefix) {
+        return keysWithPrefix(prefix, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the first {@code limit} keys, in lexicographic order, that start with the given prefix.
+     * The search stops as soon as {@code limit} keys are found.
+     * @param prefix the prefix to search for
+     * @param limit the maximum number of keys to return
+     * @return a list of at most {@code limit} keys that start with the given prefix, in lexicographic order
+     * @throws IllegalArgumentException if prefix is null or limit is negative
+     */
+    public List<String> keysWithPrefix(String prefix, int limit) {
         if (prefix == null) {
             throw new IllegalArgumentException("Prefix cannot be null");
         }
-        List<String> results = new LinkedList<>();
-        Node x = get(root, prefix, 0);
-        collect(x, new StringBuilder(prefix), results);
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+
+        List<String> results = new ArrayList<>();
+        StringBuilder path = new StringBuilder();
+        Node node = findPrefixNode(prefix, path);
+        if (node != null) {
+            collect(node, path, results, limit);
+        }
         return results;
     }
 
-    private void collect(Node x, StringBuilder prefix, List<String> results) {
-        if (x == null) {
+    /**
+     * Returns the {@code k} keys with the highest weight that start with the given prefix, highest weight first.
+     * Keys with the same weight are returned in lexicographic order.
+     * The trie is walked best first, guided by the highest weight below each node, so only the nodes on the way to
+     * the returned keys and their siblings are visited, however many keys start with the prefix.
+     * @param prefix the prefix to search for
+     * @param k the maximum number of keys to return
+     * @return a list of at most {@code k} keys that start with the given prefix, ranked by weight
+     * @throws IllegalArgumentException if prefix is null or k is negative
+     */
+    public List<String> topKeysWithPrefix(String prefix, int k) {
+        if (prefix == null) {
+            throw new IllegalArgumentException("Prefix cannot be null");
+        }
+        if (k < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+
+        List<String> results = new ArrayList<>();
+        StringBuilder prefixPath = new StringBuilder();
+        Node prefixNode = findPrefixNode(prefix, prefixPath);
+        if (prefixNode == null || k == 0) {
+            return results;
+        }
+
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(Candidate.RANKING);
+        candidates.add(new Candidate(prefixNode, prefixPath.toString(), prefixNode.maxWeight, false));
+        while (!candidates.isEmpty() && results.size() < k) {
+            Candidate candidate = candidates.poll();
+            if (candidate.isKey) {
+                results.add(candidate.path);
+                continue;
+            }
+            Node node = candidate.node;
+            if (node.isKey) {
+                candidates.add(new Candidate(node, candidate.path, node.weight, true));
+            }
+            for (Node child : node.children) {
+                candidates.add(new Candidate(child, candidate.path + child.label, child.maxWeight, false));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Returns the node below which all keys start with {@code prefix}, appending the path to it to {@code path}, or
+     * null if no key starts with {@code prefix}.
+     */
+    private Node findPrefixNode(String prefix, StringBuilder path) {
+        Node node = root;
+        int depth = 0;
+        while (depth < prefix.length()) {
+            node = node.getChild(prefix.charAt(depth));
+            if (node == null) {
+                return null;
+            }
+            int common = commonPrefixLength(node.label, prefix, depth);
+            if (depth + common < prefix.length() && common < node.label.length()) {
+                return null;
+            }
+            path.append(node.label);
+            depth += node.label.length();
+        }
+        return node;
+    }
+
+    private void collect(Node node, StringBuilder path, List<String> results, int limit) {
+        if (results.size() >= limit) {
             return;
         }
-        if (x.isWord) {
-            results.add(prefix.toString());
+        if (node.isKey) {
+            results.add(path.toString());
+        }
+        for (Node child : node.children) {
+            if (results.size() >= limit) {
+                return;
+            }
+            path.append(child.label);
+            collect(child, path, results, limit);
+            path.setLength(path.length() - child.label.length());
         }
-        for (char c = 0; c < R; c++) {
-            prefix.append(c);
-            collect(x.next[c], prefix, results);
-            prefix.deleteCharAt(prefix.length() - 1);
+    }
+
+    /**
+     * A key, or a subtree of keys, waiting to be visited by {@link #topKeysWithPrefix(String, int)}.
+     * A subtree is ranked by the highest weight of the keys in it and by its path, which comes before the paths of
+     * those keys in lexicographic order, so a subtree is always visited before any of its keys would be returned.
+     */
+    private static class Candidate {
+        static final Comparator<Candidate> RANKING = Comparator.<Candidate>comparingDouble(c -> c.weight).reversed()
+                .thenComparing(c -> c.path)
+                .thenComparing(c -> !c.isKey);
+
+        private final Node node;
+        private final String path;
+        private final double weight;
+        private final boolean isKey;
+
+        Candidate(Node node, String path, double weight, boolean isKey) {
+            this.node = node;
+            this.path = path;
+            this.weight = weight;
+            this.isKey = isKey;
+        }
+    }
+
+    private static Node newKeyNode(String label) {
+        Node node = new Node(label);
+        node.isKey = true;
+        return node;
+    }
+
+    /**
+     * Returns the length of the longest common prefix of {@code label} and the part of {@code key} from
+     * {@code from}.
+     */
+    private static int commonPrefixLength(String label, String key, int from) {
+        int maxLength = Math.min(label.length(), key.length() - from);
+        int length = 0;
+        while (length < maxLength && label.charAt(length) == key.charAt(from + length)) {
+            length++;
         }
+        return length;
     }
 }
@@ -13,7 +13,7 @@ public class ClearCommand extends Command {
     public static final String COMMAND_WORD = "clear";
     public static final String MESSAGE_SUCCESS = "Address book has been cleared!";
     public static final String MESSAGE_CLEAR_CONFIRM = "Are you sure you want to clear the address book?"
-            + " This action cannot be undone.";
+            + " This action can only be reverted with undo before the program is closed.";
 
 
     @Override
@@ -40,7 +40,7 @@ public class ClearCommand extends Command {
                 "Usage: clear\n\n"
                         + "Removes all contacts from the address book.\n\n"
                         + "Notes:\n"
-                        + "  - This action cannot be undone\n"
+                        + "  - This action can be reverted with undo until the program is closed\n"
                         + "  - All contact data will be permanently deleted\n"
                         + "  - The program will prompt for confirmation before the clear is finalized"
         );
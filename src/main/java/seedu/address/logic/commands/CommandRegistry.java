@@ -45,7 +45,9 @@ public class CommandRegistry {
             "LaunchCommand",
             "PinCommand",
             "UnpinCommand",
-            "TagCommand"
+            "TagCommand",
+            "UndoCommand",
+            "RedoCommand"
     );
 
     /**
@@ -159,6 +161,8 @@ public class CommandRegistry {
         commandFactoryMap.put(PinCommand.COMMAND_WORD, (args) -> new PinCommandParser().parse(args));
         commandFactoryMap.put(UnpinCommand.COMMAND_WORD, (args) -> new UnpinCommandParser().parse(args));
         commandFactoryMap.put(TagCommand.COMMAND_WORD, (args) -> new TagCommandParser().parse(args));
+        commandFactoryMap.put(UndoCommand.COMMAND_WORD, (args) -> new UndoCommand());
+        commandFactoryMap.put(RedoCommand.COMMAND_WORD, (args) -> new RedoCommand());
 
         logger.info("Command registry initialized with " + commands.size() + " commands");
     }
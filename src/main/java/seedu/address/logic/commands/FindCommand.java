@@ -4,12 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
-import java.util.function.Predicate;
-
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
-import seedu.address.model.person.Person;
+import seedu.address.model.search.IndexedSearchPredicate;
 
 /**
  * Finds and lists all persons in address book whose name or tag contains any of the argument keywords.
@@ -34,7 +32,7 @@ public class FindCommand extends Command {
     public static final String MESSAGE_MULTIPLE_PREFIXES_NOT_ALLOWED =
             "WARNING: Both prefixes provided. Only the first prefix is used.\n";
 
-    private final Predicate<Person> predicate;
+    private final IndexedSearchPredicate predicate;
     private final boolean showWarning;
 
     /**
@@ -43,7 +41,7 @@ public class FindCommand extends Command {
      * @param predicate A condition to check which person to find
      * @param showWarning whether to show warning if no person match
      */
-    public FindCommand(Predicate<Person> predicate, Boolean showWarning) {
+    public FindCommand(IndexedSearchPredicate predicate, Boolean showWarning) {
         requireNonNull(predicate);
         requireNonNull(showWarning);
         this.predicate = predicate;
@@ -56,7 +54,9 @@ public class FindCommand extends Command {
 
         assert predicate != null : "Predicate must not be null before filtering.";
 
+        // The model resolves the keywords through its search index, so only the matches are placed in the list
         model.updateFilteredPersonList(predicate);
+
         String combinedMessage = showWarning
                 ? MESSAGE_MULTIPLE_PREFIXES_NOT_ALLOWED + Messages.MESSAGE_PERSONS_LISTED_OVERVIEW
                 : Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
@@ -6,8 +6,12 @@ import static seedu.address.logic.parser.CliSyntax.FLAG_RENAME_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RENAMED_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TARGET_TAG;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -113,22 +117,20 @@ public class TagCommand extends Command {
 
         Tag targetTag = targetTags.iterator().next();
         Tag renamedTag = renamedTags.iterator().next();
-        int updatedCount = 0;
+        Map<Person, Person> replacements = new LinkedHashMap<>();
 
-        for (Person personToEdit : lastShownList) {
-            // Skip people who don't have the target tag
-            if (!personToEdit.getTags().contains(targetTag)) {
-                continue;
-            }
-            Person updatedPerson = createPerson(personToEdit);
-            model.setPerson(personToEdit, updatedPerson);
-            updatedCount++;
+        for (Person personToEdit : findShownPersonsWithTag(model, lastShownList, targetTag)) {
+            replacements.put(personToEdit, createPerson(personToEdit));
         }
 
+        int updatedCount = replacements.size();
         if (updatedCount == 0) {
             throw new CommandException(String.format(MESSAGE_TAG_FAILURE, targetTags));
         }
 
+        // Applied after the scan, as a single change, so the shown list is not modified while iterating over it
+        model.replacePersons(replacements);
+
         return new CommandResult(String.format(MESSAGE_RENAMED_SUCCESS, targetTag, renamedTag, updatedCount));
     }
 
@@ -146,15 +148,42 @@ public class TagCommand extends Command {
 
         Set<Tag> deletedTags = new HashSet<>();
         Set<Tag> notFoundTags = new HashSet<>();
+        Map<Person, Person> replacements = new LinkedHashMap<>();
 
         for (Tag tagToDelete : targetTags) {
-            boolean isTagFoundAndDeleted = processTagForDeletion(model, lastShownList, tagToDelete);
-            updateTagResultSets(deletedTags, notFoundTags, tagToDelete, isTagFoundAndDeleted);
+            Collection<Person> personsWithTag = findShownPersonsWithTag(model, lastShownList, tagToDelete);
+            for (Person personWithTag : personsWithTag) {
+                // Every target tag is removed from each person at once, so each person is rebuilt only once
+                replacements.computeIfAbsent(personWithTag, this::removeTargetTagsFromPerson);
+            }
+            updateTagResultSets(deletedTags, notFoundTags, tagToDelete, !personsWithTag.isEmpty());
         }
 
+        model.replacePersons(replacements);
         return buildResult(deletedTags, notFoundTags);
     }
 
+    /**
+     * Returns the persons in {@code lastShownList} with {@code tag}.
+     * The persons with the tag are looked up in the search index of {@code model}, so no person without the tag is
+     * looked at unless only some of the persons are shown.
+     */
+    private static Collection<Person> findShownPersonsWithTag(Model model, List<Person> lastShownList, Tag tag) {
+        Set<Person> personsWithTag = model.getSearchIndex().findByTag(tag);
+        // The shown list only ever leaves persons out, so it shows everyone if it is as long as the address book
+        if (personsWithTag.isEmpty() || lastShownList.size() == model.getAddressBook().getPersonList().size()) {
+            return personsWithTag;
+        }
+
+        List<Person> shownPersonsWithTag = new ArrayList<>();
+        for (Person person : lastShownList) {
+            if (personsWithTag.contains(person)) {
+                shownPersonsWithTag.add(person);
+            }
+        }
+        return shownPersonsWithTag;
+    }
+
     private Person createPerson(Person personToEdit) {
         Set<Tag> updatedTagSet = getUpdatedTagSet(personToEdit);
 
@@ -183,42 +212,14 @@ public class TagCommand extends Command {
     }
 
     /**
-     * Processes a single tag for deletion across all persons in the list.
-     *
-     * @param model The model to update.
-     * @param lastShownList The list of persons to process.
-     * @param tagToDelete The tag to be deleted.
-     * @return true if the tag was found and deleted from at least one person, false otherwise.
-     */
-    private boolean processTagForDeletion(Model model, List<Person> lastShownList, Tag tagToDelete) {
-        boolean isTagFoundAndDeleted = false;
-
-        for (Person personToEdit : lastShownList) {
-            Person personWithTagRemoved = removeTagFromPerson(personToEdit, tagToDelete);
-
-            if (!personWithTagRemoved.equals(personToEdit)) {
-                model.setPerson(personToEdit, personWithTagRemoved);
-                isTagFoundAndDeleted = true;
-            }
-        }
-        return isTagFoundAndDeleted;
-    }
-
-    /**
-     * Removes a {@code Tag} from the {@code Person} if found.
+     * Removes every target {@code Tag} that the {@code Person} has.
      *
      * @param personToEdit The Person to be updated.
-     * @param tagToDelete The tag to remove from the Person tag list.
-     * @return The Person with tag removed if tag found, personToEdit otherwise.
+     * @return The Person with the target tags removed.
      */
-    private Person removeTagFromPerson(Person personToEdit, Tag tagToDelete) {
+    private Person removeTargetTagsFromPerson(Person personToEdit) {
         Set<Tag> tags = new HashSet<>(personToEdit.getTags());
-
-        boolean isTagFound = tags.remove(tagToDelete);
-
-        if (!isTagFound) {
-            return personToEdit;
-        }
+        tags.removeAll(targetTags);
 
         return new Person(
                 personToEdit.getName(),
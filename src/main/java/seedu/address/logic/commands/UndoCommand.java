@@ -0,0 +1,59 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Reverts the address book to the state before the previous command that changed it.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_SUCCESS = "Undo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to undo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canUndoAddressBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.undoAddressBook();
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+
+    /**
+     * @inheritDoc
+     * @return <code>true</code> as UndoCommand modifies the address book
+     */
+    @Override
+    public boolean requiresWrite() {
+        return true;
+    }
+
+    /**
+     * Registers the undo command with the command registry, providing detailed help information
+     * including usage syntax, parameters, and examples for user reference.
+     * This method is called during application initialization to make the command
+     * available in the help system.
+     */
+    public static void registerHelp() {
+        CommandRegistry.register(
+                COMMAND_WORD,
+                "Reverts the last command that changed the address book",
+                "Example: undo",
+                "Usage: undo\n\n"
+                        + "Reverts the address book to the state before the last command that changed it.\n\n"
+                        + "Notes:\n"
+                        + "  - Can be repeated to undo earlier commands, up to the undo history depth in preferences\n"
+                        + "  - The undo history is not kept after the program is closed"
+        );
+    }
+}
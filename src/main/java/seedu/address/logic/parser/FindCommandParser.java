@@ -6,14 +6,13 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.Arrays;
-import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
-import seedu.address.model.person.Person;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.search.IndexedSearchPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -42,7 +41,7 @@ public class FindCommandParser implements Parser<FindCommand> {
         String[] keywords = extractKeywords(argMultimap, activePrefix, args);
 
         // Create the appropriate predicate (name-based or tag-based)
-        Predicate<Person> predicate = buildPredicate(activePrefix, keywords);
+        IndexedSearchPredicate predicate = buildPredicate(activePrefix, keywords);
 
         assert predicate != null : "Predicate should not be null after parsing.";
 
@@ -111,7 +110,7 @@ public class FindCommandParser implements Parser<FindCommand> {
      * Builds the correct predicate depending on the prefix.
      */
     // Package private for testing
-    Predicate<Person> buildPredicate(Prefix prefix, String[] keywords) {
+    IndexedSearchPredicate buildPredicate(Prefix prefix, String[] keywords) {
         if (prefix.equals(PREFIX_NAME)) {
             return new NameContainsKeywordsPredicate(Arrays.asList(keywords));
         } else if (prefix.equals(PREFIX_TAG)) {
@@ -3,8 +3,10 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
@@ -57,6 +59,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         setPersons(newData.getPersonList());
     }
 
+    /**
+     * Returns an immutable snapshot of the persons in the address book, in constant time.
+     * Later changes to the address book do not affect the snapshot.
+     */
+    @Override
+    public PersistentList<Person> getSnapshot() {
+        return persons.getSnapshot();
+    }
+
+    /**
+     * Replaces the contents of the person list with the persons in {@code snapshot}.
+     */
+    public void restoreSnapshot(PersistentList<Person> snapshot) {
+        persons.restoreSnapshot(snapshot);
+    }
+
     //// person-level operations
 
     /**
@@ -67,6 +85,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the insertion sequence number of {@code person}, which orders persons in the order they were added.
+     * Returns -1 if the person does not exist in the address book.
+     *
+     * @see UniquePersonList#getInsertionSequence(Person)
+     */
+    public long getInsertionSequence(Person person) {
+        return persons.getInsertionSequence(person);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
@@ -75,6 +103,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds all of {@code persons} to the address book, in order.
+     * None of the persons may already exist in the address book, and {@code persons} must not contain duplicates.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -86,6 +122,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.setPerson(target, editedPerson);
     }
 
+    /**
+     * Replaces each person in the keys of {@code replacements} with the person it maps to, as a single change.
+     * Every key must exist in the address book.
+     * The edited persons must not share an identity with each other or with another existing person in the address
+     * book.
+     */
+    public void replacePersons(Map<Person, Person> replacements) {
+        persons.replacePersons(replacements);
+    }
+
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
@@ -0,0 +1,105 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents the undo and redo history of the address book.
+ * Each state is a snapshot of the persons in the address book. Snapshots share structure with each other, so keeping
+ * a state only costs the memory of what changed since the previous state, and moving between states takes constant
+ * time. At most {@code maxDepth} states are kept for undoing; the oldest state is dropped when the limit is exceeded.
+ */
+public class AddressBookHistory {
+    private final Deque<PersistentList<Person>> undoStates = new ArrayDeque<>();
+    private final Deque<PersistentList<Person>> redoStates = new ArrayDeque<>();
+    private PersistentList<Person> currentState;
+    private int maxDepth;
+
+    /**
+     * Creates an {@code AddressBookHistory} that starts at {@code initialState} and keeps at most {@code maxDepth}
+     * states for undoing.
+     */
+    public AddressBookHistory(PersistentList<Person> initialState, int maxDepth) {
+        requireNonNull(initialState);
+        assert maxDepth >= 0 : "The history depth should not be negative";
+        this.currentState = initialState;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Records {@code state} as the current state, which can be returned to the previous state with {@link #undo()}.
+     * Discards the states that could be redone.
+     * Does nothing if {@code state} is the current state, so that commands that did not change the address book are
+     * not recorded.
+     */
+    public void commit(PersistentList<Person> state) {
+        requireNonNull(state);
+        if (state == currentState) {
+            return;
+        }
+        undoStates.push(currentState);
+        trimToMaxDepth();
+        redoStates.clear();
+        currentState = state;
+    }
+
+    public boolean canUndo() {
+        return !undoStates.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoStates.isEmpty();
+    }
+
+    /**
+     * Moves back to the previous state and returns it.
+     * There must be a state to undo to.
+     */
+    public PersistentList<Person> undo() {
+        assert canUndo() : "There should be a state to undo to";
+        redoStates.push(currentState);
+        currentState = undoStates.pop();
+        return currentState;
+    }
+
+    /**
+     * Moves forward to the state that was last undone and returns it.
+     * There must be a state to redo to.
+     */
+    public PersistentList<Person> redo() {
+        assert canRedo() : "There should be a state to redo to";
+        undoStates.push(currentState);
+        currentState = redoStates.pop();
+        return currentState;
+    }
+
+    /**
+     * Discards all recorded states and starts the history again at {@code state}.
+     */
+    public void reset(PersistentList<Person> state) {
+        requireNonNull(state);
+        undoStates.clear();
+        redoStates.clear();
+        currentState = state;
+    }
+
+    /**
+     * Sets the number of states kept for undoing, dropping the oldest states if there are more.
+     */
+    public void setMaxDepth(int maxDepth) {
+        assert maxDepth >= 0 : "The history depth should not be negative";
+        this.maxDepth = maxDepth;
+        trimToMaxDepth();
+    }
+
+    private void trimToMaxDepth() {
+        while (undoStates.size() > maxDepth) {
+            undoStates.removeLast();
+        }
+    }
+}
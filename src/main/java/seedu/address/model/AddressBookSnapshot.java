@@ -0,0 +1,68 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * An unmodifiable address book holding the persons of a snapshot taken with {@link ReadOnlyAddressBook#getSnapshot()}.
+ * The persons are only copied into an observable list when {@link #getPersonList()} is first called, so that taking
+ * the snapshot costs constant time, and the copy is made by whoever reads the persons.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final PersistentList<Person> snapshot;
+    private ObservableList<Person> personList;
+
+    /**
+     * Creates an {@code AddressBookSnapshot} of the persons in {@code snapshot}.
+     */
+    public AddressBookSnapshot(PersistentList<Person> snapshot) {
+        requireNonNull(snapshot);
+        this.snapshot = snapshot;
+    }
+
+    @Override
+    public synchronized ObservableList<Person> getPersonList() {
+        if (personList == null) {
+            personList = FXCollections.unmodifiableObservableList(FXCollections.observableList(snapshot.toList()));
+        }
+        return personList;
+    }
+
+    @Override
+    public PersistentList<Person> getSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return snapshot.equals(otherSnapshot.snapshot);
+    }
+
+    @Override
+    public int hashCode() {
+        return snapshot.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", snapshot)
+                .toString();
+    }
+}
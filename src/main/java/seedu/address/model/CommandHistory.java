@@ -1,14 +1,33 @@
 package seedu.address.model;
 
-import java.util.LinkedList;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * Represents the user's command history.
+ * The commands are kept in a ring buffer of fixed capacity, so adding a command and looking up a command at any
+ * position take constant time, and the oldest command is overwritten once the history is full.
+ * The commands are also indexed by their substrings, so that the commands containing a text can be found quickly.
+ * The history is safe to use from several threads, so that commands can be added on the thread that executes them
+ * while the UI reads the history on its own thread.
  */
 public class CommandHistory implements ReadOnlyCommandHistory {
-    private static final int HISTORY_CAPACITY = 15;
-    private final LinkedList<String> commandHistory;
+    public static final int DEFAULT_CAPACITY = 5000;
+
+    public static final String MESSAGE_INVALID_CAPACITY = "Command history capacity should be positive";
+
+    /** Commands in the order they were added, wrapping around to the start of the array once the end is reached. */
+    private final String[] commands;
+    /** Position in {@code commands} of the most recent command. */
+    private int newestPosition = -1;
+    private int size;
+    /** Number of commands added since the history was created or cleared, used to number the commands. */
+    private int addedCount;
+    private final CommandHistorySearchIndex searchIndex;
     /**
      * Represents the index of the history tree. -1 represents the input that the user is currently typing in the
      * command box, any value above that is the index of the command history list.
@@ -18,18 +37,37 @@ public class CommandHistory implements ReadOnlyCommandHistory {
 
 
     /**
-     * Creates a {@code CommandHistoryManager} with default capacity of 15 commands.
+     * Creates a {@code CommandHistoryManager} with default capacity of {@value #DEFAULT_CAPACITY} commands.
      */
     public CommandHistory() {
-        this.commandHistory = new LinkedList<>();
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty {@code CommandHistory} that keeps the {@code capacity} most recent commands.
+     */
+    public CommandHistory(int capacity) {
+        checkArgument(capacity > 0, MESSAGE_INVALID_CAPACITY);
+        this.commands = new String[capacity];
+        this.searchIndex = new CommandHistorySearchIndex(capacity);
     }
 
     /**
-     * Creates a CommandHistory object with the data in {@code commandHistory}.
+     * Creates a CommandHistory object with the data and the capacity of {@code commandHistory}.
      */
     public CommandHistory(ReadOnlyCommandHistory commandHistory) {
-        this.commandHistory = new LinkedList<>();
-        this.commandHistory.addAll(commandHistory.getHistory());
+        this(commandHistory, commandHistory.getCapacity());
+    }
+
+    /**
+     * Creates a CommandHistory object that keeps the {@code capacity} most recent commands, with the most recent
+     * commands in {@code commandHistory}.
+     */
+    public CommandHistory(ReadOnlyCommandHistory commandHistory, int capacity) {
+        this(capacity);
+        for (int i = Math.min(commandHistory.size(), capacity) - 1; i >= 0; i--) {
+            addCommandToHistory(commandHistory.getCommand(i));
+        }
     }
 
     /**
@@ -37,14 +75,15 @@ public class CommandHistory implements ReadOnlyCommandHistory {
      *
      * @param command The command to be added.
      */
-    public void addCommandToHistory(String command) {
+    public synchronized void addCommandToHistory(String command) {
         assert !command.isBlank() : "A valid command should not be blank!";
 
-        this.commandHistory.addFirst(command);
+        newestPosition = (newestPosition + 1) % commands.length;
+        commands[newestPosition] = command;
+        size = Math.min(size + 1, commands.length);
+        addedCount++;
+        searchIndex.add(command, addedCount - 1, addedCount - size);
         this.indexInHistory = -1;
-        if (commandHistory.size() > HISTORY_CAPACITY) {
-            commandHistory.removeLast();
-        }
     }
 
     /**
@@ -53,19 +92,19 @@ public class CommandHistory implements ReadOnlyCommandHistory {
      * @return The next command, or an empty string if at the end of history.
      */
     @Override
-    public String getNextCommandFromHistory() {
-        if (commandHistory.isEmpty()) {
+    public synchronized String getNextCommandFromHistory() {
+        if (size == 0) {
             return null;
         }
 
         indexInHistory = Math.max(indexInHistory - 1, -1);
 
-        assert indexInHistory < commandHistory.size() : "Next index can't be larger than list size!";
+        assert indexInHistory < size : "Next index can't be larger than list size!";
 
         if (indexInHistory == -1) {
             return currentCommand;
         } else {
-            return commandHistory.get(indexInHistory);
+            return getCommand(indexInHistory);
         }
     }
 
@@ -75,8 +114,8 @@ public class CommandHistory implements ReadOnlyCommandHistory {
      * @return The previous command, or an empty string if no recorded history.
      */
     @Override
-    public String getPreviousCommandFromHistory(String currentCommand) {
-        if (commandHistory.isEmpty()) {
+    public synchronized String getPreviousCommandFromHistory(String currentCommand) {
+        if (size == 0) {
             return null;
         }
 
@@ -84,25 +123,75 @@ public class CommandHistory implements ReadOnlyCommandHistory {
             this.currentCommand = currentCommand;
         }
 
-        indexInHistory = Math.min(indexInHistory + 1, commandHistory.size() - 1);
+        indexInHistory = Math.min(indexInHistory + 1, size - 1);
 
         assert indexInHistory >= -1 : "Previous index cannot be less than -1!";
 
 
-        return commandHistory.get(indexInHistory);
+        return getCommand(indexInHistory);
+    }
+
+    @Override
+    public synchronized int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized String getCommand(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return commands[Math.floorMod(newestPosition - index, commands.length)];
+    }
+
+    @Override
+    public synchronized int findCommandContaining(String text, int fromIndex) {
+        requireNonNull(text);
+        if (text.isEmpty() || fromIndex < 0 || fromIndex >= size) {
+            return -1;
+        }
+
+        String key = CommandHistorySearchIndex.toKey(text);
+        if (key.length() < CommandHistorySearchIndex.GRAM_LENGTH) {
+            // Too short to be looked up in the index, but also likely to be found among the first commands checked
+            for (int i = fromIndex; i < size; i++) {
+                if (CommandHistorySearchIndex.toKey(getCommand(i)).contains(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int newestSequence = addedCount - 1;
+        int sequence = searchIndex.findLatest(text, newestSequence - fromIndex, addedCount - size, candidate ->
+                CommandHistorySearchIndex.toKey(getCommand(newestSequence - candidate)).contains(key));
+        return sequence == -1 ? -1 : newestSequence - sequence;
+    }
+
+    @Override
+    public synchronized List<String> getHistory() {
+        List<String> history = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            history.add(getCommand(i));
+        }
+        return List.copyOf(history);
     }
 
     @Override
-    public List<String> getHistory() {
-        return List.copyOf(this.commandHistory);
+    public int getCapacity() {
+        return commands.length;
     }
 
     /**
      * Resets the CommandHistory state,
      * clearing all saved histories and current navigation state.
      */
-    public void clearHistory() {
-        commandHistory.clear();
+    public synchronized void clearHistory() {
+        Arrays.fill(commands, null);
+        newestPosition = -1;
+        size = 0;
+        addedCount = 0;
+        searchIndex.clear();
         indexInHistory = -1;
         currentCommand = "";
     }
@@ -119,6 +208,6 @@ public class CommandHistory implements ReadOnlyCommandHistory {
         }
 
         CommandHistory otherHist = (CommandHistory) other;
-        return commandHistory.equals(otherHist.commandHistory);
+        return getHistory().equals(otherHist.getHistory());
     }
 }
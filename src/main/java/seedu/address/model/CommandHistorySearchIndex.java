@@ -0,0 +1,154 @@
+package seedu.address.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Indexes the commands in a {@link CommandHistory} by the {@value #GRAM_LENGTH}-character substrings they contain,
+ * ignoring case, so that the commands containing a text can be found without going through the whole history.
+ * <p>
+ * Commands are identified by a sequence number that grows by one with every command added. For each substring, the
+ * sequence numbers of the commands containing it are kept in increasing order, so the most recent commands are at
+ * the end. Commands that dropped out of the history are pruned from a list when it grows, and from all lists once
+ * as many commands as the history keeps have been added, which spreads the cost of pruning over the added commands.
+ */
+class CommandHistorySearchIndex {
+    /** Length of the substrings commands are indexed by. Shorter texts cannot be looked up in the index. */
+    static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Postings> postingsByGram = new HashMap<>();
+    private final int pruneInterval;
+    private int addsSincePrune;
+
+    /**
+     * Creates an empty index that prunes commands that dropped out of the history every {@code pruneInterval}
+     * commands added.
+     */
+    CommandHistorySearchIndex(int pruneInterval) {
+        assert pruneInterval > 0 : "The prune interval should be positive";
+        this.pruneInterval = pruneInterval;
+    }
+
+    /**
+     * Indexes {@code command} under {@code sequence}, which must be greater than that of every command added before.
+     * Commands with a sequence number below {@code oldestSequence} are no longer in the history.
+     */
+    void add(String command, int sequence, int oldestSequence) {
+        String key = toKey(command);
+        for (int i = 0; i + GRAM_LENGTH <= key.length(); i++) {
+            Postings postings = postingsByGram.computeIfAbsent(key.substring(i, i + GRAM_LENGTH), g -> new Postings());
+            postings.add(sequence, oldestSequence);
+        }
+
+        addsSincePrune++;
+        if (addsSincePrune >= pruneInterval) {
+            pruneOlderThan(oldestSequence);
+            addsSincePrune = 0;
+        }
+    }
+
+    /**
+     * Returns the greatest sequence number, from {@code fromSequence} down to {@code oldestSequence}, of a command
+     * that contains {@code text} ignoring case, or -1 if there is none.
+     * Only the commands containing the rarest substring of {@code text} are checked, by passing their sequence
+     * numbers to {@code containsText}, which tells whether the command really contains {@code text}.
+     * {@code text} must be at least {@value #GRAM_LENGTH} characters long.
+     */
+    int findLatest(String text, int fromSequence, int oldestSequence, IntPredicate containsText) {
+        String key = toKey(text);
+        assert key.length() >= GRAM_LENGTH : "Text shorter than the indexed substrings cannot be looked up";
+
+        Postings rarest = null;
+        for (int i = 0; i + GRAM_LENGTH <= key.length(); i++) {
+            Postings postings = postingsByGram.get(key.substring(i, i + GRAM_LENGTH));
+            if (postings == null) {
+                // No command contains this substring, so none contains the text
+                return -1;
+            }
+            if (rarest == null || postings.size() < rarest.size()) {
+                rarest = postings;
+            }
+        }
+        return rarest.findLatest(fromSequence, oldestSequence, containsText);
+    }
+
+    /**
+     * Removes every command from the index.
+     */
+    void clear() {
+        postingsByGram.clear();
+        addsSincePrune = 0;
+    }
+
+    private void pruneOlderThan(int oldestSequence) {
+        Iterator<Postings> iterator = postingsByGram.values().iterator();
+        while (iterator.hasNext()) {
+            Postings postings = iterator.next();
+            postings.pruneOlderThan(oldestSequence);
+            if (postings.size() == 0) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns the form of {@code text} used in the index, so that matching ignores case whatever the default locale.
+     */
+    static String toKey(String text) {
+        return StringUtil.toSearchKey(text);
+    }
+
+    /**
+     * Sequence numbers of the commands containing a substring, in increasing order.
+     * The numbers are kept in {@code sequences} from {@code start} to {@code end}.
+     */
+    private static class Postings {
+        private int[] sequences = new int[2];
+        private int start;
+        private int end;
+
+        void add(int sequence, int oldestSequence) {
+            if (end > start && sequences[end - 1] == sequence) {
+                // The substring occurs more than once in the same command
+                return;
+            }
+            pruneOlderThan(oldestSequence);
+            if (end == sequences.length) {
+                int size = size();
+                int[] grown = size * 2 > sequences.length ? new int[sequences.length * 2] : sequences;
+                System.arraycopy(sequences, start, grown, 0, size);
+                sequences = grown;
+                start = 0;
+                end = size;
+            }
+            sequences[end++] = sequence;
+        }
+
+        void pruneOlderThan(int oldestSequence) {
+            while (start < end && sequences[start] < oldestSequence) {
+                start++;
+            }
+        }
+
+        int size() {
+            return end - start;
+        }
+
+        int findLatest(int fromSequence, int oldestSequence, IntPredicate isMatch) {
+            // Position just after the last sequence number not greater than fromSequence
+            int position = Arrays.binarySearch(sequences, start, end, fromSequence);
+            position = position >= 0 ? position + 1 : -position - 1;
+            for (int i = position - 1; i >= start && sequences[i] >= oldestSequence; i--) {
+                if (isMatch.test(sequences[i])) {
+                    return sequences[i];
+                }
+            }
+            return -1;
+        }
+    }
+}
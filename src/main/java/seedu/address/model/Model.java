@@ -2,11 +2,16 @@ package seedu.address.model;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.PersonSearchIndex;
 
 /**
  * The API of the Model component.
@@ -15,6 +20,30 @@ public interface Model {
     /** {@code Predicate} that always evaluate to true */
     Predicate<Person> PREDICATE_SHOW_ALL_PERSONS = unused -> true;
 
+    /**
+     * {@code Comparator} that orders pinned persons before the others, the most recently pinned first.
+     * Persons it considers equal are left to the sort order of the person list.
+     */
+    Comparator<Person> COMPARATOR_PINNED_FIRST = (p1, p2) -> {
+        // If pin status differs, pinned person comes first
+        if (p1.isPinned() != p2.isPinned()) {
+            return p1.isPinned() ? -1 : 1;
+        }
+
+        // Both pinned, sort by pinnedAt timestamp (most recent first)
+        if (p1.isPinned() && p2.isPinned()) {
+            if (p1.getPinnedAt().isPresent() && p2.getPinnedAt().isPresent()) {
+                // Reverse order: more recent pinnedAt comes first
+                return p2.getPinnedAt().get().compareTo(p1.getPinnedAt().get());
+            } else if (p1.getPinnedAt().isPresent()) {
+                return -1;
+            } else if (p2.getPinnedAt().isPresent()) {
+                return 1;
+            }
+        }
+        return 0;
+    };
+
     /**
      * Replaces user prefs data with the data in {@code userPrefs}.
      */
@@ -63,6 +92,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable snapshot of the persons in the address book, in the order they were added.
+     * Later changes to the address book do not affect the snapshot, so it can be shared with other threads.
+     */
+    PersistentList<Person> getAddressBookSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -80,6 +115,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of the given persons, in order.
+     * None of {@code persons} may already exist in the address book, and {@code persons} must not contain duplicates.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -87,11 +128,59 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces each person in the keys of {@code replacements} with the person it maps to, as a single change.
+     * Every key must exist in the address book.
+     * The edited persons must not share an identity with each other or with another existing person in the address
+     * book.
+     */
+    void replacePersons(Map<Person, Person> replacements);
+
+    /**
+     * Records the current state of the address book in the undo history.
+     * Does nothing if the address book has not changed since the last recorded state.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is an earlier state of the address book to undo to.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone state of the address book to redo to.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the address book to its previous state.
+     * There must be a state to undo to.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the address book to the state that was last undone.
+     * There must be a state to redo to.
+     */
+    void redoAddressBook();
+
+    /**
+     * Discards the undo history, so that the current state of the address book is the earliest state.
+     */
+    void clearAddressBookHistory();
+
+    /**
+     * Returns the search index over the names and tags of all persons in the address book.
+     */
+    PersonSearchIndex getSearchIndex();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getSortedAndFilteredPersonList();
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * The matches of an {@code IndexedSearchPredicate} are looked up in the search index rather than found by testing
+     * every person.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
@@ -99,7 +188,7 @@ public interface Model {
     /**
      * Applies alphabetical sorting to the current view of persons.
      * This does NOT change the underlying AddressBook or filteredPersons,
-     * only the SortedList comparator for the UI.
+     * only the comparator of the sorted view for the UI.
      */
     void applyNameSort();
 
@@ -7,15 +7,21 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.FilteredPersonList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortOrder;
+import seedu.address.model.person.SortedPersonList;
+import seedu.address.model.search.IndexedSearchPredicate;
+import seedu.address.model.search.PersonSearchIndex;
 import seedu.address.storage.CsvAddressBookStorage;
 
 /**
@@ -27,8 +33,12 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final CommandHistory commandHistory;
-    private final FilteredList<Person> filteredPersons;
-    private final SortedList<Person> sortedPersons;
+    private final PersonSearchIndex searchIndex;
+    private final NameCollationOrder nameOrder;
+    private final FilteredPersonList filteredPersons;
+    private final SortedPersonList sortedPersons;
+    private final AddressBookHistory addressBookHistory;
+    private Comparator<Person> nameSortComparator;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -40,10 +50,14 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        this.commandHistory = new CommandHistory(cmh);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        sortedPersons = new SortedList<>(filteredPersons);
-        sortedPersons.setComparator(withPinPriority(null));
+        this.commandHistory = new CommandHistory(cmh, this.userPrefs.getCommandHistoryCapacity());
+        searchIndex = new PersonSearchIndex(this.addressBook.getPersonList());
+        nameOrder = new NameCollationOrder(Locale.forLanguageTag(this.userPrefs.getNameSortLocale()));
+        filteredPersons = new FilteredPersonList(this.addressBook.getPersonList(),
+                this.addressBook::getInsertionSequence);
+        sortedPersons = new SortedPersonList(filteredPersons, withPinPriority(null));
+        addressBookHistory = new AddressBookHistory(this.addressBook.getSnapshot(),
+                this.userPrefs.getUndoHistoryDepth());
     }
 
     public ModelManager() {
@@ -55,7 +69,16 @@ public class ModelManager implements Model {
     @Override
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
+        String previousNameSortLocale = this.userPrefs.getNameSortLocale();
         this.userPrefs.resetData(userPrefs);
+        addressBookHistory.setMaxDepth(this.userPrefs.getUndoHistoryDepth());
+        if (!previousNameSortLocale.equals(this.userPrefs.getNameSortLocale())) {
+            nameOrder.setLocale(Locale.forLanguageTag(this.userPrefs.getNameSortLocale()));
+            if (sortedPersons.getComparator() == nameSortComparator) {
+                // Sorts the list again in the order of the new locale
+                applyNameSort();
+            }
+        }
     }
 
     @Override
@@ -108,6 +131,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public PersistentList<Person> getAddressBookSnapshot() {
+        return addressBook.getSnapshot();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -125,6 +153,12 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -132,6 +166,48 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void replacePersons(Map<Person, Person> replacements) {
+        requireNonNull(replacements);
+
+        addressBook.replacePersons(replacements);
+    }
+
+    @Override
+    public void commitAddressBook() {
+        addressBookHistory.commit(addressBook.getSnapshot());
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBookHistory.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBookHistory.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        addressBook.restoreSnapshot(addressBookHistory.undo());
+    }
+
+    @Override
+    public void redoAddressBook() {
+        addressBook.restoreSnapshot(addressBookHistory.redo());
+    }
+
+    @Override
+    public void clearAddressBookHistory() {
+        addressBookHistory.reset(addressBook.getSnapshot());
+    }
+
+    @Override
+    public PersonSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
     //=========== Command History ======================================================================
     @Override
     public void addCommandToHistory(String command) {
@@ -158,25 +234,25 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (predicate instanceof IndexedSearchPredicate) {
+            // Only the matches found through the search index are placed in the list, so the book is not scanned
+            filteredPersons.setPredicate(predicate, ((IndexedSearchPredicate) predicate).findMatches(searchIndex));
+        } else {
+            filteredPersons.setPredicate(predicate);
+        }
     }
 
     @Override
     public void applyNameSort() {
-        Comparator<Person> nameComparator = (p1, p2) ->
-                p1.getName().fullName.compareToIgnoreCase(p2.getName().fullName);
-        sortedPersons.setComparator(withPinPriority(nameComparator));
+        nameSortComparator = withPinPriority(nameOrder);
+        sortedPersons.setComparator(nameSortComparator);
     }
 
     @Override
     public void applyRecentSort() {
-        Comparator<Person> recentComparator = (p1, p2) -> {
-            // Reverse the original list order: the later element in addressBook list appears first
-            List<Person> originalList = addressBook.getPersonList();
-            int index1 = originalList.indexOf(p1);
-            int index2 = originalList.indexOf(p2);
-            return Integer.compare(index2, index1); // flip the order
-        };
+        // Reverse the original list order: the later element in addressBook list appears first
+        Comparator<Person> recentComparator = (p1, p2) ->
+                Long.compare(addressBook.getInsertionSequence(p2), addressBook.getInsertionSequence(p1));
         sortedPersons.setComparator(withPinPriority(recentComparator));
     }
 
@@ -216,34 +292,23 @@ public class ModelManager implements Model {
      * Within unpinned contacts, they follow the provided base comparator.
      */
     private Comparator<Person> withPinPriority(Comparator<Person> baseComparator) {
-        return (p1, p2) -> {
-            // If pin status differs, pinned person comes first
-            if (p1.isPinned() != p2.isPinned()) {
-                return p1.isPinned() ? -1 : 1;
-            }
-
-            // Both pinned, sort by pinnedAt timestamp (most recent first)
-            if (p1.isPinned() && p2.isPinned()) {
-                if (p1.getPinnedAt().isPresent() && p2.getPinnedAt().isPresent()) {
-                    // Reverse order: more recent pinnedAt comes first
-                    return p2.getPinnedAt().get().compareTo(p1.getPinnedAt().get());
-                } else if (p1.getPinnedAt().isPresent()) {
-                    return -1;
-                } else if (p2.getPinnedAt().isPresent()) {
-                    return 1;
-                }
-                // Both missing pinnedAt, fall through to base comparator
+        Comparator<Person> comparator = (p1, p2) -> {
+            int pinOrder = COMPARATOR_PINNED_FIRST.compare(p1, p2);
+            if (pinOrder != 0) {
+                return pinOrder;
             }
 
-            // Neither are pinned, use base comparator
+            // Same pin order, use base comparator
             if (baseComparator != null) {
                 return baseComparator.compare(p1, p2);
             }
 
-            List<Person> originalList = addressBook.getPersonList();
-            int index1 = originalList.indexOf(p1);
-            int index2 = originalList.indexOf(p2);
-            return Integer.compare(index1, index2);
+            return Long.compare(addressBook.getInsertionSequence(p1), addressBook.getInsertionSequence(p2));
         };
+        if (baseComparator instanceof PersonSortOrder) {
+            // Lets the whole list be sorted by sort keys, which is quicker than comparing persons in pairs
+            return new PinnedFirstOrder(comparator, (PersonSortOrder) baseComparator);
+        }
+        return comparator;
     }
 }
@@ -0,0 +1,86 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Locale;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortOrder;
+
+/**
+ * Orders persons by name in the alphabetical order of a locale, as given by a {@link Collator}.
+ * Names are compared by their collation keys, which each name keeps once worked out (see
+ * {@link Name#getCollationKey(Collator)}), so that sorting does not run the collator over both names of every pair.
+ * Sorting many persons at once looks up the key of each person only once, and then sorts the persons by their keys.
+ */
+public class NameCollationOrder implements PersonSortOrder {
+
+    private Collator collator;
+
+    /**
+     * Creates a {@code NameCollationOrder} in the alphabetical order of {@code locale}.
+     */
+    public NameCollationOrder(Locale locale) {
+        setLocale(locale);
+    }
+
+    /**
+     * Orders persons in the alphabetical order of {@code locale} from now on.
+     */
+    public void setLocale(Locale locale) {
+        requireNonNull(locale);
+        Collator collator = Collator.getInstance(locale);
+        // Accented letters typed as one character or as a letter and a combining mark are ordered the same
+        collator.setDecomposition(Collator.CANONICAL_DECOMPOSITION);
+        // A new collator, so that the keys names kept for the previous locale are not used
+        this.collator = collator;
+    }
+
+    @Override
+    public int compare(Person p1, Person p2) {
+        Name name1 = p1.getName();
+        Name name2 = p2.getName();
+        return compare(name1, name1.getCollationKey(collator), name2, name2.getCollationKey(collator));
+    }
+
+    @Override
+    public void sort(Person[] persons) {
+        Collator collator = this.collator;
+        SortEntry[] entries = new SortEntry[persons.length];
+        for (int i = 0; i < persons.length; i++) {
+            entries[i] = new SortEntry(persons[i], persons[i].getName().getCollationKey(collator));
+        }
+        Arrays.parallelSort(entries);
+        for (int i = 0; i < persons.length; i++) {
+            persons[i] = entries[i].person;
+        }
+    }
+
+    private static int compare(Name name1, CollationKey key1, Name name2, CollationKey key2) {
+        int order = key1.compareTo(key2);
+        // Names the collator cannot tell apart are still given a fixed order
+        return order != 0 ? order : name1.getIdentityKey().compareTo(name2.getIdentityKey());
+    }
+
+    /**
+     * A person together with the collation key of its name.
+     */
+    private static class SortEntry implements Comparable<SortEntry> {
+        private final Person person;
+        private final CollationKey key;
+
+        SortEntry(Person person, CollationKey key) {
+            this.person = person;
+            this.key = key;
+        }
+
+        @Override
+        public int compareTo(SortEntry other) {
+            return compare(person.getName(), key, other.person.getName(), other.key);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSortOrder;
+
+/**
+ * Orders pinned persons first, as {@link Model#COMPARATOR_PINNED_FIRST} does, and the other persons in a
+ * {@code PersonSortOrder}.
+ * Few persons are pinned, so sorting only compares the pinned persons in pairs, and sorts the others with the
+ * {@code PersonSortOrder}.
+ */
+class PinnedFirstOrder implements PersonSortOrder {
+
+    private final Comparator<Person> comparator;
+    private final PersonSortOrder unpinnedOrder;
+
+    /**
+     * Creates a {@code PinnedFirstOrder} that compares persons with {@code comparator}, which must order pinned
+     * persons first and the other persons in {@code unpinnedOrder}.
+     */
+    PinnedFirstOrder(Comparator<Person> comparator, PersonSortOrder unpinnedOrder) {
+        requireAllNonNull(comparator, unpinnedOrder);
+        this.comparator = comparator;
+        this.unpinnedOrder = unpinnedOrder;
+    }
+
+    @Override
+    public int compare(Person p1, Person p2) {
+        return comparator.compare(p1, p2);
+    }
+
+    @Override
+    public void sort(Person[] persons) {
+        int pinnedCount = 0;
+        for (Person person : persons) {
+            if (person.isPinned()) {
+                pinnedCount++;
+            }
+        }
+        Person[] pinned = new Person[pinnedCount];
+        Person[] unpinned = new Person[persons.length - pinnedCount];
+        int pinnedIndex = 0;
+        int unpinnedIndex = 0;
+        for (Person person : persons) {
+            if (person.isPinned()) {
+                pinned[pinnedIndex++] = person;
+            } else {
+                unpinned[unpinnedIndex++] = person;
+            }
+        }
+
+        Arrays.sort(pinned, comparator);
+        unpinnedOrder.sort(unpinned);
+        System.arraycopy(pinned, 0, persons, 0, pinned.length);
+        System.arraycopy(unpinned, 0, persons, pinned.length, unpinned.length);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.Person;
 
 /**
@@ -14,4 +15,13 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns an immutable snapshot of the persons list, which later changes to the address book do not affect.
+     * Address books that keep their persons in a {@code PersistentList} return it in constant time; others copy
+     * their persons.
+     */
+    default PersistentList<Person> getSnapshot() {
+        return PersistentList.of(getPersonList());
+    }
+
 }
@@ -17,6 +17,29 @@ public interface ReadOnlyCommandHistory {
      */
     String getPreviousCommandFromHistory(String curr);
 
+    /**
+     * Returns the number of commands in the history.
+     */
+    int size();
+
+    /**
+     * Returns the number of most recent commands the history keeps.
+     */
+    int getCapacity();
+
+    /**
+     * Returns the command at {@code index} in the history, where index 0 is the most recent command.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not a valid position in the history.
+     */
+    String getCommand(int index);
+
+    /**
+     * Returns the index of the most recent command that contains {@code text} ignoring case, looking only at the
+     * command at {@code fromIndex} and older commands, or -1 if there is no such command.
+     */
+    int findCommandContaining(String text, int fromIndex);
+
     /**
      * Returns the whole history list.
      */
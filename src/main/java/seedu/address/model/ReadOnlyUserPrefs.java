@@ -13,4 +13,12 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    UserPrefs.AddressBookFileFormat getAddressBookFileFormat();
+
+    int getUndoHistoryDepth();
+
+    int getCommandHistoryCapacity();
+
+    String getNameSortLocale();
+
 }
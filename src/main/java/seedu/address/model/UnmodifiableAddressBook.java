@@ -0,0 +1,60 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * An address book of a fixed list of persons, such as the persons read from a file.
+ * The list is wrapped rather than copied, and no identity index is built, so handing the persons on takes no memory
+ * beyond the list itself. The list must not contain duplicate persons, and must not be changed afterwards.
+ */
+public class UnmodifiableAddressBook implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+
+    /**
+     * Creates an {@code UnmodifiableAddressBook} of {@code persons}.
+     */
+    public UnmodifiableAddressBook(List<Person> persons) {
+        requireAllNonNull(persons);
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UnmodifiableAddressBook)) {
+            return false;
+        }
+
+        UnmodifiableAddressBook otherAddressBook = (UnmodifiableAddressBook) other;
+        return persons.equals(otherAddressBook.persons);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .toString();
+    }
+}
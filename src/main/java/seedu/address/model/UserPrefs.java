@@ -1,9 +1,11 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Locale;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
@@ -13,9 +15,35 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /**
+     * Formats in which the address book can be kept on disk.
+     */
+    public enum AddressBookFileFormat {
+        /** Human-readable json, written to the address book file path. */
+        JSON,
+        /** Compact binary, written next to the address book file path with a {@code .bin} extension. */
+        BINARY
+    }
+
+    public static final int DEFAULT_UNDO_HISTORY_DEPTH = 100;
+
+    public static final String MESSAGE_INVALID_UNDO_HISTORY_DEPTH = "Undo history depth should not be negative";
+
+    public static final String MESSAGE_INVALID_COMMAND_HISTORY_CAPACITY =
+            "Command history capacity should be positive";
+
+    public static final String DEFAULT_NAME_SORT_LOCALE = "en";
+
+    public static final String MESSAGE_INVALID_NAME_SORT_LOCALE =
+            "Name sort locale should be a language tag, such as en, de or sv-SE";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private AddressBookFileFormat addressBookFileFormat = AddressBookFileFormat.JSON;
     private Path commandHistoryFilePath = Paths.get("data" , ".command_history");
+    private int undoHistoryDepth = DEFAULT_UNDO_HISTORY_DEPTH;
+    private int commandHistoryCapacity = CommandHistory.DEFAULT_CAPACITY;
+    private String nameSortLocale = DEFAULT_NAME_SORT_LOCALE;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -37,6 +65,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFileFormat(newUserPrefs.getAddressBookFileFormat());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
+        setCommandHistoryCapacity(newUserPrefs.getCommandHistoryCapacity());
+        setNameSortLocale(newUserPrefs.getNameSortLocale());
     }
 
     public GuiSettings getGuiSettings() {
@@ -57,6 +89,60 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public AddressBookFileFormat getAddressBookFileFormat() {
+        return addressBookFileFormat;
+    }
+
+    public void setAddressBookFileFormat(AddressBookFileFormat addressBookFileFormat) {
+        requireNonNull(addressBookFileFormat);
+        this.addressBookFileFormat = addressBookFileFormat;
+    }
+
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    /**
+     * Sets the number of earlier states of the address book that are kept for undoing.
+     */
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        checkArgument(undoHistoryDepth >= 0, MESSAGE_INVALID_UNDO_HISTORY_DEPTH);
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
+    public int getCommandHistoryCapacity() {
+        return commandHistoryCapacity;
+    }
+
+    /**
+     * Sets the number of most recent commands that are kept in the command history.
+     */
+    public void setCommandHistoryCapacity(int commandHistoryCapacity) {
+        checkArgument(commandHistoryCapacity > 0, MESSAGE_INVALID_COMMAND_HISTORY_CAPACITY);
+        this.commandHistoryCapacity = commandHistoryCapacity;
+    }
+
+    public String getNameSortLocale() {
+        return nameSortLocale;
+    }
+
+    /**
+     * Sets the locale, given as an IETF BCP 47 language tag, whose alphabetical order persons are sorted by name in.
+     */
+    public void setNameSortLocale(String nameSortLocale) {
+        requireNonNull(nameSortLocale);
+        checkArgument(isValidLocale(nameSortLocale), MESSAGE_INVALID_NAME_SORT_LOCALE);
+        this.nameSortLocale = nameSortLocale;
+    }
+
+    /**
+     * Returns true if {@code languageTag} is a well-formed language tag that names a language.
+     */
+    public static boolean isValidLocale(String languageTag) {
+        // Ill-formed tags are turned into a locale without a language
+        return !Locale.forLanguageTag(languageTag).getLanguage().isEmpty();
+    }
+
     public Path getCommandHistoryFilePath() {
         return commandHistoryFilePath;
     }
@@ -78,12 +164,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookFileFormat == otherUserPrefs.addressBookFileFormat
+                && undoHistoryDepth == otherUserPrefs.undoHistoryDepth
+                && commandHistoryCapacity == otherUserPrefs.commandHistoryCapacity
+                && nameSortLocale.equals(otherUserPrefs.nameSortLocale);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFileFormat, undoHistoryDepth,
+                commandHistoryCapacity, nameSortLocale);
     }
 
     @Override
@@ -91,6 +182,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFileFormat);
+        sb.append("\nUndo history depth : " + undoHistoryDepth);
+        sb.append("\nCommand history capacity : " + commandHistoryCapacity);
+        sb.append("\nName sort locale : " + nameSortLocale);
         return sb.toString();
     }
 
@@ -53,6 +53,19 @@ public class Email {
         value = email;
     }
 
+    private Email(String email, boolean isValidated) {
+        assert isValidated && isValidEmail(email);
+        value = email;
+    }
+
+    /**
+     * Returns an {@code Email} of a nullable email address that has already been validated, without validating it
+     * again.
+     */
+    static Email ofValidated(String email) {
+        return new Email(email, true);
+    }
+
     /**
      * Returns if a given string is a valid email.
      */
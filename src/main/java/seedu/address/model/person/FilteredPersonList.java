@@ -0,0 +1,277 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A filtered view of a list of persons, which shows the persons of the list that satisfy a predicate, in the order of
+ * the list.
+ * The persons of the list must be ordered by their insertion sequence numbers, as given by a
+ * {@code UniquePersonList}. Persons are placed in the view by a binary search of their sequence numbers, so when the
+ * persons satisfying a predicate are already known, such as the matches of a search index, the view is built from
+ * them alone in O(k log k) time for k matches, instead of testing every person in the list as {@code FilteredList}
+ * does. Adding, removing or editing a person only tests and places that person.
+ * <p>
+ * A change that adds every person of the list, such as when its contents are replaced, filters the whole list again,
+ * as persons may then have been numbered again.
+ */
+public class FilteredPersonList extends TransformationList<Person, Person> {
+
+    /**
+     * Changes of more persons than this are merged into the view in a single pass, as that is then about as quick as
+     * placing each person on its own.
+     */
+    private static final int MAX_INCREMENTAL_CHANGE_SIZE = 64;
+
+    private final List<Person> shownPersons = new ArrayList<>();
+    private final ToLongFunction<Person> sequenceOf;
+    private Predicate<? super Person> predicate = unused -> true;
+
+    /**
+     * Creates a {@code FilteredPersonList} showing all persons in {@code source}, which is ordered by the sequence
+     * numbers given by {@code sequenceOf}.
+     */
+    public FilteredPersonList(ObservableList<? extends Person> source, ToLongFunction<Person> sequenceOf) {
+        super(source);
+        requireAllNonNull(source, sequenceOf);
+        this.sequenceOf = sequenceOf;
+        shownPersons.addAll(source);
+    }
+
+    public Predicate<? super Person> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Shows the persons in the list that satisfy {@code predicate}, testing each person in the list.
+     */
+    public void setPredicate(Predicate<? super Person> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        replaceShownPersons(filterSource());
+    }
+
+    /**
+     * Shows {@code matches}, which must be exactly the persons in the list that satisfy {@code predicate}.
+     * Only the matches are sorted, so this takes O(k log k) time for k matches, however long the list is.
+     * Persons that are added to the list later are tested against {@code predicate}.
+     */
+    public void setPredicate(Predicate<? super Person> predicate, Collection<Person> matches) {
+        requireAllNonNull(predicate, matches);
+        this.predicate = predicate;
+        List<Person> persons = new ArrayList<>(matches);
+        persons.sort((p1, p2) -> Long.compare(sequenceOf.applyAsLong(p1), sequenceOf.applyAsLong(p2)));
+        replaceShownPersons(persons);
+    }
+
+    @Override
+    public Person get(int index) {
+        return shownPersons.get(index);
+    }
+
+    @Override
+    public int size() {
+        return shownPersons.size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return indexOfSequence(getSource(), sequenceOf.applyAsLong(shownPersons.get(index)));
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return indexOfShown(getSource().get(index));
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends Person> change) {
+        int changedCount = countChangedPersons(change);
+        if (changedCount < 0) {
+            replaceShownPersons(filterSource());
+            return;
+        }
+        if (changedCount > MAX_INCREMENTAL_CHANGE_SIZE) {
+            merge(change);
+            return;
+        }
+
+        change.reset();
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (Person removed : change.getRemoved()) {
+                if (!predicate.test(removed)) {
+                    continue;
+                }
+                int index = indexOfShown(removed);
+                if (index >= 0) {
+                    shownPersons.remove(index);
+                    nextRemove(index, removed);
+                }
+            }
+            for (Person added : change.getAddedSubList()) {
+                if (predicate.test(added)) {
+                    int index = insertionIndexOf(shownPersons, 0, sequenceOf.applyAsLong(added));
+                    shownPersons.add(index, added);
+                    nextAdd(index, index + 1);
+                }
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Returns the number of persons {@code change} adds and removes,
+     * or -1 if it adds every person in the list or reorders the list, as the list must then be filtered again.
+     */
+    private int countChangedPersons(ListChangeListener.Change<? extends Person> change) {
+        int changedCount = 0;
+        while (change.next()) {
+            if (change.wasPermutated() || (change.getFrom() == 0 && change.getTo() == getSource().size()
+                    && change.wasAdded())) {
+                return -1;
+            }
+            if (!change.wasUpdated()) {
+                changedCount += change.getRemovedSize() + change.getAddedSize();
+            }
+        }
+        return changedCount;
+    }
+
+    private List<Person> filterSource() {
+        List<Person> persons = new ArrayList<>();
+        for (Person person : getSource()) {
+            if (predicate.test(person)) {
+                persons.add(person);
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Removes the persons {@code change} removes from the view, and merges the persons it adds that satisfy the
+     * predicate into the rest of the view. Only the changed persons are tested, so this takes O(k log k) time for
+     * k changed persons, and O(n) time to copy the view.
+     */
+    private void merge(ListChangeListener.Change<? extends Person> change) {
+        Set<Person> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Person> added = new ArrayList<>();
+        change.reset();
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                continue;
+            }
+            removed.addAll(change.getRemoved());
+            for (Person person : change.getAddedSubList()) {
+                if (predicate.test(person)) {
+                    added.add(person);
+                }
+            }
+        }
+        added.sort((p1, p2) -> Long.compare(sequenceOf.applyAsLong(p1), sequenceOf.applyAsLong(p2)));
+
+        List<Person> kept = new ArrayList<>(shownPersons.size());
+        for (Person person : shownPersons) {
+            if (!removed.contains(person)) {
+                kept.add(person);
+            }
+        }
+        List<Person> merged = new ArrayList<>(kept.size() + added.size());
+        int keptIndex = 0;
+        for (Person person : added) {
+            int index = insertionIndexOf(kept, keptIndex, sequenceOf.applyAsLong(person));
+            merged.addAll(kept.subList(keptIndex, index));
+            merged.add(person);
+            keptIndex = index;
+        }
+        merged.addAll(kept.subList(keptIndex, kept.size()));
+        replaceShownPersons(merged);
+    }
+
+    /**
+     * Replaces the contents of the view with {@code persons}, and reports the span in which they differ as replaced.
+     */
+    private void replaceShownPersons(List<Person> persons) {
+        int from = 0;
+        while (from < shownPersons.size() && from < persons.size() && shownPersons.get(from) == persons.get(from)) {
+            from++;
+        }
+        int removedTo = shownPersons.size();
+        int addedTo = persons.size();
+        while (removedTo > from && addedTo > from && shownPersons.get(removedTo - 1) == persons.get(addedTo - 1)) {
+            removedTo--;
+            addedTo--;
+        }
+        if (from == removedTo && from == addedTo) {
+            return;
+        }
+
+        List<Person> removed = new ArrayList<>(shownPersons.subList(from, removedTo));
+        beginChange();
+        shownPersons.clear();
+        shownPersons.addAll(persons);
+        nextReplace(from, addedTo, removed);
+        endChange();
+    }
+
+    /**
+     * Returns the index of {@code person} in this view, or -1 if it is not shown.
+     */
+    private int indexOfShown(Person person) {
+        int index = indexOfSequence(shownPersons, sequenceOf.applyAsLong(person));
+        if (index >= 0 && shownPersons.get(index) == person) {
+            return index;
+        }
+
+        // The person was numbered again or has lost its number, so the whole view is searched
+        for (int i = 0; i < shownPersons.size(); i++) {
+            if (shownPersons.get(i) == person) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the person with sequence number {@code sequence} in {@code persons}, which is ordered by
+     * sequence number, or -1 if there is no such person.
+     */
+    private int indexOfSequence(List<? extends Person> persons, long sequence) {
+        int index = insertionIndexOf(persons, 0, sequence) - 1;
+        return index >= 0 && sequenceOf.applyAsLong(persons.get(index)) == sequence ? index : -1;
+    }
+
+    /**
+     * Returns the index at which a person with sequence number {@code sequence} belongs in {@code persons}, which is
+     * ordered by sequence number, no earlier than {@code from} and after any persons with the same number.
+     */
+    private int insertionIndexOf(List<? extends Person> persons, int from, long sequence) {
+        int low = from;
+        int high = persons.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sequenceOf.applyAsLong(persons.get(middle)) <= sequence) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -35,6 +35,19 @@ public class Github {
         value = lowerCaseUsername;
     }
 
+    private Github(String username, boolean isValidated) {
+        assert isValidated && isValidGithub(username);
+        value = username;
+    }
+
+    /**
+     * Returns a {@code Github} of a nullable, lowercase GitHub username that has already been validated, without
+     * validating it again.
+     */
+    static Github ofValidated(String username) {
+        return new Github(username, true);
+    }
+
     /**
      * Returns true if a given string is a valid GitHub username.
      */
@@ -3,6 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.text.CollationKey;
+import java.text.Collator;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,6 +25,16 @@ public class Name {
 
     public final String fullName;
 
+    /**
+     * Case-folded form of {@code fullName}, worked out once so that comparing and searching names does not have to
+     * fold their case again.
+     */
+    private final String identityKey;
+    private final int identityHash;
+
+    // Only worked out once names are sorted, and replaced as a whole so that it can be read from any thread
+    private volatile SortKey sortKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,6 +44,10 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        String foldedName = StringUtil.toSearchKey(name);
+        // Names already in lowercase are their own key, which saves keeping a copy
+        identityKey = foldedName.equals(name) ? name : foldedName;
+        identityHash = identityKey.hashCode();
     }
 
     /**
@@ -38,6 +57,29 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the case-folded form of this name, as given by {@link StringUtil#toSearchKey(String)}.
+     * Two names are equal if and only if their identity keys are equal. Keys are in the same order as the names are
+     * under {@link String#compareToIgnoreCase(String)}, and the words in a key can be matched against keywords from
+     * {@link StringUtil#toSearchKeyword(String)}.
+     */
+    public String getIdentityKey() {
+        return identityKey;
+    }
+
+    /**
+     * Returns the collation key of this name under {@code collator}.
+     * The key is kept until a key for another collator is asked for, so sorting names repeatedly with the same
+     * collator works out the key of each name only once.
+     */
+    public CollationKey getCollationKey(Collator collator) {
+        SortKey key = sortKey;
+        if (key == null || key.collator != collator) {
+            key = new SortKey(collator, collator.getCollationKey(fullName));
+            sortKey = key;
+        }
+        return key.collationKey;
+    }
 
     @Override
     public String toString() {
@@ -56,12 +98,25 @@ public class Name {
         }
 
         Name otherName = (Name) other;
-        return fullName.equalsIgnoreCase(otherName.fullName);
+        return identityHash == otherName.identityHash && identityKey.equals(otherName.identityKey);
     }
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        return identityHash;
+    }
+
+    /**
+     * A collation key together with the collator it was worked out with.
+     */
+    private static final class SortKey {
+        private final Collator collator;
+        private final CollationKey collationKey;
+
+        SortKey(Collator collator, CollationKey collationKey) {
+            this.collator = collator;
+            this.collationKey = collationKey;
+        }
     }
 
 }
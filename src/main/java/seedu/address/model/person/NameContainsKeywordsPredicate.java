@@ -3,30 +3,45 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.search.IndexedSearchPredicate;
+import seedu.address.model.search.PersonSearchIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements IndexedSearchPredicate {
     private final List<String> keywords;
+    private final String[] searchKeywords;
 
     /**
      * creates a predicate that checks if a person's name contains any of the given keyword
      * @param keywords list of keywords to match; cannot be null
+     * @throws IllegalArgumentException if any keyword is empty or contains multiple words.
      */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         requireNonNull(keywords);
         this.keywords = keywords;
+        this.searchKeywords = keywords.stream().map(StringUtil::toSearchKeyword).toArray(String[]::new);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream().anyMatch(
-                keyword -> StringUtil.hasWordStartingWithIgnoreCase(person.getName().fullName, keyword));
+        String nameKey = person.getName().getIdentityKey();
+        for (String searchKeyword : searchKeywords) {
+            if (StringUtil.hasWordStartingWith(nameKey, searchKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Set<Person> findMatches(PersonSearchIndex index) {
+        return index.findByNameKeywords(keywords);
     }
 
     @Override
@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Packs a few short ASCII values, any of which may be null, into one byte array.
+ * A person keeps its contact details this way, as one array takes far less memory than a value object, a
+ * {@code String} and a byte array for each detail.
+ * <p>
+ * Each value is stored as a byte holding its length followed by a byte for each of its characters. Null is stored
+ * with a length of zero, so empty values cannot be told apart from null.
+ */
+final class PackedFields {
+
+    private static final int MAX_VALUE_LENGTH = 255;
+    private static final char MAX_ASCII_CHARACTER = 0x7F;
+
+    private PackedFields() {}
+
+    /**
+     * Returns {@code values} packed into one array.
+     *
+     * @throws IllegalArgumentException if a value is longer than 255 characters or is not all ASCII.
+     */
+    static byte[] pack(String... values) {
+        requireNonNull(values);
+        int length = values.length;
+        for (String value : values) {
+            length += value == null ? 0 : value.length();
+        }
+
+        byte[] packed = new byte[length];
+        int offset = 0;
+        for (String value : values) {
+            if (value == null) {
+                packed[offset++] = 0;
+                continue;
+            }
+            if (value.length() > MAX_VALUE_LENGTH) {
+                throw new IllegalArgumentException("Value is too long to pack: " + value);
+            }
+            packed[offset++] = (byte) value.length();
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c > MAX_ASCII_CHARACTER) {
+                    throw new IllegalArgumentException("Only ASCII values can be packed: " + value);
+                }
+                packed[offset++] = (byte) c;
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Returns the value at {@code index} in {@code packed}, or null if it was packed as null.
+     */
+    static String get(byte[] packed, int index) {
+        int offset = offsetOf(packed, index);
+        int length = lengthAt(packed, offset);
+        return length == 0 ? null : new String(packed, offset + 1, length, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Returns true if the value at {@code index} in {@code packed} was packed as null.
+     */
+    static boolean isNull(byte[] packed, int index) {
+        return lengthAt(packed, offsetOf(packed, index)) == 0;
+    }
+
+    private static int offsetOf(byte[] packed, int index) {
+        int offset = 0;
+        for (int i = 0; i < index; i++) {
+            offset += lengthAt(packed, offset) + 1;
+        }
+        return offset;
+    }
+
+    private static int lengthAt(byte[] packed, int offset) {
+        return Byte.toUnsignedInt(packed[offset]);
+    }
+}
@@ -1,52 +1,52 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.Instant;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * <p>
+ * As an address book can hold a great many persons, a person is kept compact: the phone, email, Telegram and GitHub
+ * values are packed into one array and their value objects are only created when asked for.
  */
 public class Person {
 
+    // Positions of the contact details in the packed array
+    private static final int PHONE = 0;
+    private static final int EMAIL = 1;
+    private static final int TELEGRAM = 2;
+    private static final int GITHUB = 3;
+
     // Identity fields
     private final Name name;
-    private final Phone phone;
-    private final Email email;
-    private final Telegram telegram;
-    private final Github github;
+    private final byte[] contactDetails;
     private final PreferredCommunicationMode preferredMode;
 
     // Data fields
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
 
     // Status fields
-    private final PinStatus pinStatus;
+    private final Instant pinnedAt; // null if not pinned
 
     /**
      * Every field must be present and not null.
      */
     public Person(Name name, Phone phone, Email email, Telegram telegram, Github github,
                   PreferredCommunicationMode preferredMode, Set<Tag> tags) {
-        requireAllNonNull(name, phone, email, telegram, github, preferredMode, tags);
-        this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.telegram = telegram;
-        this.github = github;
-        this.preferredMode = preferredMode;
-        this.tags.addAll(tags);
-        this.pinStatus = new PinStatus();
+        this(name, phone, email, telegram, github, requireNonNull(preferredMode), tags, null);
     }
 
     /**
@@ -56,15 +56,22 @@ public class Person {
     public Person(Name name, Phone phone, Email email, Telegram telegram, Github github,
                   PreferredCommunicationMode preferredMode,
                   Set<Tag> tags, Instant pinnedAt) {
-        requireAllNonNull(name, phone, email, telegram, github, tags);
+        this(requireNonNull(name), packContactDetails(phone, email, telegram, github), preferredMode,
+                TagSet.of(tags), pinnedAt);
+    }
+
+    private Person(Name name, byte[] contactDetails, PreferredCommunicationMode preferredMode, TagSet tags,
+            Instant pinnedAt) {
         this.name = name;
-        this.phone = phone;
-        this.email = email;
-        this.telegram = telegram;
-        this.github = github;
+        this.contactDetails = contactDetails;
         this.preferredMode = preferredMode;
-        this.tags.addAll(tags);
-        this.pinStatus = new PinStatus(pinnedAt);
+        this.tags = tags;
+        this.pinnedAt = pinnedAt;
+    }
+
+    private static byte[] packContactDetails(Phone phone, Email email, Telegram telegram, Github github) {
+        requireAllNonNull(phone, email, telegram, github);
+        return PackedFields.pack(phone.value, email.value, telegram.value, github.value);
     }
 
     public Name getName() {
@@ -72,19 +79,19 @@ public class Person {
     }
 
     public Phone getPhone() {
-        return phone;
+        return Phone.ofValidated(PackedFields.get(contactDetails, PHONE));
     }
 
     public Email getEmail() {
-        return email;
+        return Email.ofValidated(PackedFields.get(contactDetails, EMAIL));
     }
 
     public Telegram getTelegram() {
-        return telegram;
+        return Telegram.ofValidated(PackedFields.get(contactDetails, TELEGRAM));
     }
 
     public Github getGithub() {
-        return github;
+        return Github.ofValidated(PackedFields.get(contactDetails, GITHUB));
     }
 
     public PreferredCommunicationMode getPreferredMode() {
@@ -96,7 +103,15 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
+    }
+
+    /**
+     * Returns true if any tag of this person satisfies {@code condition}.
+     * Unlike going through {@link #getTags()}, this does not allocate anything.
+     */
+    public boolean hasTagMatching(Predicate<? super Tag> condition) {
+        return tags.anyMatch(condition);
     }
 
     /**
@@ -127,10 +142,10 @@ public class Person {
         availableModes.add(PreferredCommunicationMode.PHONE);
 
         // Optional field
-        if (!email.isEmpty()) {
+        if (!PackedFields.isNull(contactDetails, EMAIL)) {
             availableModes.add(PreferredCommunicationMode.EMAIL);
         }
-        if (!telegram.isEmpty()) {
+        if (!PackedFields.isNull(contactDetails, TELEGRAM)) {
             availableModes.add(PreferredCommunicationMode.TELEGRAM);
         }
 
@@ -144,12 +159,11 @@ public class Person {
      * @return a new Person instance marked as pinned with the current timestamp if not already pinned
      */
     public Person pin() {
-        if (pinStatus.isPinned()) {
+        if (isPinned()) {
             return this;
         }
 
-        Instant pinnedAt = Instant.now();
-        return new Person(name, phone, email, telegram, github, preferredMode, tags, pinnedAt);
+        return new Person(name, contactDetails, preferredMode, tags, Instant.now());
     }
 
     /**
@@ -159,25 +173,25 @@ public class Person {
      * @return a new Person instance marked as unpinned with the timestamp removed if already pinned
      */
     public Person unpin() {
-        if (!pinStatus.isPinned()) {
+        if (!isPinned()) {
             return this;
         }
 
-        return new Person(name, phone, email, telegram, github, preferredMode, tags);
+        return new Person(name, contactDetails, preferredMode, tags, null);
     }
 
     /**
      * Returns true if person isPinned
      */
     public Boolean isPinned() {
-        return pinStatus.isPinned();
+        return pinnedAt != null;
     }
 
     /**
      * Returns the time at which person is pinned
      */
     public Optional<Instant> getPinnedAt() {
-        return pinStatus.getPinnedAt();
+        return Optional.ofNullable(pinnedAt);
     }
 
     /**
@@ -197,29 +211,26 @@ public class Person {
 
         Person otherPerson = (Person) other;
         return name.equals(otherPerson.name)
-                && phone.equals(otherPerson.phone)
-                && email.equals(otherPerson.email)
-                && telegram.equals(otherPerson.telegram)
-                && github.equals(otherPerson.github)
-                && preferredMode.equals(otherPerson.preferredMode)
+                && Arrays.equals(contactDetails, otherPerson.contactDetails)
+                && preferredMode == otherPerson.preferredMode
                 && tags.equals(otherPerson.tags)
-                && pinStatus.equals(otherPerson.pinStatus);
+                && Objects.equals(pinnedAt, otherPerson.pinnedAt);
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, telegram, github, preferredMode, tags, pinStatus);
+        return Objects.hash(name, Arrays.hashCode(contactDetails), preferredMode, tags, pinnedAt);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("name", name)
-                .add("phone", phone)
-                .add("email", email)
-                .add("telegram", telegram)
-                .add("github", github)
+                .add("phone", getPhone())
+                .add("email", getEmail())
+                .add("telegram", getTelegram())
+                .add("github", getGithub())
                 .add("tags", tags)
                 .toString();
     }
@@ -0,0 +1,16 @@
+package seedu.address.model.person;
+
+import java.util.Comparator;
+
+/**
+ * An order of persons that can sort many persons at once more quickly than by comparing them in pairs, such as by
+ * working out a sort key for each person once and sorting by the keys.
+ * {@link SortedPersonList} sorts with {@link #sort(Person[])} whenever it sorts many persons at once.
+ */
+public interface PersonSortOrder extends Comparator<Person> {
+
+    /**
+     * Sorts {@code persons} in this order, in the same order as sorting them with {@link #compare(Object, Object)}.
+     */
+    void sort(Person[] persons);
+}
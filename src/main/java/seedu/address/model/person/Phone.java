@@ -27,6 +27,18 @@ public class Phone {
         value = phone;
     }
 
+    private Phone(String phone, boolean isValidated) {
+        assert isValidated && isValidPhone(phone);
+        value = phone;
+    }
+
+    /**
+     * Returns a {@code Phone} of a phone number that has already been validated, without validating it again.
+     */
+    static Phone ofValidated(String phone) {
+        return new Phone(phone, true);
+    }
+
     /**
      * Returns true if a given string is a valid phone number.
      */
@@ -0,0 +1,274 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A sorted view of a list of persons, which keeps itself sorted as the list changes by only placing the persons that
+ * are added to or removed from it. The position of each of these persons is found with a binary search, so adding,
+ * removing or editing a person takes O(log n) comparisons, where {@code SortedList} goes through the whole view.
+ * Changes of many persons at once, such as when a new filter is applied or many persons are edited, only sort the
+ * persons added by the change, and merge them into the rest of the view in a single pass. Setting a new comparator
+ * sorts the whole view again with a parallel sort. When the comparator is a {@link PersonSortOrder}, both of these
+ * sorts are left to it, so that it can sort the persons by their sort keys.
+ * <p>
+ * A removed person is found by its place in the sort order, so the comparator must order a person the same way while
+ * the change removing it is reported as it did while the person was in the list. Persons are looked up by their
+ * position in the sort order, so the comparator should only find two persons equal if they are the same person;
+ * other persons it finds equal are kept in the order they were added in.
+ */
+public class SortedPersonList extends TransformationList<Person, Person> {
+
+    /**
+     * Changes of more persons than this are merged into the view in a single pass, as that is then about as quick as
+     * placing each person on its own.
+     */
+    private static final int MAX_INCREMENTAL_CHANGE_SIZE = 64;
+
+    private final List<Person> sortedPersons = new ArrayList<>();
+    private Comparator<? super Person> comparator;
+
+    /**
+     * Creates a {@code SortedPersonList} of the persons in {@code source}, sorted by {@code comparator}.
+     */
+    public SortedPersonList(ObservableList<? extends Person> source, Comparator<? super Person> comparator) {
+        super(source);
+        requireAllNonNull(source, comparator);
+        this.comparator = comparator;
+        sortedPersons.addAll(sortSource());
+    }
+
+    public Comparator<? super Person> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Sorts the whole view by {@code comparator}, and keeps it sorted by {@code comparator} from now on.
+     */
+    public void setComparator(Comparator<? super Person> comparator) {
+        requireNonNull(comparator);
+        this.comparator = comparator;
+        sortAgain();
+    }
+
+    @Override
+    public Person get(int index) {
+        return sortedPersons.get(index);
+    }
+
+    @Override
+    public int size() {
+        return sortedPersons.size();
+    }
+
+    /**
+     * Returns the index in the source list of the person at {@code index} in this view.
+     * This searches the source list, so it takes O(n) time.
+     */
+    @Override
+    public int getSourceIndex(int index) {
+        return getSource().indexOf(sortedPersons.get(index));
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return indexOfSorted(getSource().get(index));
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends Person> change) {
+        int changedCount = countChangedPersons(change);
+        if (changedCount < 0) {
+            sortAgain();
+            return;
+        }
+        if (changedCount > MAX_INCREMENTAL_CHANGE_SIZE) {
+            merge(change);
+            return;
+        }
+
+        change.reset();
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                // The same persons are still in the list, and their order does not depend on the source list
+                continue;
+            }
+            for (Person removed : change.getRemoved()) {
+                int index = indexOfSorted(removed);
+                sortedPersons.remove(index);
+                nextRemove(index, removed);
+            }
+            for (Person added : change.getAddedSubList()) {
+                int index = insertionIndexOf(added);
+                sortedPersons.add(index, added);
+                nextAdd(index, index + 1);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Returns the number of persons {@code change} adds and removes,
+     * or -1 if it updates persons, as the view must then be sorted again.
+     */
+    private static int countChangedPersons(ListChangeListener.Change<? extends Person> change) {
+        int changedCount = 0;
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                // An updated person may now belong elsewhere, but its old place can no longer be worked out
+                return -1;
+            }
+            if (!change.wasPermutated()) {
+                changedCount += change.getRemovedSize() + change.getAddedSize();
+            }
+        }
+        return changedCount;
+    }
+
+    private void sortAgain() {
+        replaceSortedPersons(sortSource());
+    }
+
+    /**
+     * Removes the persons {@code change} removes from the view, sorts the persons it adds, and merges them into the
+     * rest of the view. Each added person is placed with a binary search, so this takes O(k log n) comparisons for
+     * k changed persons, and O(n) time to copy the view.
+     */
+    private void merge(ListChangeListener.Change<? extends Person> change) {
+        Set<Person> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Person> added = new ArrayList<>();
+        change.reset();
+        while (change.next()) {
+            if (!change.wasPermutated()) {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        }
+        Person[] sortedAdded = added.toArray(new Person[0]);
+        sort(sortedAdded);
+
+        List<Person> kept = new ArrayList<>(sortedPersons.size());
+        for (Person person : sortedPersons) {
+            if (!removed.contains(person)) {
+                kept.add(person);
+            }
+        }
+        List<Person> merged = new ArrayList<>(kept.size() + sortedAdded.length);
+        int keptIndex = 0;
+        for (Person person : sortedAdded) {
+            int index = insertionIndexOf(kept, keptIndex, person);
+            merged.addAll(kept.subList(keptIndex, index));
+            merged.add(person);
+            keptIndex = index;
+        }
+        merged.addAll(kept.subList(keptIndex, kept.size()));
+        replaceSortedPersons(merged);
+    }
+
+    /**
+     * Replaces the contents of the view with {@code persons}, and reports the span in which they differ as replaced.
+     */
+    private void replaceSortedPersons(List<Person> persons) {
+        int from = 0;
+        while (from < sortedPersons.size() && from < persons.size() && sortedPersons.get(from) == persons.get(from)) {
+            from++;
+        }
+        int removedTo = sortedPersons.size();
+        int addedTo = persons.size();
+        while (removedTo > from && addedTo > from && sortedPersons.get(removedTo - 1) == persons.get(addedTo - 1)) {
+            removedTo--;
+            addedTo--;
+        }
+        if (from == removedTo && from == addedTo) {
+            return;
+        }
+
+        List<Person> removed = new ArrayList<>(sortedPersons.subList(from, removedTo));
+        beginChange();
+        sortedPersons.clear();
+        sortedPersons.addAll(persons);
+        nextReplace(from, addedTo, removed);
+        endChange();
+    }
+
+    private List<Person> sortSource() {
+        Person[] persons = getSource().toArray(new Person[0]);
+        sort(persons);
+        return Arrays.asList(persons);
+    }
+
+    private void sort(Person[] persons) {
+        if (comparator instanceof PersonSortOrder) {
+            ((PersonSortOrder) comparator).sort(persons);
+        } else {
+            Arrays.parallelSort(persons, comparator);
+        }
+    }
+
+    /**
+     * Returns the index of {@code person} in this view.
+     */
+    private int indexOfSorted(Person person) {
+        int index = Collections.binarySearch(sortedPersons, person, comparator);
+        if (index >= 0) {
+            // Other persons the comparator finds equal are next to it
+            for (int i = index; i >= 0 && comparator.compare(sortedPersons.get(i), person) == 0; i--) {
+                if (sortedPersons.get(i) == person) {
+                    return i;
+                }
+            }
+            for (int i = index + 1; i < sortedPersons.size()
+                    && comparator.compare(sortedPersons.get(i), person) == 0; i++) {
+                if (sortedPersons.get(i) == person) {
+                    return i;
+                }
+            }
+        }
+
+        // The comparator no longer orders the person where it was placed, so the whole view is searched
+        for (int i = 0; i < sortedPersons.size(); i++) {
+            if (sortedPersons.get(i) == person) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index at which {@code person} belongs in this view, after any persons the comparator finds equal.
+     */
+    private int insertionIndexOf(Person person) {
+        return insertionIndexOf(sortedPersons, 0, person);
+    }
+
+    /**
+     * Returns the index at which {@code person} belongs in the sorted list {@code persons}, no earlier than
+     * {@code from}, after any persons the comparator finds equal.
+     */
+    private int insertionIndexOf(List<Person> persons, int from, Person person) {
+        int low = from;
+        int high = persons.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(persons.get(middle), person) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -3,35 +3,53 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.search.IndexedSearchPredicate;
+import seedu.address.model.search.PersonSearchIndex;
 import seedu.address.model.tag.Tag;
 
 /**
  * Tests that a {@code Person}'s {@code Tag} matches any of the keywords given.
  */
-public class TagContainsKeywordsPredicate implements Predicate<Person> {
+public class TagContainsKeywordsPredicate implements IndexedSearchPredicate {
     private final List<String> keywords;
+    private final String[] searchKeywords;
+    // Kept so that testing a person does not create a new matcher every time
+    private final Predicate<Tag> tagMatcher = this::isMatchingTag;
 
     /**
      * creates a predicate that checks if a person's tags contains any of the given keyword
      * @param keywords list of keywords to match; cannot be null
+     * @throws IllegalArgumentException if any keyword is empty or contains multiple words.
      */
     public TagContainsKeywordsPredicate(List<String> keywords) {
         requireNonNull(keywords);
         this.keywords = keywords;
+        this.searchKeywords = keywords.stream().map(StringUtil::toSearchKeyword).toArray(String[]::new);
     }
 
     @Override
     public boolean test(Person person) {
-        return person.getTags().stream()
-                .map(Tag::getTagName)
-                .anyMatch(tagName ->
-                        keywords.stream()
-                                .anyMatch(keyword -> StringUtil.hasWordStartingWithIgnoreCase(tagName, keyword))
-                );
+        return person.hasTagMatching(tagMatcher);
+    }
+
+    private boolean isMatchingTag(Tag tag) {
+        String tagKey = tag.getSearchKey();
+        for (String searchKeyword : searchKeywords) {
+            if (StringUtil.hasWordStartingWith(tagKey, searchKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Set<Person> findMatches(PersonSearchIndex index) {
+        return index.findByTagKeywords(keywords);
     }
 
     @Override
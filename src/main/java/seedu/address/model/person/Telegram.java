@@ -34,6 +34,19 @@ public class Telegram {
         value = lowerCaseUsername;
     }
 
+    private Telegram(String username, boolean isValidated) {
+        assert isValidated && isValidTelegram(username);
+        value = username;
+    }
+
+    /**
+     * Returns a {@code Telegram} of a nullable, lowercase Telegram username that has already been validated, without
+     * validating it again.
+     */
+    static Telegram ofValidated(String username) {
+        return new Telegram(username, true);
+    }
+
     /**
      * Returns true if a given string is a valid Telegram username.
      */
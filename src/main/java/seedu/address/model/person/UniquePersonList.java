@@ -3,11 +3,21 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -19,21 +29,40 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * as to ensure that the person with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * An identity index keyed on each person's {@code Name} is kept alongside the list, so that identity checks do not
+ * need to scan the list.
+ * The contents of the list are also kept in a {@code PersistentList}, so that a snapshot of the list can be taken
+ * in constant time, and each change only costs O(log n) extra memory in the snapshots that are kept.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final ObservablePersonArrayList internalList = new ObservablePersonArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, IndexEntry> identityIndex = new HashMap<>();
+    private long nextSequence = 0;
+    private PersistentList<Person> snapshot = PersistentList.empty();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the insertion sequence number of {@code person}.
+     * Sequence numbers increase in the order persons were added, and an edited person keeps the sequence number of
+     * the person it replaced, so ordering persons by sequence number gives the order of the list.
+     * Returns -1 if no person with the same identity exists in the list.
+     */
+    public long getInsertionSequence(Person person) {
+        requireNonNull(person);
+        IndexEntry entry = identityIndex.get(person.getName());
+        return entry == null ? -1 : entry.sequence;
     }
 
     /**
@@ -45,9 +74,30 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        identityIndex.put(toAdd.getName(), new IndexEntry(toAdd, nextSequence++));
+        snapshot = snapshot.add(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds all of {@code toAdd} to the end of the list, in order, as a single change of the list.
+     * None of the persons may already exist in the list, and {@code toAdd} must not contain duplicate persons.
+     * If either is not the case, the list is left unchanged.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<Name, IndexEntry> addedIndex = buildIdentityIndex(toAdd);
+        if (addedIndex == null || addedIndex.keySet().stream().anyMatch(identityIndex::containsKey)) {
+            throw new DuplicatePersonException();
+        }
+
+        for (Person person : toAdd) {
+            identityIndex.put(person.getName(), new IndexEntry(person, nextSequence++));
+            snapshot = snapshot.add(person);
+        }
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -56,8 +106,8 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        IndexEntry targetEntry = identityIndex.get(target.getName());
+        if (targetEntry == null || !target.equals(targetEntry.person)) {
             throw new PersonNotFoundException();
         }
 
@@ -65,7 +115,70 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        // The index is updated before the list so that listeners sorting by sequence number see the edited person,
+        // and the target is only removed from it afterwards so that they can still find where the target was placed
+        int index = indexOfSequence(targetEntry.sequence);
+        identityIndex.put(editedPerson.getName(), new IndexEntry(editedPerson, targetEntry.sequence));
+        snapshot = snapshot.set(index, editedPerson);
         internalList.set(index, editedPerson);
+        if (!target.isSamePerson(editedPerson)) {
+            identityIndex.remove(target.getName());
+        }
+    }
+
+    /**
+     * Replaces each key of {@code replacements} in the list with the person it maps to, as a single change of the
+     * list. Every key must exist in the list, and the edited persons must not share an identity with each other or
+     * with a person that is not being replaced. If either is not the case, the list is left unchanged.
+     * Each edited person keeps the position and insertion sequence number of the person it replaces.
+     * The change only covers the replaced positions, so replacing k persons takes O(k log n) time here and in the
+     * listeners of the list.
+     */
+    public void replacePersons(Map<Person, Person> replacements) {
+        requireNonNull(replacements);
+        requireAllNonNull(replacements.keySet());
+        requireAllNonNull(replacements.values());
+        if (replacements.isEmpty()) {
+            return;
+        }
+
+        Map<Person, IndexEntry> targetEntries = new HashMap<>();
+        for (Person target : replacements.keySet()) {
+            IndexEntry existing = identityIndex.get(target.getName());
+            if (existing == null || !target.equals(existing.person)) {
+                throw new PersonNotFoundException();
+            }
+            targetEntries.put(target, existing);
+        }
+        Set<Name> editedNames = new HashSet<>();
+        for (Person editedPerson : replacements.values()) {
+            IndexEntry existing = identityIndex.get(editedPerson.getName());
+            boolean isOfPersonNotReplaced = existing != null && !replacements.containsKey(existing.person);
+            if (!editedNames.add(editedPerson.getName()) || isOfPersonNotReplaced) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        SortedMap<Integer, Person> editedPersonsByIndex = new TreeMap<>();
+        for (Map.Entry<Person, Person> replacement : replacements.entrySet()) {
+            int index = indexOfSequence(targetEntries.get(replacement.getKey()).sequence);
+            editedPersonsByIndex.put(index, replacement.getValue());
+        }
+
+        // As in setPerson, the index is updated before the list, and targets are only removed from it afterwards
+        for (Map.Entry<Person, Person> replacement : replacements.entrySet()) {
+            Person editedPerson = replacement.getValue();
+            long sequence = targetEntries.get(replacement.getKey()).sequence;
+            identityIndex.put(editedPerson.getName(), new IndexEntry(editedPerson, sequence));
+        }
+        for (Map.Entry<Integer, Person> edit : editedPersonsByIndex.entrySet()) {
+            snapshot = snapshot.set(edit.getKey(), edit.getValue());
+        }
+        internalList.setEach(editedPersonsByIndex);
+        for (Map.Entry<Person, IndexEntry> targetEntry : targetEntries.entrySet()) {
+            // Skipped if an edited person has taken over the identity of the target
+            identityIndex.remove(targetEntry.getKey().getName(), targetEntry.getValue());
+        }
     }
 
     /**
@@ -74,13 +187,23 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        IndexEntry existing = identityIndex.get(toRemove.getName());
+        if (existing == null || !toRemove.equals(existing.person)) {
             throw new PersonNotFoundException();
         }
+        int index = indexOfSequence(existing.sequence);
+        snapshot = snapshot.remove(index);
+        internalList.remove(index);
+        // As in setPerson, listeners can still look up the sequence number of the removed person
+        identityIndex.remove(toRemove.getName());
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
+        nextSequence = replacement.nextSequence;
+        snapshot = replacement.snapshot;
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,10 +213,40 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<Name, IndexEntry> replacementIndex = buildIdentityIndex(persons);
+        if (replacementIndex == null) {
             throw new DuplicatePersonException();
         }
 
+        identityIndex.clear();
+        identityIndex.putAll(replacementIndex);
+        nextSequence = persons.size();
+        snapshot = PersistentList.of(persons);
+        internalList.setAll(persons);
+    }
+
+    /**
+     * Returns an immutable snapshot of the current contents of the list, in constant time.
+     * Later changes to this list do not affect the snapshot.
+     */
+    public PersistentList<Person> getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Replaces the contents of this list with the contents of {@code snapshot}, as a single change of the list.
+     * Persons are numbered in list order, as in {@link #setPersons(List)}.
+     */
+    public void restoreSnapshot(PersistentList<Person> snapshot) {
+        requireNonNull(snapshot);
+        List<Person> persons = snapshot.toList();
+        Map<Name, IndexEntry> snapshotIndex = buildIdentityIndex(persons);
+        assert snapshotIndex != null : "a snapshot of the list cannot contain duplicate persons";
+
+        identityIndex.clear();
+        identityIndex.putAll(snapshotIndex);
+        nextSequence = persons.size();
+        this.snapshot = snapshot;
         internalList.setAll(persons);
     }
 
@@ -106,7 +259,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -135,16 +288,131 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the index of the person with insertion sequence number {@code sequence}, which must be in the list.
+     * Sequence numbers increase along the list, so the person is found with a binary search in O(log n) time.
+     */
+    private int indexOfSequence(long sequence) {
+        int low = 0;
+        int high = internalList.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long middleSequence = identityIndex.get(internalList.get(middle).getName()).sequence;
+            if (middleSequence < sequence) {
+                low = middle + 1;
+            } else if (middleSequence > sequence) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        throw new AssertionError("a person in the identity index must be in the list");
+    }
+
+    /**
+     * Returns an identity index of {@code persons} numbered in list order,
+     * or null if {@code persons} contains duplicate persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Name, IndexEntry> buildIdentityIndex(List<Person> persons) {
+        Map<Name, IndexEntry> index = new HashMap<>();
+        long sequence = 0;
+        for (Person person : persons) {
+            if (index.putIfAbsent(person.getName(), new IndexEntry(person, sequence++)) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
+    }
+
+    /**
+     * An entry of the identity index, holding the stored person and its insertion sequence number.
+     */
+    private static class IndexEntry {
+        private final Person person;
+        private final long sequence;
+
+        IndexEntry(Person person, long sequence) {
+            this.person = person;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * An observable list of persons backed by an {@code ArrayList}, which can also replace persons at several
+     * positions in a single change that only covers those positions.
+     */
+    private static class ObservablePersonArrayList extends ObservableListBase<Person> {
+        private final List<Person> persons = new ArrayList<>();
+
+        @Override
+        public Person get(int index) {
+            return persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+
+        @Override
+        public void add(int index, Person person) {
+            beginChange();
+            persons.add(index, person);
+            nextAdd(index, index + 1);
+            endChange();
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends Person> toAdd) {
+            if (toAdd.isEmpty()) {
+                return false;
+            }
+            beginChange();
+            int from = persons.size();
+            persons.addAll(toAdd);
+            nextAdd(from, persons.size());
+            endChange();
+            return true;
+        }
+
+        @Override
+        public Person set(int index, Person person) {
+            beginChange();
+            Person replaced = persons.set(index, person);
+            nextSet(index, replaced);
+            endChange();
+            return replaced;
+        }
+
+        /**
+         * Replaces the person at each key of {@code personsByIndex} with the person it maps to, as a single change.
+         */
+        void setEach(SortedMap<Integer, Person> personsByIndex) {
+            beginChange();
+            for (Map.Entry<Integer, Person> edit : personsByIndex.entrySet()) {
+                int index = edit.getKey();
+                nextSet(index, persons.set(index, edit.getValue()));
+            }
+            endChange();
+        }
+
+        @Override
+        public Person remove(int index) {
+            beginChange();
+            Person removed = persons.remove(index);
+            nextRemove(index, removed);
+            endChange();
+            return removed;
+        }
+
+        @Override
+        public boolean setAll(Collection<? extends Person> replacement) {
+            beginChange();
+            List<Person> replaced = new ArrayList<>(persons);
+            persons.clear();
+            persons.addAll(replacement);
+            nextReplace(0, persons.size(), replaced);
+            endChange();
+            return true;
+        }
     }
 }
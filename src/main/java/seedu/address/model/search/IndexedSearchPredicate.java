@@ -0,0 +1,18 @@
+package seedu.address.model.search;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Predicate} on persons whose matches can also be looked up in a {@code PersonSearchIndex}.
+ */
+public interface IndexedSearchPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the persons in {@code index} that satisfy this predicate.
+     * The returned set compares persons by identity.
+     */
+    Set<Person> findMatches(PersonSearchIndex index);
+}
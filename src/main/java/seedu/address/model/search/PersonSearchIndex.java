@@ -0,0 +1,145 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Indexes the words of every person's name and the persons with each tag, so that persons with a word starting with
+ * a keyword, or with a given tag, can be found without testing every person in the list.
+ * The index follows the changes of the person list it is built on. Words are matched the same way as
+ * {@link StringUtil#hasWordStartingWithIgnoreCase(String, String)} matches them.
+ */
+public class PersonSearchIndex {
+
+    private final WordPrefixIndex<Person> nameIndex = new WordPrefixIndex<>();
+    // Tag names are single words, so only the tags in use are indexed rather than every person with them
+    private final WordPrefixIndex<Tag> tagNameIndex = new WordPrefixIndex<>();
+    // Indexed by tag id, with null for tags no person has
+    private final List<Set<Person>> personsByTagId = new ArrayList<>();
+
+    /**
+     * Creates a {@code PersonSearchIndex} containing the persons in {@code persons}, which is kept up to date with
+     * subsequent changes to {@code persons}.
+     */
+    public PersonSearchIndex(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::addPerson);
+        persons.addListener(this::onPersonsChanged);
+    }
+
+    /**
+     * Returns the persons with a word in their name starting with any of {@code keywords}, ignoring case.
+     * The returned set compares persons by identity.
+     *
+     * @throws IllegalArgumentException if any keyword is empty or contains multiple words.
+     */
+    public Set<Person> findByNameKeywords(List<String> keywords) {
+        return find(nameIndex, keywords);
+    }
+
+    /**
+     * Returns the persons with a word in any of their tags starting with any of {@code keywords}, ignoring case.
+     * The returned set compares persons by identity.
+     *
+     * @throws IllegalArgumentException if any keyword is empty or contains multiple words.
+     */
+    public Set<Person> findByTagKeywords(List<String> keywords) {
+        Set<Person> results = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Tag tag : find(tagNameIndex, keywords)) {
+            results.addAll(findByTag(tag));
+        }
+        return results;
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons with {@code tag}, which compares persons by identity.
+     */
+    public Set<Person> findByTag(Tag tag) {
+        requireNonNull(tag);
+        Set<Person> persons = getPersonsWithTag(tag);
+        return persons == null ? Collections.emptySet() : Collections.unmodifiableSet(persons);
+    }
+
+    /**
+     * Returns the number of persons with {@code tag}.
+     */
+    public int getTagUsageCount(Tag tag) {
+        requireNonNull(tag);
+        Set<Person> persons = getPersonsWithTag(tag);
+        return persons == null ? 0 : persons.size();
+    }
+
+    private Set<Person> getPersonsWithTag(Tag tag) {
+        return tag.getId() < personsByTagId.size() ? personsByTagId.get(tag.getId()) : null;
+    }
+
+    private static <T> Set<T> find(WordPrefixIndex<T> index, List<String> keywords) {
+        requireNonNull(keywords);
+        Set<T> results = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            index.collectValuesWithWordStartingWith(StringUtil.toSearchKeyword(keyword), results);
+        }
+        return results;
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                // The same persons are still in the list
+                continue;
+            }
+            change.getRemoved().forEach(this::removePerson);
+            change.getAddedSubList().forEach(this::addPerson);
+        }
+    }
+
+    private void addPerson(Person person) {
+        for (String word : toWords(person.getName().getIdentityKey())) {
+            nameIndex.add(word, person);
+        }
+        for (Tag tag : person.getTags()) {
+            while (personsByTagId.size() <= tag.getId()) {
+                personsByTagId.add(null);
+            }
+            Set<Person> persons = personsByTagId.get(tag.getId());
+            if (persons == null) {
+                persons = Collections.newSetFromMap(new IdentityHashMap<>());
+                personsByTagId.set(tag.getId(), persons);
+                tagNameIndex.add(tag.getSearchKey(), tag);
+            }
+            persons.add(person);
+        }
+    }
+
+    private void removePerson(Person person) {
+        for (String word : toWords(person.getName().getIdentityKey())) {
+            nameIndex.remove(word, person);
+        }
+        for (Tag tag : person.getTags()) {
+            Set<Person> persons = getPersonsWithTag(tag);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                personsByTagId.set(tag.getId(), null);
+                tagNameIndex.remove(tag.getSearchKey(), tag);
+            }
+        }
+    }
+
+    private static String[] toWords(String searchKey) {
+        return searchKey.trim().split("\\s+");
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.model.search;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An inverted index from lowercase words to the values containing them, such as persons or tags.
+ * Words are kept in sorted order, so all words starting with a prefix form a contiguous range that can be visited
+ * without looking at any other word. Values are compared by identity.
+ *
+ * @param <T> the type of the values indexed.
+ */
+class WordPrefixIndex<T> {
+
+    private final TreeMap<String, Set<T>> postings = new TreeMap<>();
+
+    /**
+     * Records that {@code value} contains {@code word}.
+     */
+    void add(String word, T value) {
+        postings.computeIfAbsent(word, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(value);
+    }
+
+    /**
+     * Removes the record that {@code value} contains {@code word}, if any.
+     */
+    void remove(String word, T value) {
+        Set<T> values = postings.get(word);
+        if (values == null) {
+            return;
+        }
+        values.remove(value);
+        if (values.isEmpty()) {
+            postings.remove(word);
+        }
+    }
+
+    /**
+     * Adds every value containing a word that starts with {@code prefix} to {@code results}.
+     */
+    void collectValuesWithWordStartingWith(String prefix, Set<T> results) {
+        for (Map.Entry<String, Set<T>> entry : postings.tailMap(prefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            results.addAll(entry.getValue());
+        }
+    }
+
+    /**
+     * Returns the number of distinct words in the index.
+     */
+    int size() {
+        return postings.size();
+    }
+}
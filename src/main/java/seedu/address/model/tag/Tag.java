@@ -1,11 +1,13 @@
 package seedu.address.model.tag;
 
-import static java.util.Objects.requireNonNull;
-import static seedu.address.commons.util.AppUtil.checkArgument;
+import seedu.address.commons.util.StringUtil;
 
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ * <p>
+ * Every tag name is registered with the {@link TagRegistry}, which gives it an id. Tags with the same name have the
+ * same id, so tags are compared by id.
  */
 public class Tag {
 
@@ -15,15 +17,41 @@ public class Tag {
 
     public final String tagName;
 
+    private final int id;
+    private final String searchKey;
+
     /**
      * Constructs a {@code Tag}.
+     * Prefer {@link #of(String)}, which returns the shared tag instead of a copy of it.
      *
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
-        requireNonNull(tagName);
-        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
+        this(TagRegistry.getInstance().intern(tagName));
+    }
+
+    private Tag(Tag registeredTag) {
+        this.tagName = registeredTag.tagName;
+        this.id = registeredTag.id;
+        this.searchKey = registeredTag.searchKey;
+    }
+
+    /**
+     * Constructs the {@code Tag} registered with {@code id}. Only used by {@link TagRegistry}.
+     */
+    Tag(String tagName, int id) {
         this.tagName = tagName;
+        this.id = id;
+        this.searchKey = StringUtil.toSearchKey(tagName);
+    }
+
+    /**
+     * Returns the shared {@code Tag} named {@code tagName}.
+     *
+     * @throws IllegalArgumentException if {@code tagName} is not a valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return TagRegistry.getInstance().intern(tagName);
     }
 
     /**
@@ -45,7 +73,7 @@ public class Tag {
         }
 
         Tag otherTag = (Tag) other;
-        return tagName.equals(otherTag.tagName);
+        return id == otherTag.id;
     }
 
     @Override
@@ -69,4 +97,18 @@ public class Tag {
         return tagName;
     }
 
+    /**
+     * Returns the id the {@link TagRegistry} gave to the name of this tag.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the case-folded name of this tag, as given by {@link StringUtil#toSearchKey(String)}.
+     */
+    public String getSearchKey() {
+        return searchKey;
+    }
+
 }
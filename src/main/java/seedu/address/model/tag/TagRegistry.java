@@ -0,0 +1,87 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The dictionary of every tag name the app has seen, which hands out one shared {@code Tag} for each name.
+ * Each tag is given a small id in the order its name was first seen, so that a set of tags can be stored as a sorted
+ * array of ids (see {@link TagSet}) and a tag can be looked up by its id in constant time.
+ * Tags are never removed, as there are few distinct tag names compared to the number of persons using them.
+ * <p>
+ * Tags can be interned from any thread.
+ */
+public final class TagRegistry {
+
+    private static final TagRegistry INSTANCE = new TagRegistry();
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Map<String, Tag> tagsByName = new ConcurrentHashMap<>();
+
+    // Replaced by a larger copy when full, and only written while holding the lock on this registry
+    private volatile Tag[] tagsById = new Tag[INITIAL_CAPACITY];
+    private int size;
+
+    private TagRegistry() {}
+
+    public static TagRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the shared {@code Tag} named {@code tagName}, registering it if it has not been seen before.
+     *
+     * @throws IllegalArgumentException if {@code tagName} is not a valid tag name.
+     */
+    public Tag intern(String tagName) {
+        requireNonNull(tagName);
+        Tag tag = tagsByName.get(tagName);
+        if (tag != null) {
+            // Only valid names are ever registered
+            return tag;
+        }
+        checkArgument(Tag.isValidTagName(tagName), Tag.MESSAGE_CONSTRAINTS);
+        return register(tagName);
+    }
+
+    private synchronized Tag register(String tagName) {
+        Tag tag = tagsByName.get(tagName);
+        if (tag != null) {
+            // Registered by another thread in the meantime
+            return tag;
+        }
+
+        tag = new Tag(tagName, size);
+        Tag[] updatedTagsById = size < tagsById.length ? tagsById : Arrays.copyOf(tagsById, size * 2);
+        updatedTagsById[size++] = tag;
+        tagsById = updatedTagsById;
+        // Published after the id can be looked up, so that any thread holding the tag can look up its id
+        tagsByName.put(tagName, tag);
+        return tag;
+    }
+
+    /**
+     * Returns the tag with the given {@code id}.
+     *
+     * @throws IllegalArgumentException if no tag has been given {@code id}.
+     */
+    public Tag getTag(int id) {
+        Tag[] tags = tagsById;
+        if (id < 0 || id >= tags.length || tags[id] == null) {
+            throw new IllegalArgumentException("Unknown tag id: " + id);
+        }
+        return tags[id];
+    }
+
+    /**
+     * Returns the number of distinct tags registered so far.
+     */
+    public int size() {
+        return tagsByName.size();
+    }
+}
@@ -0,0 +1,154 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags, stored as the sorted ids the {@link TagRegistry} gave them.
+ * Takes a few bytes per tag, where a {@code HashSet} takes an entry object per tag and a table besides, and checks
+ * whether it contains a tag with a binary search. Tags are iterated over in the order their names were first seen.
+ * Every method that would modify the set throws {@code UnsupportedOperationException}.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    public static final TagSet EMPTY = new TagSet(new int[0]);
+
+    private final int[] ids;
+
+    private TagSet(int[] ids) {
+        this.ids = ids;
+    }
+
+    /**
+     * Returns a {@code TagSet} containing the tags in {@code tags}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        int[] ids = new int[tags.size()];
+        int count = 0;
+        for (Tag tag : tags) {
+            ids[count++] = tag.getId();
+        }
+        Arrays.sort(ids);
+        int distinctCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinctCount == 0 || ids[distinctCount - 1] != ids[i]) {
+                ids[distinctCount++] = ids[i];
+            }
+        }
+        return new TagSet(distinctCount == ids.length ? ids : Arrays.copyOf(ids, distinctCount));
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Tag && Arrays.binarySearch(ids, ((Tag) o).getId()) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < ids.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return TagRegistry.getInstance().getTag(ids[next++]);
+            }
+        };
+    }
+
+    /**
+     * Returns true if any tag in this set satisfies {@code condition}, going through the tags without an iterator.
+     */
+    public boolean anyMatch(Predicate<? super Tag> condition) {
+        requireNonNull(condition);
+        TagRegistry registry = TagRegistry.getInstance();
+        for (int id : ids) {
+            if (condition.test(registry.getTag(id))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (other instanceof TagSet) {
+            return Arrays.equals(ids, ((TagSet) other).ids);
+        }
+
+        // Compares with any other kind of set by its tags
+        return other instanceof Set && super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        // Same as the hash code of any other set of the same tags
+        return super.hashCode();
+    }
+}
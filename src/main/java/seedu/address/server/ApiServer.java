@@ -0,0 +1,359 @@
+package seedu.address.server;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandPipeline;
+import seedu.address.logic.Logic;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ConfirmCommand;
+import seedu.address.logic.commands.ConfirmationPendingResult;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.LaunchCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.storage.JsonAdaptedPerson;
+
+/**
+ * Serves the address book over HTTP to other programs on the same machine.
+ * <p>
+ * The server only listens on the loopback address and has these endpoints:
+ * <ul>
+ * <li>{@code GET /api/persons} lists every person, or only those found by the {@code name} or {@code tag} keywords
+ *     in the query, as {@code find} does.</li>
+ * <li>{@code GET /api/persons/INDEX} returns the person at {@code INDEX}.</li>
+ * <li>{@code POST /api/commands} executes the command in the request body, such as {@code add} or {@code delete}.
+ *     Commands that ask for confirmation are only carried out if the query has {@code confirm=yes}.</li>
+ * </ul>
+ * Each request is handled on its own thread. Reads are served from the latest {@code PersonSnapshot}, so they do not
+ * wait for each other or for commands. Commands are executed one at a time on the worker of a
+ * {@code CommandPipeline}, which publishes a new snapshot after each of them.
+ */
+public class ApiServer {
+    public static final String PERSONS_PATH = "/api/persons";
+    public static final String COMMANDS_PATH = "/api/commands";
+    public static final String PARAMETER_NAME = "name";
+    public static final String PARAMETER_TAG = "tag";
+    public static final String PARAMETER_CONFIRM = "confirm";
+
+    public static final String MESSAGE_NOT_FOUND = "No such endpoint: %s";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%s is not supported here, use %s";
+    public static final String MESSAGE_EMPTY_KEYWORDS = "The %s parameter needs at least one keyword";
+    public static final String MESSAGE_MULTIPLE_SEARCH_PARAMETERS =
+            "Only one of the " + PARAMETER_NAME + " and " + PARAMETER_TAG + " parameters can be used at a time";
+    public static final String MESSAGE_EMPTY_COMMAND = "The request body must contain a command";
+    public static final String MESSAGE_UNSUPPORTED_COMMAND =
+            "The %s command cannot be used here. Use GET " + PERSONS_PATH + " to list or find contacts.";
+    public static final String MESSAGE_CONFIRMATION_REQUIRED = "%s\nThe command was not carried out. Send it again"
+            + " with " + PARAMETER_CONFIRM + "=" + ConfirmCommand.USER_INPUT_CONFIRM_ALT + " to carry it out.";
+    public static final String MESSAGE_INTERNAL_ERROR = "The request could not be handled due to an internal error";
+
+    /**
+     * Commands that only change what the app displays or do nothing without the app window.
+     * They would also change the persons that the indexes in later commands refer to.
+     */
+    private static final Set<String> UNSUPPORTED_COMMAND_WORDS = Set.of(ListCommand.COMMAND_WORD,
+            FindCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD, LaunchCommand.COMMAND_WORD);
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private static final int STOP_DELAY_SECONDS = 1;
+
+    static {
+        // The server sends the headers and body of a response separately, so with Nagle's algorithm on, responses on
+        // kept-alive connections wait about 40 ms for the client to acknowledge the headers. Read by the first server.
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final Logic logic;
+    private final CommandPipeline pipeline;
+    private final HttpServer server;
+    private final ExecutorService requestThreads;
+
+    private volatile PersonSnapshot snapshot;
+
+    /**
+     * Creates an {@code ApiServer} on {@code port} of the loopback address, or on a free port if {@code port} is 0,
+     * that executes commands through {@code pipeline} and reads persons from {@code logic}.
+     * Once the server is started, the model should only be changed through {@code pipeline}.
+     *
+     * @throws IOException if the port cannot be used.
+     */
+    public ApiServer(Logic logic, CommandPipeline pipeline, int port) throws IOException {
+        requireAllNonNull(logic, pipeline);
+        this.logic = logic;
+        this.pipeline = pipeline;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        AtomicInteger threadCount = new AtomicInteger();
+        requestThreads = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "api-request-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(requestThreads);
+        server.createContext(PERSONS_PATH, exchange -> handle(exchange, this::handlePersons));
+        server.createContext(COMMANDS_PATH, exchange -> handle(exchange, this::handleCommands));
+    }
+
+    /**
+     * Starts serving requests.
+     */
+    public void start() {
+        snapshot = new PersonSnapshot(logic.getAddressBookSnapshot());
+        server.start();
+        logger.info("Serving the address book at " + getAddress());
+    }
+
+    /**
+     * Stops serving requests, giving requests that are being handled a moment to finish.
+     */
+    public void stop() {
+        server.stop(STOP_DELAY_SECONDS);
+        requestThreads.shutdown();
+        try {
+            requestThreads.awaitTermination(STOP_DELAY_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the address that the server listens on.
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    private Response handlePersons(HttpExchange exchange) {
+        String method = exchange.getRequestMethod();
+        if (!method.equals("GET")) {
+            return Response.error(HttpURLConnection.HTTP_BAD_METHOD,
+                    String.format(MESSAGE_METHOD_NOT_ALLOWED, method, "GET"));
+        }
+
+        String path = exchange.getRequestURI().getPath();
+        if (path.equals(PERSONS_PATH) || path.equals(PERSONS_PATH + "/")) {
+            return findPersons(parseQuery(exchange.getRequestURI().getRawQuery()));
+        }
+        String index = path.startsWith(PERSONS_PATH + "/") ? path.substring(PERSONS_PATH.length() + 1) : "";
+        if (!index.isEmpty() && !index.contains("/")) {
+            return getPerson(index);
+        }
+        return Response.error(HttpURLConnection.HTTP_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, path));
+    }
+
+    private Response findPersons(Map<String, String> query) {
+        boolean hasName = query.containsKey(PARAMETER_NAME);
+        boolean hasTag = query.containsKey(PARAMETER_TAG);
+        if (hasName && hasTag) {
+            return Response.error(HttpURLConnection.HTTP_BAD_REQUEST, MESSAGE_MULTIPLE_SEARCH_PARAMETERS);
+        }
+
+        List<Person> persons = snapshot.getPersons();
+        if (hasName || hasTag) {
+            String parameter = hasName ? PARAMETER_NAME : PARAMETER_TAG;
+            List<String> keywords = splitKeywords(query.get(parameter));
+            if (keywords.isEmpty()) {
+                return Response.error(HttpURLConnection.HTTP_BAD_REQUEST,
+                        String.format(MESSAGE_EMPTY_KEYWORDS, parameter));
+            }
+            Predicate<Person> predicate = hasName
+                    ? new NameContainsKeywordsPredicate(keywords)
+                    : new TagContainsKeywordsPredicate(keywords);
+            persons = persons.stream().filter(predicate).collect(Collectors.toList());
+        }
+
+        List<JsonAdaptedPerson> body = persons.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList());
+        return Response.ok(Map.of("persons", body));
+    }
+
+    private Response getPerson(String oneBasedIndex) {
+        List<Person> persons = snapshot.getPersons();
+        Index index;
+        try {
+            index = ParserUtil.parseIndex(oneBasedIndex);
+        } catch (ParseException pe) {
+            return Response.error(HttpURLConnection.HTTP_BAD_REQUEST, pe.getMessage());
+        }
+
+        if (index.getZeroBased() >= persons.size()) {
+            return Response.error(HttpURLConnection.HTTP_NOT_FOUND, String.format(
+                    Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, index.getOneBased(), persons.size()));
+        }
+        return Response.ok(new JsonAdaptedPerson(persons.get(index.getZeroBased())));
+    }
+
+    private Response handleCommands(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        if (!path.equals(COMMANDS_PATH)) {
+            return Response.error(HttpURLConnection.HTTP_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, path));
+        }
+        if (!method.equals("POST")) {
+            return Response.error(HttpURLConnection.HTTP_BAD_METHOD,
+                    String.format(MESSAGE_METHOD_NOT_ALLOWED, method, "POST"));
+        }
+
+        String commandText;
+        try (InputStream body = exchange.getRequestBody()) {
+            commandText = new String(body.readAllBytes(), StandardCharsets.UTF_8).trim();
+        }
+        if (commandText.isEmpty()) {
+            return Response.error(HttpURLConnection.HTTP_BAD_REQUEST, MESSAGE_EMPTY_COMMAND);
+        }
+        String commandWord = commandText.split("\\s+", 2)[0];
+        if (UNSUPPORTED_COMMAND_WORDS.contains(commandWord)) {
+            return Response.error(HttpURLConnection.HTTP_BAD_REQUEST,
+                    String.format(MESSAGE_UNSUPPORTED_COMMAND, commandWord));
+        }
+
+        String confirm = parseQuery(exchange.getRequestURI().getRawQuery()).get(PARAMETER_CONFIRM);
+        boolean isConfirmed = ConfirmCommand.USER_INPUT_CONFIRM.equals(confirm)
+                || ConfirmCommand.USER_INPUT_CONFIRM_ALT.equals(confirm);
+
+        CompletableFuture<Response> response = new CompletableFuture<>();
+        pipeline.runInOrder(() -> {
+            try {
+                response.complete(executeCommand(commandText, isConfirmed));
+            } catch (RuntimeException e) {
+                response.completeExceptionally(e);
+            }
+        });
+        return response.join();
+    }
+
+    /**
+     * Executes {@code commandText}, and answers the confirmation it asks for, if any, in the same turn so that
+     * commands sent by other clients cannot answer it. Must be called on the worker of the pipeline.
+     */
+    private Response executeCommand(String commandText, boolean isConfirmed) {
+        try {
+            CommandResult result = logic.execute(commandText);
+            if (result instanceof ConfirmationPendingResult && !isConfirmed) {
+                logic.execute(ConfirmCommand.USER_INPUT_CANCEL);
+                return Response.error(HttpURLConnection.HTTP_CONFLICT,
+                        String.format(MESSAGE_CONFIRMATION_REQUIRED, result.getFeedbackToUser()));
+            } else if (result instanceof ConfirmationPendingResult) {
+                result = logic.execute(ConfirmCommand.USER_INPUT_CONFIRM);
+            }
+            return Response.ok(Map.of("feedback", result.getFeedbackToUser()));
+        } catch (CommandException | ParseException e) {
+            return Response.error(HttpURLConnection.HTTP_BAD_REQUEST, e.getMessage());
+        } finally {
+            // Taking a snapshot is cheap, so one is published even if nothing changed
+            snapshot = new PersonSnapshot(logic.getAddressBookSnapshot());
+        }
+    }
+
+    /**
+     * Handles {@code exchange} with {@code handler} and sends the response it returns.
+     */
+    private void handle(HttpExchange exchange, Handler handler) throws IOException {
+        try (exchange) {
+            Response response;
+            try {
+                response = handler.handle(exchange);
+            } catch (IOException | RuntimeException e) {
+                logger.severe("Error while handling " + exchange.getRequestMethod() + " "
+                        + exchange.getRequestURI() + ": " + StringUtil.getDetails(e));
+                response = Response.error(HttpURLConnection.HTTP_INTERNAL_ERROR, MESSAGE_INTERNAL_ERROR);
+            }
+
+            byte[] body = JsonUtil.toCompactJsonString(response.body).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(response.status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    /**
+     * Returns the parameters in the URL-encoded {@code rawQuery}, which may be null.
+     * Only the first value of a repeated parameter is kept.
+     */
+    static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            String[] keyAndValue = pair.split("=", 2);
+            String key = URLDecoder.decode(keyAndValue[0], StandardCharsets.UTF_8);
+            String value = keyAndValue.length > 1 ? URLDecoder.decode(keyAndValue[1], StandardCharsets.UTF_8) : "";
+            parameters.putIfAbsent(key, value);
+        }
+        return parameters;
+    }
+
+    private static List<String> splitKeywords(String keywords) {
+        return Arrays.stream(keywords.trim().split("\\s+"))
+                .filter(keyword -> !keyword.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Works out the response to a request.
+     */
+    @FunctionalInterface
+    private interface Handler {
+        Response handle(HttpExchange exchange) throws IOException;
+    }
+
+    /**
+     * A response status with the body to send with it as JSON.
+     */
+    private static class Response {
+        private final int status;
+        private final Object body;
+
+        private Response(int status, Object body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        static Response ok(Object body) {
+            return new Response(HttpURLConnection.HTTP_OK, body);
+        }
+
+        static Response error(int status, String message) {
+            return new Response(status, Map.of("error", message));
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable state of the persons in the address book, which any number of threads can read at once.
+ * The persons are listed in the order the app displays them in when no filter or sort is applied, so that the index
+ * of a person in the snapshot is the index that commands such as {@code edit} and {@code delete} refer to.
+ */
+class PersonSnapshot {
+
+    private final PersistentList<Person> persons;
+
+    // Worked out on the first read, as most snapshots are replaced by the next write before they are read
+    private volatile List<Person> displayedPersons;
+
+    PersonSnapshot(PersistentList<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+    }
+
+    /**
+     * Returns an unmodifiable list of the persons in the snapshot, in displayed order.
+     */
+    List<Person> getPersons() {
+        List<Person> result = displayedPersons;
+        if (result == null) {
+            // Threads that race here work out the same list, so it does not matter whose is kept
+            result = Collections.unmodifiableList(toDisplayedOrder(persons));
+            displayedPersons = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns {@code persons} with the pinned persons moved to the front, the way the app displays them.
+     */
+    private static List<Person> toDisplayedOrder(PersistentList<Person> persons) {
+        List<Person> pinned = new ArrayList<>();
+        List<Person> unpinned = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            (person.isPinned() ? pinned : unpinned).add(person);
+        }
+        // The sort is stable, so persons pinned at the same time stay in the order they were added
+        pinned.sort(Model.COMPARATOR_PINNED_FIRST);
+        pinned.addAll(unpinned);
+        return pinned;
+    }
+}
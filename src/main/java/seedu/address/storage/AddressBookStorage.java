@@ -46,4 +46,10 @@ public interface AddressBookStorage {
      * Exports the address book to a CSV file at the specified path.
      */
     void exportAddressBookToCsv(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
+
+    /**
+     * Writes out any data that is still held back by the storage and releases its resources.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void close() throws IOException;
 }
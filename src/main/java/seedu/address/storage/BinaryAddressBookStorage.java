@@ -0,0 +1,315 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UnmodifiableAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * <p>
+ * The file starts with a header holding a magic number, the format version, the number of person records and a
+ * CRC32 of the rest of the file. It is followed by a dictionary of every tag used, and then one record per person,
+ * in which tags are referred to by their position in the dictionary. Text fields are written as UTF-8 bytes
+ * preceded by their length.
+ * <p>
+ * Every save writes the whole file again, as the binary format has no journal like
+ * {@link JournaledAddressBookStorage}, so a save takes time in proportion to the size of the address book rather than
+ * the size of the change. The binary format is quicker to read and smaller on disk, so it suits address books that are
+ * read far more often than they are changed.
+ * <p>
+ * Files other than the binary file of this storage are read and written as json address books, so the data can still
+ * be exported to other tools.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    public static final int MAGIC_NUMBER = 0x4456424B; // "DVBK"
+
+    public static final short FORMAT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_ADDRESS_BOOK = "%s is not a binary address book";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %d is not supported";
+    public static final String MESSAGE_CORRUPTED_FILE = "Binary address book %s is corrupted: %s";
+
+    /** Magic number, version, record count and checksum. */
+    private static final int HEADER_LENGTH = 4 + 2 + 4 + 8;
+
+    /** Longest text field accepted, so that a corrupted length fails the load instead of exhausting memory. */
+    private static final int MAX_FIELD_LENGTH = 1 << 20;
+
+    private static final int NULL_FIELD_LENGTH = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final JsonAddressBookStorage otherFileStorage;
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that keeps the address book at {@code filePath}.
+     */
+    public BinaryAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.otherFileStorage = new JsonAddressBookStorage(filePath);
+    }
+
+    /**
+     * Returns the path of the binary file to use in place of the json address book file at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName;
+        return jsonFilePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Files other than the binary file of this storage are read as json address books.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return otherFileStorage.readAddressBook(filePath);
+        }
+
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return Optional.of(readBinary(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private UnmodifiableAddressBook readBinary(InputStream fileStream) throws IOException, IllegalValueException {
+        DataInputStream header = new DataInputStream(fileStream);
+        if (header.readInt() != MAGIC_NUMBER) {
+            throw new IOException(String.format(MESSAGE_NOT_BINARY_ADDRESS_BOOK, filePath));
+        }
+        short version = header.readShort();
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        int recordCount = header.readInt();
+        long checksum = header.readLong();
+        if (recordCount < 0) {
+            throw corrupted("negative record count");
+        }
+
+        CheckedInputStream checkedStream = new CheckedInputStream(fileStream, new CRC32());
+        DataInputStream in = new DataInputStream(checkedStream);
+
+        int tagCount = in.readInt();
+        if (tagCount < 0) {
+            throw corrupted("negative tag count");
+        }
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(readString(in)));
+        }
+
+        // Only the names are kept besides the persons, so no other structure of the persons is built while reading
+        List<Person> persons = new ArrayList<>();
+        Set<Name> names = new HashSet<>();
+        for (int i = 0; i < recordCount; i++) {
+            Person person = readPerson(in, tags).toModelType();
+            if (!names.add(person.getName())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            persons.add(person);
+        }
+
+        if (in.read() != -1) {
+            throw corrupted("unexpected data after the last record");
+        }
+        if (checkedStream.getChecksum().getValue() != checksum) {
+            throw corrupted("checksum does not match");
+        }
+        return new UnmodifiableAddressBook(persons);
+    }
+
+    private JsonAdaptedPerson readPerson(DataInputStream in, List<JsonAdaptedTag> tags) throws IOException {
+        String name = readString(in);
+        String phone = readString(in);
+        String email = readString(in);
+        String telegram = readString(in);
+        String github = readString(in);
+        String preferredMode = readString(in);
+        String pinnedAt = readString(in);
+
+        int personTagCount = in.readInt();
+        if (personTagCount < 0 || personTagCount > tags.size()) {
+            throw corrupted("invalid tag count " + personTagCount);
+        }
+        List<JsonAdaptedTag> personTags = new ArrayList<>(personTagCount);
+        for (int i = 0; i < personTagCount; i++) {
+            int tagIndex = in.readInt();
+            if (tagIndex < 0 || tagIndex >= tags.size()) {
+                throw corrupted("tag " + tagIndex + " is not in the tag dictionary");
+            }
+            personTags.add(tags.get(tagIndex));
+        }
+
+        // Validation is left to the json adapter, so both formats accept exactly the same data
+        return new JsonAdaptedPerson(name, phone, email, telegram, github, preferredMode, personTags,
+                pinnedAt != null, pinnedAt);
+    }
+
+    private String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length == NULL_FIELD_LENGTH) {
+            return null;
+        }
+        if (length < 0 || length > MAX_FIELD_LENGTH) {
+            throw corrupted("invalid field length " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private IOException corrupted(String reason) {
+        return new IOException(String.format(MESSAGE_CORRUPTED_FILE, filePath, reason));
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Files other than the binary file of this storage are written as json address books.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            otherFileStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        Map<Tag, Integer> tagIndexes = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                tagIndexes.putIfAbsent(tag, tagIndexes.size());
+            }
+        }
+
+        ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+        DataOutputStream body = new DataOutputStream(bodyBytes);
+        body.writeInt(tagIndexes.size());
+        for (Tag tag : tagIndexes.keySet()) {
+            writeString(body, tag.tagName);
+        }
+        for (Person person : persons) {
+            writePerson(body, person, tagIndexes);
+        }
+        body.flush();
+
+        CRC32 checksum = new CRC32();
+        checksum.update(bodyBytes.toByteArray());
+
+        ByteArrayOutputStream fileBytes = new ByteArrayOutputStream(bodyBytes.size() + HEADER_LENGTH);
+        DataOutputStream file = new DataOutputStream(fileBytes);
+        file.writeInt(MAGIC_NUMBER);
+        file.writeShort(FORMAT_VERSION);
+        file.writeInt(persons.size());
+        file.writeLong(checksum.getValue());
+        bodyBytes.writeTo(file);
+        file.flush();
+
+        FileUtil.writeBytesToFileAtomically(filePath, fileBytes.toByteArray());
+    }
+
+    private static void writePerson(DataOutputStream out, Person person, Map<Tag, Integer> tagIndexes)
+            throws IOException {
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getEmail().value);
+        writeString(out, person.getTelegram().value);
+        writeString(out, person.getGithub().value);
+        writeString(out, person.getPreferredMode().name());
+        writeString(out, person.getPinnedAt().map(Object::toString).orElse(null));
+
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.writeInt(tagIndexes.get(tag));
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_FIELD_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @Override
+    public void exportAddressBookToCsv(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        CsvAddressBookStorage.exportToCsv(addressBook, filePath);
+    }
+
+    /**
+     * Does nothing, as every save is written out right away.
+     */
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyCommandHistory;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+
+/**
+ * A {@code Storage} that holds back saves of the address book until {@link #checkpoint()} is called, so that a run of
+ * many commands writes the address book once instead of after every command.
+ * Only the address book given to the latest save is kept, without copying it, so it must not be changed by other
+ * threads before the checkpoint. The command history is not saved, so that commands run by a script do not crowd out
+ * the commands typed by the user.
+ * All other operations are passed through to the wrapped storage.
+ */
+public class CheckpointStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(CheckpointStorage.class);
+
+    private final Storage storage;
+    private ReadOnlyAddressBook pendingAddressBook;
+
+    /**
+     * Creates a {@code CheckpointStorage} that writes to {@code storage} at checkpoints.
+     */
+    public CheckpointStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return storage.readAddressBook(filePath);
+    }
+
+    /**
+     * Holds back {@code addressBook} to be saved at the next checkpoint.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        pendingAddressBook = addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void exportAddressBookToCsv(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        storage.exportAddressBookToCsv(addressBook, filePath);
+    }
+
+    /**
+     * Returns true if an address book is held back to be saved at the next checkpoint.
+     */
+    public boolean hasPendingSave() {
+        return pendingAddressBook != null;
+    }
+
+    /**
+     * Saves the address book held back since the last checkpoint, if any.
+     */
+    public void checkpoint() throws IOException {
+        if (pendingAddressBook == null) {
+            return;
+        }
+        logger.fine("Saving address book at checkpoint");
+        storage.saveAddressBook(pendingAddressBook);
+        pendingAddressBook = null;
+    }
+
+    // ================ CommandHistory methods ==============================
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return storage.getCommandHistoryFilePath();
+    }
+
+    @Override
+    public Optional<CommandHistory> readCommandHistory() throws DataLoadingException {
+        return storage.readCommandHistory();
+    }
+
+    /**
+     * Does nothing, as the command history is not saved.
+     */
+    @Override
+    public void saveCommandHistory(ReadOnlyCommandHistory commandHistory) {
+        requireNonNull(commandHistory);
+    }
+
+    /**
+     * Does nothing, as the command history is not saved.
+     */
+    @Override
+    public void appendCommandToHistory(String command) {
+        requireNonNull(command);
+    }
+
+    /**
+     * Saves the address book held back since the last checkpoint, if any, and closes the wrapped storage.
+     */
+    @Override
+    public void close() throws IOException {
+        checkpoint();
+        storage.close();
+    }
+}
@@ -30,4 +30,10 @@ public interface CommandHistoryStorage {
      * @throws IOException if there was any problem writing to the file.
      */
     void saveCommandHistory(ReadOnlyCommandHistory history) throws IOException;
+
+    /**
+     * Saves {@code command} as the most recent command in the storage, without saving the rest of the history again.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendCommandToHistory(String command) throws IOException;
 }
@@ -0,0 +1,361 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UnmodifiableAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot together with a journal of the changes made since the
+ * snapshot was written.
+ * Saving appends one compact json line per added, edited or removed person to the journal, so the cost of a save
+ * depends on the size of the change rather than the size of the address book. The change is found by comparing the
+ * snapshot of the address book being saved with the one last saved, skipping the parts of the two snapshots that
+ * share their nodes, so that finding it does not go through the whole address book either. The journal is folded
+ * into a new snapshot once it grows past {@link #COMPACTION_THRESHOLD} records, and when the storage is closed.
+ * The snapshot is in the same format as the file written by {@link JsonAddressBookStorage}.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    /** Number of journal records after which the journal is folded into a new snapshot. */
+    public static final int COMPACTION_THRESHOLD = 1000;
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    public static final String MESSAGE_INVALID_JOURNAL_RECORD = "Journal record %d is invalid: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final JsonAddressBookStorage otherFileStorage;
+
+    /** Persons as last written to the snapshot and journal, or null if the files are not known to be up to date. */
+    private PersistentList<Person> persistedPersons;
+    /**
+     * Persons as last read, which stand in for {@link #persistedPersons} until they are first needed, so that reading
+     * hands the persons on without building any other structure of them.
+     */
+    private List<Person> readPersons;
+    private long snapshotChecksum;
+    private int journalRecordCount;
+    private boolean isJournalAppendable;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} with the snapshot at {@code filePath}.
+     * The journal is kept next to the snapshot, in a file named after it.
+     */
+    public JournaledAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.journalPath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+        this.otherFileStorage = new JsonAddressBookStorage(filePath);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Files other than the snapshot of this storage are read as plain json address books.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return otherFileStorage.readAddressBook(filePath);
+        }
+
+        persistedPersons = null;
+        readPersons = null;
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (CheckedInputStream in = new CheckedInputStream(FileUtil.openVerifiedInputStream(filePath),
+                new CRC32())) {
+            List<Person> persons = JsonAddressBookStreamReader.read(in);
+            snapshotChecksum = in.getChecksum().getValue();
+            journalRecordCount = 0;
+            isJournalAppendable = false;
+            replayJournal(persons);
+
+            readPersons = persons;
+            return Optional.of(new UnmodifiableAddressBook(persons));
+        } catch (IOException e) {
+            logger.warning("Error reading from file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Applies the records of the journal to {@code persons}, which are the persons of the snapshot.
+     * A journal written for a different snapshot is ignored, as its changes are already part of the snapshot.
+     * An incomplete last record, left behind by an interrupted append, is ignored as well.
+     */
+    private void replayJournal(List<Person> persons) throws IOException, IllegalValueException {
+        if (!FileUtil.isFileExists(journalPath)) {
+            isJournalAppendable = true;
+            return;
+        }
+
+        List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        if (!isJournalOf(lines, snapshotChecksum)) {
+            logger.info("Ignoring journal " + journalPath + " as it was not written for the current snapshot");
+            return;
+        }
+
+        boolean isLastLineComplete = true;
+        for (int i = 1; i < lines.size(); i++) {
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalRecord.class);
+            } catch (IOException e) {
+                if (i < lines.size() - 1) {
+                    throw e;
+                }
+                logger.warning("Ignoring incomplete last record of journal " + journalPath);
+                isLastLineComplete = false;
+                break;
+            }
+            applyRecord(record, i, persons);
+            journalRecordCount++;
+        }
+        // Records cannot be appended after an incomplete line, so the next save writes a new snapshot instead
+        isJournalAppendable = isLastLineComplete;
+
+        if (journalRecordCount > 0 && hasDuplicates(persons)) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+    }
+
+    private static boolean hasDuplicates(List<Person> persons) {
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isJournalOf(List<String> lines, long snapshotChecksum) {
+        if (lines.isEmpty()) {
+            return false;
+        }
+        try {
+            JsonAdaptedJournalRecord header = JsonUtil.fromJsonString(lines.get(0), JsonAdaptedJournalRecord.class);
+            return JsonAdaptedJournalRecord.OP_BASE.equals(header.getOp())
+                    && header.getSnapshotChecksum() != null
+                    && header.getSnapshotChecksum() == snapshotChecksum;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static void applyRecord(JsonAdaptedJournalRecord record, int lineNumber, List<Person> persons)
+            throws IllegalValueException {
+        String op = record.getOp();
+        Integer index = record.getIndex();
+        boolean isAdd = JsonAdaptedJournalRecord.OP_ADD.equals(op);
+        int maxIndex = isAdd ? persons.size() : persons.size() - 1;
+        if (index == null || index < 0 || index > maxIndex) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_JOURNAL_RECORD, lineNumber,
+                    "index " + index + " is out of bounds"));
+        }
+
+        if (JsonAdaptedJournalRecord.OP_REMOVE.equals(op)) {
+            persons.remove((int) index);
+            return;
+        }
+        if (record.getPerson() == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_JOURNAL_RECORD, lineNumber,
+                    "person is missing"));
+        }
+
+        Person person = record.getPerson().toModelType();
+        if (isAdd) {
+            persons.add(index, person);
+        } else if (JsonAdaptedJournalRecord.OP_SET.equals(op)) {
+            persons.set(index, person);
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_JOURNAL_RECORD, lineNumber,
+                    "unknown operation " + op));
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Files other than the snapshot of this storage are written as plain json address books.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            otherFileStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        PersistentList<Person> persons = addressBook.getSnapshot();
+        PersistentList<Person> lastPersons = getPersistedPersons();
+        if (lastPersons == null || !isJournalAppendable) {
+            writeSnapshot(persons);
+            return;
+        }
+
+        List<JsonAdaptedJournalRecord> records = diff(lastPersons, persons);
+        if (records.isEmpty()) {
+            return;
+        }
+        if (journalRecordCount + records.size() > COMPACTION_THRESHOLD) {
+            writeSnapshot(persons);
+            return;
+        }
+        appendToJournal(records);
+        persistedPersons = persons;
+    }
+
+    /**
+     * Returns the persons as last written to the snapshot and journal, or null if the files are not known to be up to
+     * date. The persons last read are only turned into a {@code PersistentList} here, once they are first needed.
+     */
+    private PersistentList<Person> getPersistedPersons() {
+        if (persistedPersons == null && readPersons != null) {
+            persistedPersons = PersistentList.of(readPersons);
+            readPersons = null;
+        }
+        return persistedPersons;
+    }
+
+    /**
+     * Returns the records that turn {@code oldPersons} into {@code newPersons}.
+     * Persons are compared by reference, as every change to the address book replaces the changed persons with new
+     * instances. Only the range between the longest common prefix and suffix of the two lists is recorded.
+     * When {@code newPersons} is a later version of {@code oldPersons}, this takes time in proportion to the size of
+     * that range, times O(log n).
+     */
+    static List<JsonAdaptedJournalRecord> diff(PersistentList<Person> oldPersons, PersistentList<Person> newPersons) {
+        int start = oldPersons.commonPrefixLength(newPersons);
+        int maxSuffixLength = Math.min(oldPersons.size(), newPersons.size()) - start;
+        int suffixLength = oldPersons.commonSuffixLength(newPersons, maxSuffixLength);
+        int oldEnd = oldPersons.size() - suffixLength;
+        int newEnd = newPersons.size() - suffixLength;
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        int replacedCount = Math.min(oldEnd - start, newEnd - start);
+        for (int i = start; i < start + replacedCount; i++) {
+            records.add(JsonAdaptedJournalRecord.set(i, newPersons.get(i)));
+        }
+        int changeEnd = start + replacedCount;
+        for (int i = changeEnd; i < oldEnd; i++) {
+            records.add(JsonAdaptedJournalRecord.remove(changeEnd));
+        }
+        for (int i = changeEnd; i < newEnd; i++) {
+            records.add(JsonAdaptedJournalRecord.add(i, newPersons.get(i)));
+        }
+        return records;
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        if (!FileUtil.isFileExists(journalPath)) {
+            lines.append(JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.base(snapshotChecksum))).append('\n');
+        }
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+
+        Files.write(journalPath, lines.toString().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+        journalRecordCount += records.size();
+    }
+
+    /**
+     * Writes {@code persons} to a new snapshot and discards the journal.
+     * If this is interrupted before the journal is deleted, the journal no longer matches the snapshot and is
+     * ignored when the address book is next read.
+     */
+    private void writeSnapshot(PersistentList<Person> persons) throws IOException {
+        String snapshot = JsonUtil.toJsonString(new JsonSerializableAddressBook(new AddressBookSnapshot(persons)));
+
+        FileUtil.writeToFileAtomically(filePath, snapshot);
+        snapshotChecksum = checksumOf(snapshot.getBytes(StandardCharsets.UTF_8));
+        Files.deleteIfExists(journalPath);
+
+        journalRecordCount = 0;
+        isJournalAppendable = true;
+        persistedPersons = persons;
+        readPersons = null;
+    }
+
+    /**
+     * Folds the journal into a new snapshot, if there is anything to fold.
+     */
+    @Override
+    public void close() throws IOException {
+        if (journalRecordCount == 0 || getPersistedPersons() == null) {
+            return;
+        }
+        logger.info("Compacting journal " + journalPath + " of " + journalRecordCount + " records");
+        writeSnapshot(getPersistedPersons());
+    }
+
+    @Override
+    public void exportAddressBookToCsv(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        CsvAddressBookStorage.exportToCsv(addressBook, filePath);
+    }
+
+    private static long checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+}
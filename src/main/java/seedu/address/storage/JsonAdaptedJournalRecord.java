@@ -0,0 +1,84 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single line of an address book journal.
+ * The first line of a journal is a {@code base} record identifying the snapshot the journal applies to. Every other
+ * line records one change to the person list of that snapshot.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String OP_BASE = "base";
+    public static final String OP_ADD = "add";
+    public static final String OP_SET = "set";
+    public static final String OP_REMOVE = "remove";
+
+    private final String op;
+    private final Long snapshotChecksum;
+    private final Integer index;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") String op,
+                                    @JsonProperty("snapshotChecksum") Long snapshotChecksum,
+                                    @JsonProperty("index") Integer index,
+                                    @JsonProperty("person") JsonAdaptedPerson person) {
+        this.op = op;
+        this.snapshotChecksum = snapshotChecksum;
+        this.index = index;
+        this.person = person;
+    }
+
+    /**
+     * Returns a record marking the start of a journal for the snapshot with the given checksum.
+     */
+    public static JsonAdaptedJournalRecord base(long snapshotChecksum) {
+        return new JsonAdaptedJournalRecord(OP_BASE, snapshotChecksum, null, null);
+    }
+
+    /**
+     * Returns a record of {@code person} being inserted at {@code index}.
+     */
+    public static JsonAdaptedJournalRecord add(int index, Person person) {
+        return new JsonAdaptedJournalRecord(OP_ADD, null, index, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record of the person at {@code index} being replaced with {@code person}.
+     */
+    public static JsonAdaptedJournalRecord set(int index, Person person) {
+        return new JsonAdaptedJournalRecord(OP_SET, null, index, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record of the person at {@code index} being removed.
+     */
+    public static JsonAdaptedJournalRecord remove(int index) {
+        return new JsonAdaptedJournalRecord(OP_REMOVE, null, index, null);
+    }
+
+    public String getOp() {
+        return op;
+    }
+
+    public Long getSnapshotChecksum() {
+        return snapshotChecksum;
+    }
+
+    public Integer getIndex() {
+        return index;
+    }
+
+    public JsonAdaptedPerson getPerson() {
+        return person;
+    }
+}
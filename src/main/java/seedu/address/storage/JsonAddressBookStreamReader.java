@@ -0,0 +1,104 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads an address book in the format written by {@link JsonSerializableAddressBook} a batch of persons at a time.
+ * Each batch is validated, in parallel if it is large enough, and added to a plain list of persons before the next one
+ * is read, so the whole file is never held in memory, neither as text nor as {@link JsonAdaptedPerson} objects.
+ * Only the names read are kept besides the list, to find duplicate persons, so reading builds no copy of the index
+ * structures of the address book the persons are later added to.
+ */
+class JsonAddressBookStreamReader {
+
+    /** Number of persons read before they are converted together. */
+    static final int BATCH_SIZE = 4 * JsonSerializableAddressBook.PARALLEL_CONVERSION_THRESHOLD;
+
+    private static final String PERSONS_FIELD = "persons";
+
+    /**
+     * Reads the persons of the address book in {@code in}, up to the end of the stream, in order.
+     *
+     * @throws IOException if the data could not be read or is not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated. Every invalid person is reported,
+     *     one per line, in the same way as by {@link JsonSerializableAddressBook#toModelType()}.
+     */
+    static List<Person> read(InputStream in) throws IOException, IllegalValueException {
+        List<Person> persons = new ArrayList<>();
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected an address book object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                if (PERSONS_FIELD.equals(fieldName)) {
+                    readPersons(parser, persons);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            // Read whatever the parser left behind, so that streams that check the whole file see all of it
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return persons;
+    }
+
+    private static void readPersons(JsonParser parser, List<Person> readPersons)
+            throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected a list of persons");
+        }
+
+        List<String> errors = new ArrayList<>();
+        Set<Name> names = new HashSet<>();
+        boolean hasDuplicates = false;
+        int position = 1;
+        List<JsonAdaptedPerson> batch = new ArrayList<>(BATCH_SIZE);
+        boolean isLastBatch = false;
+        while (!isLastBatch) {
+            isLastBatch = parser.nextToken() == JsonToken.END_ARRAY;
+            if (!isLastBatch) {
+                batch.add(parser.readValueAs(JsonAdaptedPerson.class));
+            }
+            if (batch.size() < BATCH_SIZE && !isLastBatch) {
+                continue;
+            }
+
+            List<Person> persons = JsonSerializableAddressBook.toModelTypes(batch, position, errors);
+            position += batch.size();
+            batch.clear();
+            // Once the load is known to fail, the remaining persons are only read to report their errors
+            for (int i = 0; i < persons.size() && errors.isEmpty() && !hasDuplicates; i++) {
+                hasDuplicates = !names.add(persons.get(i).getName());
+                if (!hasDuplicates) {
+                    readPersons.add(persons.get(i));
+                }
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new IllegalValueException(String.join("\n", errors));
+        }
+        if (hasDuplicates) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -20,6 +23,10 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_INVALID_PERSON = "Person %d: %s";
+
+    /** Number of persons below which they are converted on the calling thread, as splitting the work costs more. */
+    static final int PARALLEL_CONVERSION_THRESHOLD = 256;
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -43,12 +50,18 @@ class JsonSerializableAddressBook {
     /**
      * Converts this address book into the model's {@code AddressBook} object.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated. Every invalid person is reported,
+     *     one per line, before any duplicate persons are looked for.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        List<String> errors = new ArrayList<>();
+        List<Person> modelPersons = toModelTypes(persons, 1, errors);
+        if (!errors.isEmpty()) {
+            throw new IllegalValueException(String.join("\n", errors));
+        }
+
         AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
+        for (Person person : modelPersons) {
             if (addressBook.hasPerson(person)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
@@ -57,4 +70,36 @@ class JsonSerializableAddressBook {
         return addressBook;
     }
 
+    /**
+     * Converts {@code adaptedPersons} into the model's {@code Person} objects, in the same order.
+     * Large lists are converted in parallel. Instead of stopping at the first invalid person, the constraint
+     * violated by every invalid person is added to {@code errors} together with its position, counting the first
+     * person in {@code adaptedPersons} as {@code firstPosition}. Invalid persons are left out of the result.
+     */
+    static List<Person> toModelTypes(List<JsonAdaptedPerson> adaptedPersons, int firstPosition,
+            List<String> errors) {
+        int count = adaptedPersons.size();
+        Person[] modelPersons = new Person[count];
+        String[] errorMessages = new String[count];
+
+        IntStream indexes = IntStream.range(0, count);
+        if (count >= PARALLEL_CONVERSION_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> {
+            try {
+                modelPersons[i] = adaptedPersons.get(i).toModelType();
+            } catch (IllegalValueException ive) {
+                errorMessages[i] = ive.getMessage();
+            }
+        });
+
+        for (int i = 0; i < count; i++) {
+            if (errorMessages[i] != null) {
+                errors.add(String.format(MESSAGE_INVALID_PERSON, firstPosition + i, errorMessages[i]));
+            }
+        }
+        return Arrays.stream(modelPersons).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
 }
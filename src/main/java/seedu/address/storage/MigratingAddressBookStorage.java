@@ -0,0 +1,130 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that moves the address book over from another storage, such as one of another file
+ * format, the first time it is used.
+ * If the file of the wrapped storage does not exist yet, the address book is read from the migration storage instead.
+ * Once it is first saved to the wrapped storage, the file of the migration storage is renamed with
+ * {@link #MIGRATED_FILE_SUFFIX}, so that switching back to the migration storage moves the address book back instead
+ * of reading the data left behind in that file.
+ * All other operations are passed through to the wrapped storage.
+ */
+public class MigratingAddressBookStorage implements AddressBookStorage {
+
+    public static final String MIGRATED_FILE_SUFFIX = ".migrated";
+
+    private static final Logger logger = LogsCenter.getLogger(MigratingAddressBookStorage.class);
+
+    private final AddressBookStorage storage;
+    private final AddressBookStorage migrationStorage;
+    private boolean isMigrating;
+
+    /**
+     * Creates a {@code MigratingAddressBookStorage} that keeps the address book in {@code storage}, and reads it from
+     * {@code migrationStorage} until the file of {@code storage} is first written.
+     */
+    public MigratingAddressBookStorage(AddressBookStorage storage, AddressBookStorage migrationStorage) {
+        requireNonNull(storage);
+        requireNonNull(migrationStorage);
+        this.storage = storage;
+        this.migrationStorage = migrationStorage;
+    }
+
+    /**
+     * Returns the path the file at {@code filePath} is renamed to once its address book has been moved over.
+     */
+    public static Path getMigratedFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + MIGRATED_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Files other than the file of the wrapped storage are never read from the migration storage.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return storage.readAddressBook(filePath);
+        }
+
+        isMigrating = false;
+        if (FileUtil.isFileExists(filePath)) {
+            return storage.readAddressBook(filePath);
+        }
+
+        Optional<ReadOnlyAddressBook> migrated = migrationStorage.readAddressBook();
+        if (migrated.isPresent()) {
+            logger.info("Migrating address book from " + migrationStorage.getAddressBookFilePath()
+                    + " to " + filePath);
+            isMigrating = true;
+        }
+        return migrated;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        storage.saveAddressBook(addressBook, filePath);
+        if (isMigrating && filePath.equals(getAddressBookFilePath())) {
+            renameMigratedFile();
+            isMigrating = false;
+        }
+    }
+
+    private void renameMigratedFile() throws IOException {
+        Path migratedFilePath = migrationStorage.getAddressBookFilePath();
+        if (!FileUtil.isFileExists(migratedFilePath)) {
+            return;
+        }
+        Path renamedFilePath = getMigratedFilePath(migratedFilePath);
+        logger.info("Renaming migrated address book " + migratedFilePath + " to " + renamedFilePath);
+        Files.move(migratedFilePath, renamedFilePath, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public void exportAddressBookToCsv(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        storage.exportAddressBookToCsv(addressBook, filePath);
+    }
+
+    /**
+     * Closes the wrapped storage. The migration storage is not closed, so that it does not write its file again.
+     */
+    @Override
+    public void close() throws IOException {
+        storage.close();
+    }
+}
@@ -1,10 +1,10 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -14,16 +14,39 @@ import seedu.address.model.ReadOnlyCommandHistory;
 
 /**
  * A class to access CommandHistory stored in the hard disk
+ * <p>
+ * Each command is written on its own line, from the oldest command to the newest. New commands are appended to the
+ * end of the file, so saving a command takes the same time however long the history is. Once the file holds
+ * {@value #COMPACTION_FACTOR} times as many commands as the history keeps, it is rewritten with only the commands
+ * the history keeps, which spreads the cost of the rewrite over that many appended commands.
  */
 public class NewlineDelimitedCommandHistoryStorage implements CommandHistoryStorage {
+    public static final int COMPACTION_FACTOR = 2;
+
+    private static final int UNKNOWN_COMMAND_COUNT = -1;
+
     private Path filePath;
+    private final int capacity;
+    /** Number of commands in the file, counted when the file is first read or written. */
+    private int commandsInFile = UNKNOWN_COMMAND_COUNT;
 
     /**
      * Constructs an object with the provided filePath
      * @param filePath The location of the file
      */
     public NewlineDelimitedCommandHistoryStorage(Path filePath) {
+        this(filePath, CommandHistory.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an object with the provided filePath, that keeps the {@code capacity} most recent commands.
+     * @param filePath The location of the file
+     * @param capacity The number of commands kept in the history read from the file
+     */
+    public NewlineDelimitedCommandHistoryStorage(Path filePath, int capacity) {
+        checkArgument(capacity > 0, CommandHistory.MESSAGE_INVALID_CAPACITY);
         this.filePath = filePath;
+        this.capacity = capacity;
     }
 
     @Override
@@ -40,25 +63,31 @@ public class NewlineDelimitedCommandHistoryStorage implements CommandHistoryStor
 
         String data;
         try {
-            data = FileUtil.readFromFile(filePath);
+            data = FileUtil.readFromFileVerified(filePath);
         } catch (IOException e) {
             throw new DataLoadingException(e);
         }
 
-        CommandHistory history = new CommandHistory();
-        addAllCommandsInTextToHistory(data, history);
+        CommandHistory history = new CommandHistory(capacity);
+        commandsInFile = addAllCommandsInTextToHistory(data, history);
 
         return Optional.of(history);
     }
 
-    private void addAllCommandsInTextToHistory(String text, CommandHistory history) {
+    /**
+     * Adds every command in {@code text} to {@code history} and returns the number of commands added.
+     */
+    private int addAllCommandsInTextToHistory(String text, CommandHistory history) {
+        int count = 0;
         for (String line : text.split("\n")) {
             if (line.isBlank()) {
                 continue;
             }
             // Process each line as a command
             history.addCommandToHistory(line.trim());
+            count++;
         }
+        return count;
     }
 
     @Override
@@ -68,20 +97,52 @@ public class NewlineDelimitedCommandHistoryStorage implements CommandHistoryStor
 
         String data = convertHistoryToNewlineDelimitedString(history);
 
-        FileUtil.createIfMissing(filePath);
-        FileUtil.writeToFile(filePath, data);
+        FileUtil.writeToFileAtomically(filePath, data);
+        commandsInFile = history.size();
+    }
+
+    /**
+     * Appends {@code command} to the end of the file, compacting the file instead if it holds too many commands.
+     */
+    @Override
+    public void appendCommandToHistory(String command) throws IOException {
+        requireNonNull(command);
+        requireNonNull(filePath);
+        assert !command.isBlank() && !command.contains("\n") : "A command should be a single non-blank line";
+
+        if (commandsInFile == UNKNOWN_COMMAND_COUNT) {
+            commandsInFile = FileUtil.isFileExists(filePath)
+                    ? addAllCommandsInTextToHistory(FileUtil.readFromFile(filePath), new CommandHistory(capacity))
+                    : 0;
+        }
+
+        if (commandsInFile + 1 > COMPACTION_FACTOR * capacity) {
+            compact(command);
+            return;
+        }
+        FileUtil.appendToFile(filePath, command + "\n");
+        commandsInFile++;
+    }
+
+    /**
+     * Rewrites the file with the most recent commands that fit in the history, ending with {@code newCommand}.
+     */
+    private void compact(String newCommand) throws IOException {
+        CommandHistory history = new CommandHistory(capacity);
+        addAllCommandsInTextToHistory(FileUtil.readFromFile(filePath), history);
+        history.addCommandToHistory(newCommand);
+        saveCommandHistory(history);
     }
 
     private String convertHistoryToNewlineDelimitedString(ReadOnlyCommandHistory history) {
         requireNonNull(history);
 
         StringBuilder sb = new StringBuilder();
-        List<String> historyList = history.getHistory();
 
-        // Reverse-iterate through the list to order data from
+        // Reverse-iterate through the history to order data from
         // the oldest command (top) -> the newest command (bottom)
-        for (int i = historyList.size() - 1; i >= 0; i--) {
-            sb.append(historyList.get(i)).append("\n");
+        for (int i = history.size() - 1; i >= 0; i--) {
+            sb.append(history.getCommand(i)).append("\n");
         }
 
         return sb.toString();
@@ -40,6 +40,9 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, CommandHi
     @Override
     void saveCommandHistory(ReadOnlyCommandHistory commandHistory) throws IOException;
 
+    @Override
+    void appendCommandToHistory(String command) throws IOException;
+
     /**
      * Exports the address book data to a CSV file.
      * @param addressBook the address book to export
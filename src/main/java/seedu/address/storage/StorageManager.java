@@ -33,6 +33,22 @@ public class StorageManager implements Storage {
         this.commandHistoryStorage = chs;
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the address book file format chosen in {@code userPrefs}.
+     * Each format migrates the data from the file of the other format the first time it is used, so the format can be
+     * switched in either direction.
+     */
+    public static AddressBookStorage createAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage jsonStorage = new JournaledAddressBookStorage(jsonFilePath);
+        AddressBookStorage binaryStorage =
+                new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath));
+        if (userPrefs.getAddressBookFileFormat() != UserPrefs.AddressBookFileFormat.BINARY) {
+            return new MigratingAddressBookStorage(jsonStorage, binaryStorage);
+        }
+        return new MigratingAddressBookStorage(binaryStorage, jsonStorage);
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -99,9 +115,21 @@ public class StorageManager implements Storage {
         commandHistoryStorage.saveCommandHistory(commandHistory);
     }
 
+    @Override
+    public void appendCommandToHistory(String command) throws IOException {
+        logger.fine("Attempting to append to data file: " + getCommandHistoryFilePath());
+        commandHistoryStorage.appendCommandToHistory(command);
+    }
+
     @Override
     public void exportAddressBookToCsv(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to export data to CSV file: " + filePath);
         addressBookStorage.exportAddressBookToCsv(addressBook, filePath);
     }
+
+    @Override
+    public void close() throws IOException {
+        logger.fine("Attempting to close address book storage: " + getAddressBookFilePath());
+        addressBookStorage.close();
+    }
 }
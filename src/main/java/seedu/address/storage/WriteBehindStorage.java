@@ -0,0 +1,274 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyCommandHistory;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Storage} that saves the address book and command history on a background thread.
+ * Each save takes a snapshot of the data and returns immediately. The address book is snapshotted in constant time
+ * through {@link ReadOnlyAddressBook#getSnapshot()}, and only copied by the writer. Snapshots saved while an earlier
+ * one is still being written are merged, so only the latest snapshot is written once the writer is free. Commands
+ * appended to the command history are queued and appended in order. Commands that could not be appended are kept
+ * at the front of the queue, and appended again before any later command on the next write.
+ * Errors during a background save are passed to the error handler given at construction, on the writer thread.
+ * All other operations are passed through to the wrapped storage.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private static final long CLOSE_TIMEOUT_SECONDS = 30;
+
+    private final Storage storage;
+    private final Consumer<IOException> errorHandler;
+    private final ExecutorService writer;
+
+    private PersistentList<Person> pendingAddressBook;
+    private List<String> pendingCommandHistory;
+    private int pendingCommandHistoryCapacity;
+    private List<String> pendingCommands = new ArrayList<>();
+    private boolean isWriteScheduled;
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes to {@code storage} in the background and reports errors
+     * during the writes to {@code errorHandler}.
+     */
+    public WriteBehindStorage(Storage storage, Consumer<IOException> errorHandler) {
+        requireAllNonNull(storage, errorHandler);
+        this.storage = storage;
+        this.errorHandler = errorHandler;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return storage.readAddressBook(filePath);
+    }
+
+    /**
+     * Schedules a snapshot of {@code addressBook} to be saved in the background.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        PersistentList<Person> snapshot = addressBook.getSnapshot();
+        synchronized (this) {
+            pendingAddressBook = snapshot;
+            scheduleWrite();
+        }
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code filePath} once all scheduled saves have been written.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        flush();
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void exportAddressBookToCsv(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        storage.exportAddressBookToCsv(addressBook, filePath);
+    }
+
+    // ================ CommandHistory methods ==============================
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return storage.getCommandHistoryFilePath();
+    }
+
+    @Override
+    public Optional<CommandHistory> readCommandHistory() throws DataLoadingException {
+        return storage.readCommandHistory();
+    }
+
+    /**
+     * Schedules a snapshot of {@code commandHistory} to be saved in the background.
+     * Only the commands are copied here; the history handed to the wrapped storage is built by the writer.
+     */
+    @Override
+    public void saveCommandHistory(ReadOnlyCommandHistory commandHistory) {
+        List<String> snapshot = commandHistory.getHistory();
+        int capacity = commandHistory.getCapacity();
+        synchronized (this) {
+            pendingCommandHistory = snapshot;
+            pendingCommandHistoryCapacity = capacity;
+            scheduleWrite();
+        }
+    }
+
+    /**
+     * Schedules {@code command} to be appended to the command history in the background.
+     */
+    @Override
+    public void appendCommandToHistory(String command) {
+        requireAllNonNull(command);
+        synchronized (this) {
+            pendingCommands.add(command);
+            scheduleWrite();
+        }
+    }
+
+    // ================ Background writing ==============================
+
+    private void scheduleWrite() {
+        assert Thread.holdsLock(this);
+        if (isWriteScheduled) {
+            return;
+        }
+        isWriteScheduled = true;
+        writer.execute(this::writePending);
+    }
+
+    private void writePending() {
+        PersistentList<Person> addressBook;
+        List<String> commandHistory;
+        int commandHistoryCapacity;
+        List<String> commands;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            commandHistory = pendingCommandHistory;
+            commandHistoryCapacity = pendingCommandHistoryCapacity;
+            commands = pendingCommands;
+            pendingAddressBook = null;
+            pendingCommandHistory = null;
+            pendingCommands = new ArrayList<>();
+            isWriteScheduled = false;
+        }
+
+        if (addressBook != null) {
+            try {
+                storage.saveAddressBook(new AddressBookSnapshot(addressBook));
+            } catch (IOException e) {
+                logger.warning("Error occurred while saving address book in the background: " + e.getMessage());
+                errorHandler.accept(e);
+            }
+        }
+        if (commandHistory != null) {
+            try {
+                storage.saveCommandHistory(toCommandHistory(commandHistory, commandHistoryCapacity));
+            } catch (IOException e) {
+                logger.warning("Error occurred while saving command history in the background: " + e.getMessage());
+                errorHandler.accept(e);
+            }
+        }
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                storage.appendCommandToHistory(commands.get(i));
+            } catch (IOException e) {
+                logger.warning("Error occurred while appending to command history in the background: "
+                        + e.getMessage());
+                errorHandler.accept(e);
+                requeueCommands(commands.subList(i, commands.size()));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns a history of {@code commands}, which are ordered from the most recent, keeping {@code capacity}
+     * commands.
+     */
+    private static CommandHistory toCommandHistory(List<String> commands, int capacity) {
+        CommandHistory commandHistory = new CommandHistory(capacity);
+        for (int i = commands.size() - 1; i >= 0; i--) {
+            commandHistory.addCommandToHistory(commands.get(i));
+        }
+        return commandHistory;
+    }
+
+    /**
+     * Puts {@code commands}, which could not be appended, back at the front of the queue, so that they are appended
+     * before the commands queued since, the next time a write is scheduled.
+     */
+    private synchronized void requeueCommands(List<String> commands) {
+        List<String> requeuedCommands = new ArrayList<>(commands);
+        requeuedCommands.addAll(pendingCommands);
+        pendingCommands = requeuedCommands;
+    }
+
+    /**
+     * Waits until every save scheduled so far has been written.
+     */
+    public void flush() {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Writes every scheduled save, stops the background writer and closes the wrapped storage.
+     */
+    @Override
+    public void close() throws IOException {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.severe("Timed out waiting for pending saves to be written");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        storage.close();
+    }
+}
@@ -1,15 +1,18 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.autocomplete.Autocompletor;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyCommandHistory;
 
 /**
@@ -20,7 +23,12 @@ public class CommandBox extends UiPart<Region> {
     public static final KeyCode GO_PREVIOUS_COMMAND = KeyCode.UP;
     public static final KeyCode GO_NEXT_COMMAND = KeyCode.DOWN;
     public static final KeyCode FILL_AUTOCOMPLETE = KeyCode.TAB;
+    public static final KeyCombination SEARCH_HISTORY = new KeyCodeCombination(KeyCode.R, KeyCombination.CONTROL_DOWN);
+    public static final KeyCode CANCEL_SEARCH_HISTORY = KeyCode.ESCAPE;
+    public static final String SEARCH_HISTORY_PROMPT = "reverse-i-search: %s";
+    public static final String FAILED_SEARCH_HISTORY_PROMPT = "failing reverse-i-search: %s";
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String BUSY_STYLE_CLASS = "busy";
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
@@ -31,6 +39,15 @@ public class CommandBox extends UiPart<Region> {
     private TextField commandTextField;
     @FXML
     private TextField commandHintField;
+    @FXML
+    private Label historySearchLabel;
+
+    /** Whether the keys typed are searching the command history instead of editing the command. */
+    private boolean isSearchingHistory;
+    private String searchText = "";
+    /** Index in the command history of the command shown by the search, or -1 if none is shown yet. */
+    private int searchMatchIndex = -1;
+    private String textBeforeSearch = "";
 
     /**
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
@@ -46,6 +63,7 @@ public class CommandBox extends UiPart<Region> {
         // calls handleInput whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, newText) -> handleInput(newText));
         commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, this::handleKeyPress);
+        commandTextField.addEventFilter(KeyEvent.KEY_TYPED, this::handleKeyTyped);
     }
 
     /**
@@ -58,12 +76,20 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        // Clear the command box right away, so that the next command can be typed while this one runs
+        commandTextField.setText("");
+        commandExecutor.execute(commandText).whenComplete((result, error) -> {
+            if (error == null) {
+                autocompletor.recordCommand(commandText);
+                return;
+            }
+            // Give the failed command back to be fixed, unless the next command is being typed already
+            if (commandTextField.getText().isEmpty()) {
+                commandTextField.setText(commandText);
+                commandTextField.end();
+                setStyleToIndicateCommandFailure();
+            }
+        });
     }
 
     /**
@@ -72,7 +98,7 @@ public class CommandBox extends UiPart<Region> {
      */
     private void handleInput(String commandText) {
         setStyleToDefault();
-        if (commandText.equals("")) {
+        if (isSearchingHistory || commandText.equals("")) {
             commandHintField.setText("");
             return;
         }
@@ -101,6 +127,20 @@ public class CommandBox extends UiPart<Region> {
     }
 
     private void handleKeyPress(KeyEvent event) {
+        if (SEARCH_HISTORY.match(event)) {
+            if (isSearchingHistory) {
+                searchOlderMatch();
+            } else {
+                startHistorySearch();
+            }
+            event.consume();
+            return;
+        }
+        if (isSearchingHistory && handleHistorySearchKeyPress(event)) {
+            event.consume();
+            return;
+        }
+
         if (event.getCode().equals(GO_NEXT_COMMAND)) {
             goToNextCommand();
             event.consume();
@@ -113,6 +153,103 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Handles a key pressed while searching the command history, and returns true if the key was used by the search.
+     * Keys that do not edit the search end it, leaving the command found in the command box, and are then handled
+     * as usual, so that pressing Enter runs the command found.
+     */
+    private boolean handleHistorySearchKeyPress(KeyEvent event) {
+        KeyCode code = event.getCode();
+        if (code.isModifierKey()) {
+            return false;
+        } else if (code.equals(KeyCode.BACK_SPACE)) {
+            if (!searchText.isEmpty()) {
+                searchText = searchText.substring(0, searchText.length() - 1);
+                searchFromMostRecent();
+            }
+            return true;
+        } else if (code.equals(CANCEL_SEARCH_HISTORY)) {
+            endHistorySearch();
+            commandTextField.setText(textBeforeSearch);
+            commandTextField.end();
+            return true;
+        }
+        endHistorySearch();
+        return false;
+    }
+
+    /**
+     * Adds the characters typed while searching the command history to the text searched for.
+     */
+    private void handleKeyTyped(KeyEvent event) {
+        if (!isSearchingHistory) {
+            return;
+        }
+        String character = event.getCharacter();
+        if (character.isEmpty() || Character.isISOControl(character.charAt(0))
+                || event.isControlDown() || event.isAltDown() || event.isMetaDown()) {
+            return;
+        }
+        searchText += character;
+        searchFromMostRecent();
+        event.consume();
+    }
+
+    private void startHistorySearch() {
+        isSearchingHistory = true;
+        textBeforeSearch = commandTextField.getText();
+        searchText = "";
+        searchMatchIndex = -1;
+        commandHintField.setText("");
+        showSearchPrompt(true);
+    }
+
+    /**
+     * Shows the most recent command containing the text searched for.
+     */
+    private void searchFromMostRecent() {
+        searchMatchIndex = -1;
+        if (searchText.isEmpty()) {
+            showSearchPrompt(true);
+            return;
+        }
+        showSearchMatch(chm.findCommandContaining(searchText, 0));
+    }
+
+    /**
+     * Shows the next older command containing the text searched for, keeping the current command if there is none.
+     */
+    private void searchOlderMatch() {
+        if (searchText.isEmpty()) {
+            return;
+        }
+        showSearchMatch(chm.findCommandContaining(searchText, searchMatchIndex + 1));
+    }
+
+    private void showSearchMatch(int index) {
+        if (index == -1) {
+            showSearchPrompt(false);
+            return;
+        }
+        searchMatchIndex = index;
+        String match = chm.getCommand(index);
+        commandTextField.setText(match);
+        commandTextField.positionCaret(match.length());
+        showSearchPrompt(true);
+    }
+
+    private void showSearchPrompt(boolean isFound) {
+        String format = isFound ? SEARCH_HISTORY_PROMPT : FAILED_SEARCH_HISTORY_PROMPT;
+        historySearchLabel.setText(String.format(format, searchText));
+        historySearchLabel.setVisible(true);
+    }
+
+    private void endHistorySearch() {
+        isSearchingHistory = false;
+        historySearchLabel.setVisible(false);
+        handleInput(commandTextField.getText());
+    }
+
     private void goToPreviousCommand() {
         String previousCommand = chm.getPreviousCommandFromHistory(commandTextField.getText());
         if (previousCommand == null) {
@@ -146,6 +283,18 @@ public class CommandBox extends UiPart<Region> {
         commandTextField.end();
     }
 
+    /**
+     * Shows whether commands entered are still running.
+     */
+    public void setBusy(boolean isBusy) {
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        if (!isBusy) {
+            styleClass.remove(BUSY_STYLE_CLASS);
+        } else if (!styleClass.contains(BUSY_STYLE_CLASS)) {
+            styleClass.add(BUSY_STYLE_CLASS);
+        }
+    }
+
     /**
      * Disables the command box input.
      */
@@ -168,11 +317,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns its result, which is completed on the JavaFX application thread,
+         * exceptionally if the command failed.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.CommandPipeline#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
@@ -0,0 +1,93 @@
+package seedu.address.ui;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of an {@code ObservableList} that is only changed through an executor, such as the JavaFX application
+ * thread, so that UI controls can be bound to a list that is changed on another thread.
+ * Each change to the source list is recorded on the thread that made it, and replayed on the copy through the
+ * executor in the same order. The copy is made when the mirror is created, so the source list must not be changing
+ * at that time.
+ */
+public class ListMirror<T> {
+    private final ObservableList<T> mirror;
+    private final ObservableList<T> unmodifiableMirror;
+    private final Executor executor;
+
+    /**
+     * Creates a {@code ListMirror} of {@code source} that is changed through {@code executor}.
+     */
+    public ListMirror(ObservableList<? extends T> source, Executor executor) {
+        requireAllNonNull(source, executor);
+        this.mirror = FXCollections.observableArrayList(source);
+        this.unmodifiableMirror = FXCollections.unmodifiableObservableList(mirror);
+        this.executor = executor;
+        source.addListener(this::recordChange);
+    }
+
+    /**
+     * Returns an unmodifiable view of the copy, which is only changed through the executor.
+     */
+    public ObservableList<T> getList() {
+        return unmodifiableMirror;
+    }
+
+    /**
+     * Copies the parts of {@code change} needed to replay it, and schedules the replay on the executor.
+     * A reordering of the source list is replayed by copying the whole list, as the copy cannot be reordered in place.
+     */
+    private void recordChange(ListChangeListener.Change<? extends T> change) {
+        List<Edit<T>> edits = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<T> reordered = List.copyOf(change.getList());
+                executor.execute(() -> mirror.setAll(reordered));
+                return;
+            }
+            if (change.wasUpdated()) {
+                int from = change.getFrom();
+                int to = change.getTo();
+                edits.add(new Edit<>(from, to - from, List.copyOf(change.getList().subList(from, to))));
+            } else {
+                edits.add(new Edit<>(change.getFrom(), change.getRemovedSize(),
+                        List.copyOf(change.getAddedSubList())));
+            }
+        }
+        executor.execute(() -> edits.forEach(edit -> edit.applyTo(mirror)));
+    }
+
+    /**
+     * Replaces {@code removedSize} elements starting from {@code from} with {@code added}.
+     */
+    private static class Edit<T> {
+        private final int from;
+        private final int removedSize;
+        private final List<T> added;
+
+        Edit(int from, int removedSize, List<T> added) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.added = added;
+        }
+
+        void applyTo(ObservableList<T> list) {
+            int replaced = Math.min(removedSize, added.size());
+            for (int i = 0; i < replaced; i++) {
+                list.set(from + i, added.get(i));
+            }
+            if (removedSize > replaced) {
+                list.remove(from + replaced, from + removedSize);
+            } else if (added.size() > replaced) {
+                list.addAll(from + replaced, added.subList(replaced, added.size()));
+            }
+        }
+    }
+}
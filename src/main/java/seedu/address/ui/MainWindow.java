@@ -1,7 +1,9 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -13,14 +15,14 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandPipeline;
 import seedu.address.logic.Logic;
 import seedu.address.logic.autocomplete.Autocompletor;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.util.ApplicationLinkLauncher;
 import seedu.address.logic.util.ApplicationLinkResult;
 import seedu.address.model.ReadOnlyCommandHistory;
+import seedu.address.model.person.Person;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -47,8 +49,11 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandPipeline commandPipeline;
 
     private boolean isCommandMode;
+    /** Number of commands entered that have not finished running. */
+    private int runningCommandCount;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
@@ -71,14 +76,16 @@ public class MainWindow extends UiPart<Stage> {
     private StackPane statusbarPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}, that executes commands through
+     * {@code commandPipeline}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, CommandPipeline commandPipeline) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandPipeline = commandPipeline;
         this.isCommandMode = false;
 
         // Configure the UI
@@ -131,7 +138,9 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList(),
+        // Commands change the person list on the command pipeline's thread
+        ListMirror<Person> personList = new ListMirror<>(logic.getFilteredPersonList(), Platform::runLater);
+        personListPanel = new PersonListPanel(personList.getList(),
                 message -> resultDisplay.setFeedbackToUser(message));
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
@@ -258,13 +267,22 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Starts executing the command in the background and returns its result, which is shown once it is ready.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.CommandPipeline#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        runningCommandCount++;
+        commandBox.setBusy(true);
+        return commandPipeline.execute(commandText).whenComplete((commandResult, error) -> {
+            runningCommandCount--;
+            commandBox.setBusy(runningCommandCount > 0);
+            if (error != null) {
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(error.getMessage());
+                return;
+            }
+
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -275,12 +293,6 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
-
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        }
+        });
     }
 }
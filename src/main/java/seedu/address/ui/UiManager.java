@@ -10,9 +10,11 @@ import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandPipeline;
 import seedu.address.logic.Logic;
 import seedu.address.logic.autocomplete.Autocompletor;
 import seedu.address.model.ReadOnlyCommandHistory;
+import seedu.address.model.person.Person;
 
 /**
  * The manager of the UI component.
@@ -25,14 +27,17 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/dev_books_32.png";
 
     private Logic logic;
+    private CommandPipeline commandPipeline;
     private ReadOnlyCommandHistory commandHistory;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, that executes commands through
+     * {@code commandPipeline}.
      */
-    public UiManager(Logic logic, ReadOnlyCommandHistory history) {
+    public UiManager(Logic logic, CommandPipeline commandPipeline, ReadOnlyCommandHistory history) {
         this.logic = logic;
+        this.commandPipeline = commandPipeline;
         this.commandHistory = history;
     }
 
@@ -44,10 +49,12 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, logic, commandPipeline);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
-            mainWindow.createCommandBox(new Autocompletor(), commandHistory);
+            ListMirror<Person> persons = new ListMirror<>(logic.getAddressBook().getPersonList(), Platform::runLater);
+            Autocompletor autocompletor = new Autocompletor(persons.getList(), commandHistory);
+            mainWindow.createCommandBox(autocompletor, commandHistory);
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
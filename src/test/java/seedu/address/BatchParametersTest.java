@@ -0,0 +1,93 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+public class BatchParametersTest {
+
+    private final BatchParameters expected = new BatchParameters();
+
+    @Test
+    public void isBatchMode() {
+        assertTrue(BatchParameters.isBatchMode(new String[] {"--batch"}));
+        assertTrue(BatchParameters.isBatchMode(new String[] {"--batch", "script.txt"}));
+        assertFalse(BatchParameters.isBatchMode(new String[] {}));
+        assertFalse(BatchParameters.isBatchMode(new String[] {"--config=config.json"}));
+        assertFalse(BatchParameters.isBatchMode(new String[] {"script.txt", "--batch"}));
+    }
+
+    @Test
+    public void parse_noParameters_readsStandardInput() {
+        assertEquals(expected, BatchParameters.parse(new String[] {"--batch"}));
+        assertEquals(expected, BatchParameters.parse(new String[] {"--batch", "-"}));
+    }
+
+    @Test
+    public void parse_allParameters_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setAutoConfirm(true);
+        expected.setCheckpointInterval(1000);
+        expected.setExportPath(Paths.get("backup.json"));
+        expected.setScriptPath(Paths.get("script.txt"));
+
+        assertEquals(expected, BatchParameters.parse(new String[] {
+            "--batch", "--config=config.json", "--yes", "--checkpoint=1000", "--export=backup.json", "script.txt"}));
+    }
+
+    @Test
+    public void parse_invalidParameters_throwsIllegalArgumentException() {
+        // unknown flag
+        assertThrows(IllegalArgumentException.class, () -> BatchParameters.parse(new String[] {"--batch", "--no"}));
+
+        // script not last
+        assertThrows(IllegalArgumentException.class, () ->
+                BatchParameters.parse(new String[] {"--batch", "script.txt", "--yes"}));
+
+        // checkpoint interval not a positive number
+        assertThrows(IllegalArgumentException.class, () ->
+                BatchParameters.parse(new String[] {"--batch", "--checkpoint=0"}));
+        assertThrows(IllegalArgumentException.class, () ->
+                BatchParameters.parse(new String[] {"--batch", "--checkpoint=often"}));
+
+        // invalid config path
+        assertThrows(IllegalArgumentException.class, () ->
+                BatchParameters.parse(new String[] {"--batch", "--config=a\0"}));
+
+        // invalid export path
+        assertThrows(IllegalArgumentException.class, () ->
+                BatchParameters.parse(new String[] {"--batch", "--export=a\0"}));
+    }
+
+    @Test
+    public void equals() {
+        BatchParameters batchParameters = new BatchParameters();
+
+        // same values -> returns true
+        assertTrue(batchParameters.equals(new BatchParameters()));
+
+        // same object -> returns true
+        assertTrue(batchParameters.equals(batchParameters));
+
+        // null -> returns false
+        assertFalse(batchParameters.equals(null));
+
+        // different type -> returns false
+        assertFalse(batchParameters.equals(5.0f));
+
+        // different auto confirm -> returns false
+        BatchParameters otherBatchParameters = new BatchParameters();
+        otherBatchParameters.setAutoConfirm(true);
+        assertFalse(batchParameters.equals(otherBatchParameters));
+
+        // different export path -> returns false
+        otherBatchParameters = new BatchParameters();
+        otherBatchParameters.setExportPath(Paths.get("backup.json"));
+        assertFalse(batchParameters.equals(otherBatchParameters));
+    }
+}
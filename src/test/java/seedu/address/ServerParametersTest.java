@@ -0,0 +1,78 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+public class ServerParametersTest {
+
+    private final ServerParameters expected = new ServerParameters();
+
+    @Test
+    public void isServerMode() {
+        assertTrue(ServerParameters.isServerMode(new String[] {"--serve"}));
+        assertTrue(ServerParameters.isServerMode(new String[] {"--serve", "--port=9000"}));
+        assertFalse(ServerParameters.isServerMode(new String[] {}));
+        assertFalse(ServerParameters.isServerMode(new String[] {"--batch"}));
+        assertFalse(ServerParameters.isServerMode(new String[] {"--port=9000", "--serve"}));
+    }
+
+    @Test
+    public void parse_noParameters_defaultPort() {
+        assertEquals(expected, ServerParameters.parse(new String[] {"--serve"}));
+        assertEquals(ServerParameters.DEFAULT_PORT, expected.getPort());
+    }
+
+    @Test
+    public void parse_allParameters_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setPort(0);
+
+        assertEquals(expected, ServerParameters.parse(new String[] {"--serve", "--config=config.json", "--port=0"}));
+    }
+
+    @Test
+    public void parse_invalidParameters_throwsIllegalArgumentException() {
+        // unknown parameter
+        assertThrows(IllegalArgumentException.class, () -> ServerParameters.parse(new String[] {"--serve", "now"}));
+
+        // port out of range or not a number
+        assertThrows(IllegalArgumentException.class, () ->
+                ServerParameters.parse(new String[] {"--serve", "--port=-1"}));
+        assertThrows(IllegalArgumentException.class, () ->
+                ServerParameters.parse(new String[] {"--serve", "--port=65536"}));
+        assertThrows(IllegalArgumentException.class, () ->
+                ServerParameters.parse(new String[] {"--serve", "--port=http"}));
+
+        // invalid config path
+        assertThrows(IllegalArgumentException.class, () ->
+                ServerParameters.parse(new String[] {"--serve", "--config=a\0"}));
+    }
+
+    @Test
+    public void equals() {
+        ServerParameters serverParameters = new ServerParameters();
+
+        // same values -> returns true
+        assertTrue(serverParameters.equals(new ServerParameters()));
+
+        // same object -> returns true
+        assertTrue(serverParameters.equals(serverParameters));
+
+        // null -> returns false
+        assertFalse(serverParameters.equals(null));
+
+        // different type -> returns false
+        assertFalse(serverParameters.equals(5.0f));
+
+        // different port -> returns false
+        ServerParameters otherServerParameters = new ServerParameters();
+        otherServerParameters.setPort(9000);
+        assertFalse(serverParameters.equals(otherServerParameters));
+    }
+}
@@ -1,13 +1,24 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +31,57 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_missingParentDirectories_fileWritten() throws Exception {
+        Path file = testFolder.resolve("missing").resolve("data.txt");
+        FileUtil.writeToFileAtomically(file, "first");
+        FileUtil.writeToFileAtomically(file, "second");
+
+        assertEquals("second", FileUtil.readFromFileVerified(file));
+        assertTrue(FileUtil.isFileExists(FileUtil.getChecksumFilePath(file)));
+        // only the file and its checksum are left behind
+        try (Stream<Path> files = Files.list(file.getParent())) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    public void readFromFileVerified_noChecksum_contentsRead() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        FileUtil.writeToFile(file, "contents");
+
+        assertEquals("contents", FileUtil.readFromFileVerified(file));
+    }
+
+    @Test
+    public void readFromFileVerified_corruptedContents_throwsIoException() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        FileUtil.writeToFileAtomically(file, "contents");
+        FileTime lastModified = Files.getLastModifiedTime(file);
+        FileUtil.writeToFile(file, "c0ntents");
+        Files.setLastModifiedTime(file, lastModified);
+
+        assertThrows(IOException.class, String.format(FileUtil.MESSAGE_CHECKSUM_MISMATCH, file), () ->
+                FileUtil.readFromFileVerified(file));
+    }
+
+    @Test
+    public void readFromFileVerified_modifiedAfterWrite_contentsRead() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        FileUtil.writeToFileAtomically(file, "contents");
+        FileUtil.writeToFile(file, "edited by hand");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 1000));
+
+        assertEquals("edited by hand", FileUtil.readFromFileVerified(file));
+    }
+
+    @Test
+    public void appendToFile_afterAtomicWrite_contentsAppendedAndChecksumRemoved() throws Exception {
+        Path file = testFolder.resolve("data.txt");
+        FileUtil.writeToFileAtomically(file, "first\n");
+        FileUtil.appendToFile(file, "second\n");
+
+        assertEquals("first\nsecond\n", FileUtil.readFromFileVerified(file));
+        assertFalse(FileUtil.isFileExists(FileUtil.getChecksumFilePath(file)));
+    }
 }
@@ -0,0 +1,158 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty_hasNoElements() {
+        PersistentList<String> list = PersistentList.empty();
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+        assertEquals(Collections.emptyList(), list.toList());
+    }
+
+    @Test
+    public void of_elements_keptInOrder() {
+        List<String> elements = Arrays.asList("a", "b", "c", "d", "e");
+        PersistentList<String> list = PersistentList.of(elements);
+        assertEquals(elements, list.toList());
+        assertEquals("c", list.get(2));
+    }
+
+    @Test
+    public void of_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.of(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void modifications_originalUnchanged() {
+        PersistentList<String> original = PersistentList.of(Arrays.asList("a", "b", "c"));
+
+        PersistentList<String> added = original.add(1, "x");
+        PersistentList<String> set = original.set(0, "y");
+        PersistentList<String> removed = original.remove(2);
+
+        assertEquals(Arrays.asList("a", "b", "c"), original.toList());
+        assertEquals(Arrays.asList("a", "x", "b", "c"), added.toList());
+        assertEquals(Arrays.asList("y", "b", "c"), set.toList());
+        assertEquals(Arrays.asList("a", "b"), removed.toList());
+    }
+
+    @Test
+    public void modifications_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.add(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                actual = actual.set(index, -i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            }
+        }
+
+        assertEquals(expected, actual.toList());
+        assertEquals(expected.size(), actual.size());
+    }
+
+    @Test
+    public void commonPrefixAndSuffixLength_laterVersions_matchElementByElementComparison() {
+        Random random = new Random(2103);
+        List<Object> elements = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            elements.add(new Object());
+        }
+        PersistentList<Object> original = PersistentList.of(elements);
+
+        for (int version = 0; version < 200; version++) {
+            List<Object> expected = new ArrayList<>(elements);
+            PersistentList<Object> changed = original;
+            for (int change = random.nextInt(4); change >= 0; change--) {
+                int index = random.nextInt(expected.size());
+                Object element = new Object();
+                int operation = random.nextInt(3);
+                if (operation == 0) {
+                    expected.add(index, element);
+                    changed = changed.add(index, element);
+                } else if (operation == 1) {
+                    expected.set(index, element);
+                    changed = changed.set(index, element);
+                } else {
+                    expected.remove(index);
+                    changed = changed.remove(index);
+                }
+            }
+
+            int prefixLength = 0;
+            while (prefixLength < Math.min(elements.size(), expected.size())
+                    && elements.get(prefixLength) == expected.get(prefixLength)) {
+                prefixLength++;
+            }
+            int maxSuffixLength = Math.min(elements.size(), expected.size()) - prefixLength;
+            int suffixLength = 0;
+            while (suffixLength < maxSuffixLength && elements.get(elements.size() - 1 - suffixLength)
+                    == expected.get(expected.size() - 1 - suffixLength)) {
+                suffixLength++;
+            }
+            assertEquals(prefixLength, original.commonPrefixLength(changed));
+            assertEquals(prefixLength, changed.commonPrefixLength(original));
+            assertEquals(suffixLength, original.commonSuffixLength(changed, maxSuffixLength));
+            assertEquals(suffixLength, changed.commonSuffixLength(original, maxSuffixLength));
+        }
+    }
+
+    @Test
+    public void commonPrefixLength_unrelatedLists_comparedByInstance() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b", "c"));
+        assertEquals(3, list.commonPrefixLength(list));
+        assertEquals(0, list.commonPrefixLength(PersistentList.empty()));
+        assertEquals(2, list.commonPrefixLength(PersistentList.of(Arrays.asList("a", "b", new String("c")))));
+        assertEquals(1, list.commonSuffixLength(list, 1));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test
+    public void add_indexPastEnd_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(3, "c"));
+    }
+
+    @Test
+    public void equals() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+
+        // same elements -> returns true
+        assertEquals(list, PersistentList.empty().add("a").add("b"));
+
+        // different elements -> returns false
+        assertFalse(list.equals(list.set(0, "c")));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -221,6 +222,53 @@ public class StringUtilTest {
         assertTrue(StringUtil.hasWordStartingWithIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for toSearchKey and toSearchKeyword --------------------------------------
+
+    @Test
+    public void toSearchKey_mixedCase_caseFolded() {
+        assertEquals("hans tho", StringUtil.toSearchKey("Hans THO"));
+        assertEquals(StringUtil.toSearchKey("ÉCOLE"), StringUtil.toSearchKey("école"));
+        assertEquals("", StringUtil.toSearchKey(""));
+    }
+
+    @Test
+    public void toSearchKey_keysOrderedLikeCompareToIgnoreCase() {
+        String[] texts = {"alice", "Bob", "ALEX", "bobby", "Zed", "_under", "ärger"};
+        for (String first : texts) {
+            for (String second : texts) {
+                assertEquals(Integer.signum(first.compareToIgnoreCase(second)),
+                        Integer.signum(StringUtil.toSearchKey(first).compareTo(StringUtil.toSearchKey(second))));
+            }
+        }
+    }
+
+    @Test
+    public void toSearchKeyword_invalidKeyword_throwsException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toSearchKeyword(null));
+        assertThrows(IllegalArgumentException.class, StringUtil.ERROR_EMPTY_KEYWORD, ()
+                -> StringUtil.toSearchKeyword(" \t"));
+        assertThrows(IllegalArgumentException.class, StringUtil.ERROR_MULTIPLE_WORDS, ()
+                -> StringUtil.toSearchKeyword("aaa\tBBB"));
+    }
+
+    @Test
+    public void toSearchKeyword_validKeyword_trimmedAndCaseFolded() {
+        assertEquals("hans", StringUtil.toSearchKeyword("  HaNs "));
+    }
+
+    //---------------- Tests for hasWordStartingWith --------------------------------------
+
+    @Test
+    public void hasWordStartingWith_normalizedInputs_correctResult() {
+        assertFalse(StringUtil.hasWordStartingWith("", "a"));
+        assertFalse(StringUtil.hasWordStartingWith("aad bbb", "d"));
+        assertFalse(StringUtil.hasWordStartingWith("aaa bbb", "bbbb"));
+
+        assertTrue(StringUtil.hasWordStartingWith("aaa bbb", "a"));
+        assertTrue(StringUtil.hasWordStartingWith("  aaa \t bbb  ", "bb"));
+        assertTrue(StringUtil.hasWordStartingWith("aaa bbb", "bbb"));
+    }
+
     //---------------- Tests for startsWithIgnoreCase --------------------------------------
 
     /*
@@ -0,0 +1,176 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.GITHUB_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.GITHUB_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.TELEGRAM_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.TELEGRAM_DESC_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.CommandRegistry;
+import seedu.address.logic.commands.ConfirmCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.CheckpointStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.NewlineDelimitedCommandHistoryStorage;
+import seedu.address.storage.StorageManager;
+
+public class BatchRunnerTest {
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + TELEGRAM_DESC_AMY + GITHUB_DESC_AMY;
+    private static final String ADD_BOB = AddCommand.COMMAND_WORD + NAME_DESC_BOB + PHONE_DESC_BOB
+            + EMAIL_DESC_BOB + TELEGRAM_DESC_BOB + GITHUB_DESC_BOB;
+    private static final String INVALID_COMMAND = "uicfhmowqewca";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream errorBytes = new ByteArrayOutputStream();
+    private final PrintStream errors = new PrintStream(errorBytes, true, StandardCharsets.UTF_8);
+    private CheckpointStorage storage;
+    private Logic logic;
+    private int checkpointCount;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storageManager = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new NewlineDelimitedCommandHistoryStorage(temporaryFolder.resolve(".hist")));
+        storage = new CheckpointStorage(storageManager);
+        CommandRegistry.initialize();
+        logic = new LogicManager(model, storage, new StateManager());
+    }
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> new BatchRunner(null, this::checkpoint, false, 0));
+        assertThrows(NullPointerException.class, () -> new BatchRunner(logic, null, false, 0));
+        assertThrows(IllegalArgumentException.class, BatchRunner.MESSAGE_INVALID_CHECKPOINT_INTERVAL, () ->
+                new BatchRunner(logic, this::checkpoint, false, -1));
+    }
+
+    @Test
+    public void run_validCommands_savedOnceAtEnd() throws Exception {
+        BatchRunner.Summary summary = run(false, 0, ADD_AMY, ADD_BOB, ListCommand.COMMAND_WORD);
+
+        assertEquals(new BatchRunner.Summary(3, 0), summary);
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+        assertEquals(1, checkpointCount);
+        assertEquals(model.getAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        assertEquals("", errorOutput());
+    }
+
+    @Test
+    public void run_blankLinesAndComments_skipped() throws Exception {
+        BatchRunner.Summary summary = run(false, 0, "", BatchRunner.COMMENT_PREFIX + " add everyone", "   ", ADD_AMY);
+
+        assertEquals(new BatchRunner.Summary(1, 0), summary);
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void run_failedCommand_reportedAndLaterCommandsRun() throws Exception {
+        BatchRunner.Summary summary = run(false, 0, ADD_AMY, INVALID_COMMAND, ADD_AMY, ADD_BOB);
+
+        assertEquals(new BatchRunner.Summary(4, 2), summary);
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+        assertTrue(errorOutput().contains("Line 2: " + INVALID_COMMAND));
+        assertTrue(errorOutput().contains("Line 3: " + ADD_AMY));
+    }
+
+    @Test
+    public void run_checkpointInterval_savesEveryIntervalAndAtEnd() throws Exception {
+        run(false, 2, ADD_AMY, ListCommand.COMMAND_WORD, ADD_BOB, ListCommand.COMMAND_WORD, ListCommand.COMMAND_WORD);
+
+        assertEquals(3, checkpointCount);
+    }
+
+    @Test
+    public void run_confirmationWithAutoConfirm_confirmed() throws Exception {
+        BatchRunner.Summary summary = run(true, 0, ADD_AMY, ClearCommand.COMMAND_WORD, ADD_BOB);
+
+        assertEquals(new BatchRunner.Summary(3, 0), summary);
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void run_confirmationAnsweredByNextLine_confirmed() throws Exception {
+        run(false, 0, ADD_AMY, ClearCommand.COMMAND_WORD, ConfirmCommand.USER_INPUT_CONFIRM);
+
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void run_confirmationNotAnswered_notCarriedOutAndReported() throws Exception {
+        run(false, 0, ADD_AMY, ClearCommand.COMMAND_WORD);
+
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertTrue(errorOutput().contains(String.format(BatchRunner.MESSAGE_NOT_CONFIRMED, 2,
+                ClearCommand.COMMAND_WORD)));
+    }
+
+    @Test
+    public void run_exitCommand_laterCommandsNotRun() throws Exception {
+        BatchRunner.Summary summary = run(false, 0, ADD_AMY, ExitCommand.COMMAND_WORD, ADD_BOB);
+
+        assertEquals(new BatchRunner.Summary(2, 0), summary);
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertEquals(1, checkpointCount);
+    }
+
+    @Test
+    public void run_checkpointFails_throwsIoException() {
+        BatchRunner runner = new BatchRunner(logic, () -> {
+            throw new IOException("disk full");
+        }, false, 0);
+
+        assertThrows(IOException.class, () -> runner.run(script(ADD_AMY), errors));
+    }
+
+    private BatchRunner.Summary run(boolean isAutoConfirm, int checkpointInterval, String... lines)
+            throws IOException {
+        return new BatchRunner(logic, this::checkpoint, isAutoConfirm, checkpointInterval).run(script(lines), errors);
+    }
+
+    private void checkpoint() throws IOException {
+        checkpointCount++;
+        storage.checkpoint();
+    }
+
+    private static BufferedReader script(String... lines) {
+        return new BufferedReader(new StringReader(String.join("\n", List.of(lines))));
+    }
+
+    private String errorOutput() {
+        return errorBytes.toString(StandardCharsets.UTF_8);
+    }
+}
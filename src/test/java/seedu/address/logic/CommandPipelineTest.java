@@ -0,0 +1,173 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+public class CommandPipelineTest {
+    private static final String INVALID_COMMAND = "invalid";
+    private static final String FAILING_COMMAND = "failing";
+
+    private LogicStub logic;
+    private List<Runnable> postedResults;
+    private CommandPipeline pipeline;
+
+    @BeforeEach
+    public void setUp() {
+        logic = new LogicStub();
+        postedResults = Collections.synchronizedList(new ArrayList<>());
+        pipeline = new CommandPipeline(logic, postedResults::add);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CommandPipeline(null, postedResults::add));
+        assertThrows(NullPointerException.class, () -> new CommandPipeline(logic, null));
+    }
+
+    @Test
+    public void execute_validCommand_resultPostedThroughResultExecutor() throws Exception {
+        CompletableFuture<CommandResult> result = pipeline.execute("list");
+        pipeline.shutdown();
+
+        // The result is only completed once the posted result is run
+        assertFalse(result.isDone());
+        runPostedResults();
+        assertEquals(new CommandResult("list"), result.get());
+    }
+
+    @Test
+    public void execute_failingCommands_completedExceptionallyWithCause() {
+        CompletableFuture<CommandResult> invalid = pipeline.execute(INVALID_COMMAND);
+        CompletableFuture<CommandResult> failing = pipeline.execute(FAILING_COMMAND);
+        pipeline.shutdown();
+        runPostedResults();
+
+        assertThrows(ExecutionException.class, () -> invalid.get());
+        assertTrue(invalid.handle((result, error) -> error).join() instanceof ParseException);
+        assertThrows(ExecutionException.class, () -> failing.get());
+        assertTrue(failing.handle((result, error) -> error).join() instanceof CommandException);
+    }
+
+    @Test
+    public void execute_manyCommands_executedInOrderOnWorker() {
+        List<CompletableFuture<CommandResult>> results = new ArrayList<>();
+        List<String> commands = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            commands.add("command " + i);
+            results.add(pipeline.execute("command " + i));
+        }
+        pipeline.shutdown();
+
+        assertEquals(commands, logic.executedCommands);
+        assertEquals(1, logic.executingThreads.size());
+        assertNotEquals(Thread.currentThread().getName(), logic.executingThreads.get(0));
+
+        runPostedResults();
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(new CommandResult("command " + i), results.get(i).join());
+        }
+    }
+
+    @Test
+    public void runInOrder_afterCommands_runsAfterEarlierCommands() {
+        pipeline.execute("first");
+        pipeline.runInOrder(() -> logic.executedCommands.add("task"));
+        pipeline.execute("second");
+        pipeline.shutdown();
+
+        assertEquals(List.of("first", "task", "second"), logic.executedCommands);
+    }
+
+    @Test
+    public void runInOrder_taskThrows_laterCommandsStillRun() {
+        pipeline.runInOrder(() -> {
+            throw new IllegalStateException();
+        });
+        pipeline.execute("list");
+        pipeline.shutdown();
+
+        assertEquals(List.of("list"), logic.executedCommands);
+    }
+
+    private void runPostedResults() {
+        List<Runnable> results = new ArrayList<>(postedResults);
+        postedResults.clear();
+        results.forEach(Runnable::run);
+    }
+
+    /**
+     * A {@code Logic} that records the commands it executes and the threads it executes them on.
+     */
+    private static class LogicStub implements Logic {
+        private final List<String> executedCommands = new ArrayList<>();
+        private final List<String> executingThreads = new ArrayList<>();
+
+        @Override
+        public CommandResult execute(String commandText) throws CommandException, ParseException {
+            executedCommands.add(commandText);
+            String threadName = Thread.currentThread().getName();
+            if (!executingThreads.contains(threadName)) {
+                executingThreads.add(threadName);
+            }
+            if (commandText.equals(INVALID_COMMAND)) {
+                throw new ParseException("Invalid command");
+            }
+            if (commandText.equals(FAILING_COMMAND)) {
+                throw new CommandException("Failing command");
+            }
+            return new CommandResult(commandText);
+        }
+
+        @Override
+        public ReadOnlyAddressBook getAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public PersistentList<Person> getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Person> getFilteredPersonList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Path getAddressBookFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public GuiSettings getGuiSettings() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setGuiSettings(GuiSettings guiSettings) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
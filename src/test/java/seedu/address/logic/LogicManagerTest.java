@@ -30,6 +30,7 @@ import seedu.address.logic.commands.ConfirmationPendingResult;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.AddressBook;
@@ -236,6 +237,27 @@ public class LogicManagerTest {
                 "Expected saveAddressBook() to be called but it was not.");
     }
 
+    @Test
+    public void execute_writeCommandWhileLoading_throwsCommandException() throws Exception {
+        State state = new StateManager();
+        state.setLoadingData(true);
+        TrackingStorageManager trackingStorage = getTestStorageManager();
+        LogicManager lm = new LogicManager(model, trackingStorage, state);
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + TELEGRAM_DESC_AMY + GITHUB_DESC_AMY + PREFERRED_MODE_DESC_AMY;
+
+        assertThrows(CommandException.class, LogicManager.MESSAGE_DATA_LOADING, () -> lm.execute(addCommand));
+        assertEquals(new ModelManager(), model);
+        assertFalse(trackingStorage.saveCalled);
+
+        // commands that do not change the address book can still be used
+        lm.execute(ListCommand.COMMAND_WORD);
+
+        state.setLoadingData(false);
+        lm.execute(addCommand);
+        assertTrue(trackingStorage.saveCalled);
+    }
+
     @Test
     public void execute_listCommand_doesNotTriggerWrite() throws Exception {
         String listCommand = ListCommand.COMMAND_WORD;
@@ -269,6 +291,28 @@ public class LogicManagerTest {
                 "Expected saveAddressBook() to be called but it was not.");
     }
 
+    // Integration test
+    @Test
+    public void execute_confirmedDeleteThenUndo_restoresPersonAndWrites() throws Exception {
+        model.addPerson(AMY);
+        model.clearAddressBookHistory();
+        String deleteCommand = "delete 1";
+        TrackingStorageManager trackingStorage = getTestStorageManager();
+        LogicManager lm = new LogicManager(model, trackingStorage, new StateManager());
+        lm.execute(deleteCommand);
+        lm.execute(ConfirmCommand.USER_INPUT_CONFIRM);
+        assertFalse(model.hasPerson(AMY));
+
+        CommandResult result = lm.execute(UndoCommand.COMMAND_WORD);
+
+        assertEquals(UndoCommand.MESSAGE_SUCCESS, result.getFeedbackToUser());
+        assertTrue(model.hasPerson(AMY));
+        assertTrue(trackingStorage.saveCalled,
+                "Expected saveAddressBook() to be called but it was not.");
+        // The delete prompt did not change the address book, so it is not a separate state to undo
+        assertFalse(model.canUndoAddressBook());
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
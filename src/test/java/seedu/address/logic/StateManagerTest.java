@@ -55,4 +55,18 @@ public class StateManagerTest {
 
         assertFalse(stateManager.isAwaitingUserConfirmation());
     }
+
+    @Test
+    public void isLoadingData_initialState_returnsFalse() {
+        assertFalse(new StateManager().isLoadingData());
+    }
+
+    @Test
+    public void setLoadingData_updatesState() {
+        StateManager stateManager = new StateManager();
+        stateManager.setLoadingData(true);
+        assertTrue(stateManager.isLoadingData());
+        stateManager.setLoadingData(false);
+        assertFalse(stateManager.isLoadingData());
+    }
 }
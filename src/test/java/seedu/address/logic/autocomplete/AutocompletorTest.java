@@ -2,10 +2,17 @@ package seedu.address.logic.autocomplete;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandRegistry;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 public class AutocompletorTest {
     @Test
@@ -51,4 +58,121 @@ public class AutocompletorTest {
 
         assertEquals("", hint);
     }
+
+    @Test
+    public void getHint_partialName_returnsFullName() {
+        ObservableList<Person> persons = FXCollections.observableArrayList(
+                new PersonBuilder().withName("Alice Pauline").build(),
+                new PersonBuilder().withName("Benson Meier").build());
+        Autocompletor completor = new Autocompletor(persons, new CommandHistory());
+
+        assertEquals("find n\\Alice Pauline", completor.getHint("find n\\al"));
+        assertEquals("edit 1 p\\91234567 n\\Benson Meier", completor.getHint("edit 1 p\\91234567 n\\benson m"));
+        assertEquals("", completor.getHint("find n\\carl"));
+        assertEquals("", completor.getHint("find n\\"));
+    }
+
+    @Test
+    public void getHint_partialTag_returnsExistingTag() {
+        ObservableList<Person> persons = FXCollections.observableArrayList(
+                new PersonBuilder().withName("Alice Pauline").withTags("friends").build(),
+                new PersonBuilder().withName("Benson Meier").withTags("family", "friends").build());
+        Autocompletor completor = new Autocompletor(persons, new CommandHistory());
+
+        assertEquals("add n\\Carl t\\family", completor.getHint("add n\\Carl t\\fa"));
+        assertEquals("edit 1 r\\friends", completor.getHint("edit 1 r\\FR"));
+        assertEquals("tag -r t\\friends r\\family", completor.getHint("tag -r t\\friends r\\f"));
+        assertEquals("", completor.getHint("add n\\Carl p\\9"));
+    }
+
+    @Test
+    public void getHint_partialFlag_returnsFlagOfCommand() {
+        Autocompletor completor = new Autocompletor();
+
+        assertEquals("list -a", completor.getHint("list -"));
+        assertEquals("list -r", completor.getHint("list -r"));
+        assertEquals("launch 1 -g", completor.getHint("launch 1 -g"));
+        assertEquals("tag -d", completor.getHint("tag -"));
+        assertEquals("", completor.getHint("list -x"));
+        assertEquals("", completor.getHint("delete -"));
+    }
+
+    @Test
+    public void getHint_personsChanged_followsChanges() {
+        Person alice = new PersonBuilder().withName("Alice Pauline").withTags("friends").build();
+        Person alex = new PersonBuilder().withName("Alex Yeoh").withTags("friends").build();
+        ObservableList<Person> persons = FXCollections.observableArrayList(alice);
+        Autocompletor completor = new Autocompletor(persons, new CommandHistory());
+
+        persons.add(alex);
+        assertEquals("find n\\Alex Yeoh", completor.getHint("find n\\al"));
+
+        persons.remove(alex);
+        assertEquals("find n\\Alice Pauline", completor.getHint("find n\\al"));
+        // The tag is still used by the remaining person
+        assertEquals("find t\\friends", completor.getHint("find t\\fr"));
+
+        persons.set(0, new PersonBuilder().withName("Bernice Yu").build());
+        assertEquals("", completor.getHint("find n\\al"));
+        assertEquals("", completor.getHint("find t\\fr"));
+        assertEquals("find n\\Bernice Yu", completor.getHint("find n\\b"));
+    }
+
+    @Test
+    public void getHint_commandsInHistory_ranksByUse() {
+        ObservableList<Person> persons = FXCollections.observableArrayList(
+                new PersonBuilder().withName("Alice Pauline").withTags("friends").build(),
+                new PersonBuilder().withName("Alex Yeoh").withTags("family").build());
+        CommandHistory history = new CommandHistory();
+        history.addCommandToHistory("find n\\Alex Yeoh");
+        history.addCommandToHistory("list -r");
+        history.addCommandToHistory("find t\\family");
+        Autocompletor completor = new Autocompletor(persons, history);
+
+        assertEquals("find n\\Alex Yeoh", completor.getHint("find n\\al"));
+        assertEquals("list -r", completor.getHint("list -"));
+        assertEquals("find t\\family", completor.getHint("find t\\f"));
+    }
+
+    @Test
+    public void recordCommand_recentUse_outranksOlderUse() {
+        ObservableList<Person> persons = FXCollections.observableArrayList(
+                new PersonBuilder().withName("Alice Pauline").build(),
+                new PersonBuilder().withName("Alex Yeoh").build());
+        Autocompletor completor = new Autocompletor(persons, new CommandHistory());
+
+        completor.recordCommand("find n\\Alex Yeoh");
+        assertEquals("find n\\Alex Yeoh", completor.getHint("find n\\al"));
+
+        completor.recordCommand("edit 1 n\\alice pauline");
+        assertEquals("find n\\Alice Pauline", completor.getHint("find n\\al"));
+    }
+
+    @Test
+    public void recordCommand_nameAddedLater_usesEarlierWeight() {
+        ObservableList<Person> persons = FXCollections.observableArrayList(
+                new PersonBuilder().withName("Alice Pauline").build());
+        Autocompletor completor = new Autocompletor(persons, new CommandHistory());
+
+        completor.recordCommand("add n\\Alex Yeoh p\\98765432");
+        persons.add(new PersonBuilder().withName("Alex Yeoh").build());
+
+        assertEquals("find n\\Alex Yeoh", completor.getHint("find n\\al"));
+    }
+
+    @Test
+    public void getHint_turkishDefaultLocale_caseIgnoredAsInOtherLocales() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+            ObservableList<Person> persons = FXCollections.observableArrayList(
+                    new PersonBuilder().withName("Ian Ito").withTags("INTERN").build());
+            Autocompletor completor = new Autocompletor(persons, new CommandHistory());
+
+            assertEquals("find n\\Ian Ito", completor.getHint("find n\\I"));
+            assertEquals("find t\\INTERN", completor.getHint("find t\\i"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
 }
@@ -0,0 +1,47 @@
+package seedu.address.logic.autocomplete;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class CompletionSetTest {
+
+    private final CompletionSet completionSet = new CompletionSet(100);
+
+    @Test
+    public void complete_usedValueRemovedAndAddedAgain_usesRemembered() {
+        completionSet.add("Alex Yeoh");
+        completionSet.add("Alice Pauline");
+        completionSet.recordUse("Alice Pauline", 0);
+
+        completionSet.remove("Alice Pauline");
+        assertEquals("Alex Yeoh", completionSet.complete("al"));
+        completionSet.add("Alice Pauline");
+        assertEquals("Alice Pauline", completionSet.complete("al"));
+    }
+
+    @Test
+    public void complete_manyValuesUsedWhileAbsent_oldestUsesForgotten() {
+        completionSet.add("Alex Yeoh");
+        completionSet.recordUse("Alice Pauline", 0);
+        for (int i = 0; i < CompletionSet.MAX_ABSENT_KEYS; i++) {
+            completionSet.recordUse("Typo " + i, i + 1);
+        }
+
+        // The uses of the value were dropped to keep the forms not in the set bounded
+        completionSet.add("Alice Pauline");
+        assertEquals("Alex Yeoh", completionSet.complete("al"));
+    }
+
+    @Test
+    public void complete_recentlyUsedWhileAbsent_usesKept() {
+        completionSet.add("Alex Yeoh");
+        completionSet.recordUse("Alice Pauline", 0);
+        for (int i = 0; i < CompletionSet.MAX_ABSENT_KEYS - 1; i++) {
+            completionSet.recordUse("Typo " + i, i + 1);
+        }
+
+        completionSet.add("Alice Pauline");
+        assertEquals("Alice Pauline", completionSet.complete("al"));
+    }
+}
@@ -1,10 +1,18 @@
 package seedu.address.logic.autocomplete.trie;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
 
 import org.junit.jupiter.api.Test;
 
@@ -41,6 +49,186 @@ public class TrieTest {
         assertEquals(0, din.size());
     }
 
+    @Test
+    public void keysWithPrefix_prefixEndsInsideEdge_returnsKeysInLexicographicOrder() {
+        Trie trie = new Trie();
+        trie.put("contradict");
+        trie.put("conspicuous");
+        trie.put("con");
+        trie.put("consciousness");
+
+        assertEquals(Arrays.asList("con", "consciousness", "conspicuous", "contradict"), trie.keysWithPrefix("co"));
+        assertEquals(Arrays.asList("consciousness", "conspicuous"), trie.keysWithPrefix("cons"));
+        assertEquals(Arrays.asList("contradict"), trie.keysWithPrefix("contra"));
+        assertEquals(0, trie.keysWithPrefix("conx").size());
+    }
+
+    @Test
+    public void keysWithPrefix_limit_returnsFirstKeysOnly() {
+        Trie trie = new Trie();
+        trie.put("list");
+        trie.put("launch");
+        trie.put("lisp");
+
+        assertEquals(Arrays.asList("launch", "lisp"), trie.keysWithPrefix("l", 2));
+        assertEquals(0, trie.keysWithPrefix("l", 0).size());
+    }
+
+    @Test
+    public void put_unicodeKeys_returnsMatchingKeys() {
+        Trie trie = new Trie();
+        trie.put("Zo\u00eb");
+        trie.put("Zo\u00e9");
+        trie.put("\u5f20\u4f1f");
+        trie.put("\u5f20\u4e09");
+
+        assertEquals(Arrays.asList("\u5f20\u4e09", "\u5f20\u4f1f"), trie.keysWithPrefix("\u5f20"));
+        assertEquals(Arrays.asList("Zo\u00e9", "Zo\u00eb"), trie.keysWithPrefix("Zo"));
+    }
+
+    @Test
+    public void put_duplicateKey_storedOnce() {
+        Trie trie = new Trie();
+        trie.put("add");
+        trie.put("add");
+
+        assertEquals(1, trie.size());
+        assertEquals(Arrays.asList("add"), trie.keysWithPrefix(""));
+    }
+
+    @Test
+    public void remove_existingKeys_keysNoLongerFound() {
+        Trie trie = new Trie();
+        trie.put("con");
+        trie.put("conspicuous");
+        trie.put("consciousness");
+
+        assertTrue(trie.remove("con"));
+        assertFalse(trie.contains("con"));
+        assertTrue(trie.remove("conspicuous"));
+        assertFalse(trie.remove("conspicuous"));
+        assertFalse(trie.remove("cons"));
+
+        assertEquals(1, trie.size());
+        assertEquals(Arrays.asList("consciousness"), trie.keysWithPrefix("c"));
+    }
+
+    @Test
+    public void putAndRemove_randomKeys_matchesSortedSet() {
+        Random random = new Random(2103);
+        TreeSet<String> expected = new TreeSet<>();
+        Trie trie = new Trie();
+
+        for (int i = 0; i < 3000; i++) {
+            StringBuilder key = new StringBuilder();
+            int length = random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                key.append("ab\u00e9\u5f20".charAt(random.nextInt(4)));
+            }
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key.toString()), trie.remove(key.toString()));
+            } else {
+                expected.add(key.toString());
+                trie.put(key.toString());
+            }
+        }
+
+        assertEquals(expected.size(), trie.size());
+        assertEquals(new ArrayList<>(expected), trie.keysWithPrefix(""));
+        for (String prefix : Arrays.asList("a", "ab", "\u00e9\u5f20", "\u5f20a")) {
+            List<String> expectedWithPrefix = new ArrayList<>();
+            for (String key : expected) {
+                if (key.startsWith(prefix)) {
+                    expectedWithPrefix.add(key);
+                }
+            }
+            assertEquals(expectedWithPrefix, trie.keysWithPrefix(prefix));
+        }
+    }
+
+    @Test
+    public void topKeysWithPrefix_weightedKeys_returnsHighestWeightFirst() {
+        Trie trie = new Trie();
+        trie.put("list");
+        trie.put("launch", 3);
+        trie.put("learn", 1);
+        trie.put("lambda", 1);
+        trie.put("add", 5);
+
+        assertEquals(List.of("launch", "lambda", "learn", "list"), trie.topKeysWithPrefix("l", 10));
+        assertEquals(List.of("launch", "lambda"), trie.topKeysWithPrefix("l", 2));
+        assertEquals(List.of("lambda"), trie.topKeysWithPrefix("lam", 1));
+        assertEquals(List.of(), trie.topKeysWithPrefix("l", 0));
+        assertEquals(List.of(), trie.topKeysWithPrefix("x", 1));
+    }
+
+    @Test
+    public void put_existingKey_keepsOrUpdatesWeight() {
+        Trie trie = new Trie();
+        trie.put("add", 2);
+        trie.put("add");
+        assertEquals(2, trie.getWeight("add"));
+
+        trie.put("add", 4);
+        assertEquals(4, trie.getWeight("add"));
+        assertEquals(1, trie.size());
+
+        trie.remove("add");
+        assertEquals(Trie.NO_WEIGHT, trie.getWeight("add"));
+        trie.put("add");
+        assertEquals(Trie.NO_WEIGHT, trie.getWeight("add"));
+    }
+
+    @Test
+    public void topKeysWithPrefix_removedHeaviestKey_returnsNextHeaviest() {
+        Trie trie = new Trie();
+        trie.put("tea", 1);
+        trie.put("team", 9);
+        trie.put("ten", 2);
+
+        trie.remove("team");
+
+        assertEquals(List.of("ten", "tea"), trie.topKeysWithPrefix("te", 2));
+    }
+
+    @Test
+    public void topKeysWithPrefix_randomWeights_matchesSortedKeys() {
+        Random random = new Random(2103);
+        Map<String, Double> expected = new HashMap<>();
+        Trie trie = new Trie();
+
+        for (int i = 0; i < 3000; i++) {
+            StringBuilder key = new StringBuilder();
+            int length = random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                key.append("ab\u00e9\u5f20".charAt(random.nextInt(4)));
+            }
+            if (random.nextInt(4) == 0) {
+                expected.remove(key.toString());
+                trie.remove(key.toString());
+            } else {
+                double weight = random.nextInt(20);
+                expected.put(key.toString(), weight);
+                trie.put(key.toString(), weight);
+            }
+        }
+
+        Comparator<String> ranking = Comparator.<String>comparingDouble(expected::get).reversed()
+                .thenComparing(Comparator.naturalOrder());
+        for (String prefix : Arrays.asList("", "a", "ab", "\u00e9\u5f20", "\u5f20a")) {
+            List<String> expectedWithPrefix = new ArrayList<>();
+            for (String key : expected.keySet()) {
+                if (key.startsWith(prefix)) {
+                    expectedWithPrefix.add(key);
+                }
+            }
+            expectedWithPrefix.sort(ranking);
+            int k = Math.min(5, expectedWithPrefix.size());
+            assertEquals(expectedWithPrefix.subList(0, k), trie.topKeysWithPrefix(prefix, 5));
+            assertEquals(expectedWithPrefix, trie.topKeysWithPrefix(prefix, Integer.MAX_VALUE));
+        }
+    }
+
     @Test
     public void trie_insertingNull_throwsException() {
         Trie trie = new Trie();
@@ -54,4 +242,17 @@ public class TrieTest {
 
         assertThrows(IllegalArgumentException.class, () -> trie.keysWithPrefix(null));
     }
+
+    @Test
+    public void trie_negativeLimit_throwsException() {
+        Trie trie = new Trie();
+
+        assertThrows(IllegalArgumentException.class, () -> trie.keysWithPrefix("a", -1));
+    }
+
+    @Test
+    public void put_nanWeight_throwsException() {
+        Trie trie = new Trie();
+        assertThrows(IllegalArgumentException.class, () -> trie.put("add", Double.NaN));
+    }
 }
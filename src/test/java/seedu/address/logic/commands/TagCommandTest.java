@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Collections;
@@ -88,6 +90,27 @@ public class TagCommandTest {
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_deleteTagFilteredList_onlyShownPersonsUpdated() {
+        // Several persons have the target tag, but only ALICE is shown
+        int usageCountBefore = model.getSearchIndex().getTagUsageCount(targetTag);
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        Person shownPerson = model.getSortedAndFilteredPersonList().get(0);
+
+        Set<Tag> target = Set.of(targetTag);
+        TagCommand command = new TagCommand(target, Collections.emptySet(), TagOperation.DELETE);
+
+        String expectedMessage = String.format(TagCommand.MESSAGE_DELETE_SUCCESS, target);
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs(),
+                new CommandHistory());
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
+        expectedModel.setPerson(shownPerson, new PersonBuilder(shownPerson).withTags().build());
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(usageCountBefore - 1, model.getSearchIndex().getTagUsageCount(targetTag));
+    }
+
     @Test
     public void execute_deleteMultipleTagsForMultiplePersons_success() {
         // Give multiple people the target tag
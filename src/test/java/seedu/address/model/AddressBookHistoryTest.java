@@ -0,0 +1,86 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.Person;
+
+public class AddressBookHistoryTest {
+
+    private final PersistentList<Person> emptyState = PersistentList.empty();
+    private final PersistentList<Person> aliceState = emptyState.add(ALICE);
+    private final PersistentList<Person> aliceBobState = aliceState.add(BOB);
+
+    @Test
+    public void commit_sameState_notRecorded() {
+        AddressBookHistory history = new AddressBookHistory(emptyState, 10);
+        history.commit(emptyState);
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void undoAndRedo_returnRecordedStates() {
+        AddressBookHistory history = new AddressBookHistory(emptyState, 10);
+        history.commit(aliceState);
+        history.commit(aliceBobState);
+
+        assertSame(aliceState, history.undo());
+        assertSame(emptyState, history.undo());
+        assertFalse(history.canUndo());
+
+        assertSame(aliceState, history.redo());
+        assertSame(aliceBobState, history.redo());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedoStates() {
+        AddressBookHistory history = new AddressBookHistory(emptyState, 10);
+        history.commit(aliceState);
+        history.undo();
+        history.commit(emptyState.add(BOB));
+
+        assertFalse(history.canRedo());
+        assertSame(emptyState, history.undo());
+    }
+
+    @Test
+    public void commit_beyondMaxDepth_dropsOldestState() {
+        AddressBookHistory history = new AddressBookHistory(emptyState, 1);
+        history.commit(aliceState);
+        history.commit(aliceBobState);
+
+        assertSame(aliceState, history.undo());
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void setMaxDepth_smallerDepth_dropsOldestStates() {
+        AddressBookHistory history = new AddressBookHistory(emptyState, 10);
+        history.commit(aliceState);
+        history.commit(aliceBobState);
+        history.setMaxDepth(0);
+
+        assertFalse(history.canUndo());
+    }
+
+    @Test
+    public void reset_discardsAllStates() {
+        AddressBookHistory history = new AddressBookHistory(emptyState, 10);
+        history.commit(aliceState);
+        history.commit(aliceBobState);
+        history.undo();
+        history.reset(aliceState);
+
+        assertFalse(history.canUndo());
+        assertFalse(history.canRedo());
+        history.commit(aliceBobState);
+        assertTrue(history.canUndo());
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.Person;
+
+public class AddressBookSnapshotTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddressBookSnapshot(null));
+    }
+
+    @Test
+    public void getPersonList_laterChangesToAddressBook_personsOfSnapshot() {
+        AddressBook addressBook = getTypicalAddressBook();
+        PersistentList<Person> snapshot = addressBook.getSnapshot();
+        AddressBookSnapshot addressBookSnapshot = new AddressBookSnapshot(snapshot);
+        addressBook.removePerson(ALICE);
+
+        assertEquals(getTypicalAddressBook().getPersonList(), addressBookSnapshot.getPersonList());
+        assertSame(snapshot, addressBookSnapshot.getSnapshot());
+    }
+
+    @Test
+    public void getPersonList_modifyList_throwsUnsupportedOperationException() {
+        AddressBookSnapshot addressBookSnapshot = new AddressBookSnapshot(getTypicalAddressBook().getSnapshot());
+        assertThrows(UnsupportedOperationException.class, () -> addressBookSnapshot.getPersonList().remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> addressBookSnapshot.getPersonList().add(BENSON));
+    }
+
+    @Test
+    public void equals() {
+        PersistentList<Person> snapshot = getTypicalAddressBook().getSnapshot();
+        AddressBookSnapshot addressBookSnapshot = new AddressBookSnapshot(snapshot);
+        assertEquals(addressBookSnapshot, new AddressBookSnapshot(getTypicalAddressBook().getSnapshot()));
+        assertFalse(addressBookSnapshot.equals(new AddressBookSnapshot(PersistentList.empty())));
+        assertFalse(addressBookSnapshot.equals(null));
+    }
+}
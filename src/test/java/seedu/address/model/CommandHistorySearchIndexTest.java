@@ -0,0 +1,77 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandHistorySearchIndexTest {
+
+    @Test
+    public void findLatest_matchingCommands_returnsLatestAtOrBeforeFrom() {
+        List<String> commands = List.of("delete 1", "list", "delete 3", "find n\\Alex");
+        CommandHistorySearchIndex index = indexOf(commands);
+
+        assertEquals(2, findLatest(index, commands, "DELETE", 3, 0));
+        assertEquals(0, findLatest(index, commands, "delete", 1, 0));
+        assertEquals(3, findLatest(index, commands, "alex", 3, 0));
+        assertEquals(-1, findLatest(index, commands, "clear", 3, 0));
+    }
+
+    @Test
+    public void findLatest_commandsOutOfHistory_notReturned() {
+        List<String> commands = List.of("delete 1", "list", "list -a");
+        CommandHistorySearchIndex index = indexOf(commands);
+
+        assertEquals(-1, findLatest(index, commands, "delete", 2, 1));
+    }
+
+    @Test
+    public void findLatest_candidateWithoutText_skipped() {
+        // Both commands contain every substring of the text, but only the older one contains the text
+        List<String> commands = List.of("abcd", "abc bcd");
+        CommandHistorySearchIndex index = indexOf(commands);
+
+        assertEquals(0, findLatest(index, commands, "abcd", 1, 0));
+    }
+
+    @Test
+    public void add_manyCommandsPruned_latestStillFound() {
+        List<String> commands = new ArrayList<>();
+        CommandHistorySearchIndex index = new CommandHistorySearchIndex(4);
+        for (int i = 0; i < 50; i++) {
+            commands.add("delete " + i);
+            index.add(commands.get(i), i, Math.max(0, i - 3));
+        }
+
+        assertEquals(49, findLatest(index, commands, "delete", 49, 46));
+        assertEquals(-1, findLatest(index, commands, "delete 1", 49, 46));
+    }
+
+    @Test
+    public void clear_indexedCommands_notFound() {
+        List<String> commands = List.of("delete 1");
+        CommandHistorySearchIndex index = indexOf(commands);
+
+        index.clear();
+
+        assertEquals(-1, findLatest(index, commands, "delete", 0, 0));
+    }
+
+    private static CommandHistorySearchIndex indexOf(List<String> commands) {
+        CommandHistorySearchIndex index = new CommandHistorySearchIndex(100);
+        for (int i = 0; i < commands.size(); i++) {
+            index.add(commands.get(i), i, 0);
+        }
+        return index;
+    }
+
+    private static int findLatest(CommandHistorySearchIndex index, List<String> commands, String text,
+            int fromSequence, int oldestSequence) {
+        String key = CommandHistorySearchIndex.toKey(text);
+        return index.findLatest(text, fromSequence, oldestSequence,
+                sequence -> CommandHistorySearchIndex.toKey(commands.get(sequence)).contains(key));
+    }
+}
@@ -10,6 +10,7 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -21,6 +22,7 @@ import java.util.Comparator;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
@@ -108,6 +110,18 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void getAddressBookSnapshot_laterChanges_snapshotUnchanged() {
+        modelManager.addPerson(ALICE);
+        PersistentList<Person> snapshot = modelManager.getAddressBookSnapshot();
+
+        modelManager.addPerson(BENSON);
+        modelManager.deletePerson(ALICE);
+
+        assertEquals(Arrays.asList(ALICE), snapshot.toList());
+        assertEquals(Arrays.asList(BENSON), modelManager.getAddressBookSnapshot().toList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(
@@ -323,6 +337,42 @@ public class ModelManagerTest {
         assertEquals(unpinnedElle.getName(), sortedList.get(3).getName());
     }
 
+    @Test
+    public void applyRecentSort_afterEdit_keepsInsertionPosition() {
+        ModelManager testModel = new ModelManager();
+        testModel.addPerson(CARL);
+        testModel.addPerson(ELLE);
+        testModel.addPerson(BENSON);
+        testModel.applyRecentSort();
+
+        Person editedElle = new PersonBuilder(ELLE).withPhone("99999999").build();
+        testModel.setPerson(ELLE, editedElle);
+        assertEquals(Arrays.asList(BENSON, editedElle, CARL), testModel.getSortedAndFilteredPersonList());
+
+        testModel.deletePerson(BENSON);
+        testModel.addPerson(FIONA);
+        assertEquals(Arrays.asList(FIONA, editedElle, CARL), testModel.getSortedAndFilteredPersonList());
+
+        testModel.resetSortOrder();
+        assertEquals(Arrays.asList(CARL, editedElle, FIONA), testModel.getSortedAndFilteredPersonList());
+    }
+
+    @Test
+    public void setUserPrefs_nameSortLocaleChanged_sortedAgainInNewOrder() {
+        Person osten = new PersonBuilder().withName("Östen").build();
+        Person zara = new PersonBuilder().withName("Zara").build();
+        ModelManager testModel = new ModelManager();
+        testModel.addPerson(zara);
+        testModel.addPerson(osten);
+        testModel.applyNameSort();
+        assertEquals(Arrays.asList(osten, zara), testModel.getSortedAndFilteredPersonList());
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setNameSortLocale("sv-SE");
+        testModel.setUserPrefs(userPrefs);
+        assertEquals(Arrays.asList(zara, osten), testModel.getSortedAndFilteredPersonList());
+    }
+
     @SuppressWarnings("unchecked")
     private Comparator<Person> getWithPinPriorityComparator(Comparator<Person> baseComparator) {
         try {
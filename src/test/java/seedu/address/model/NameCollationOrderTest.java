@@ -0,0 +1,78 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameCollationOrderTest {
+
+    private static final Person EDDIE = new PersonBuilder().withName("Eddie").build();
+    private static final Person EMILE = new PersonBuilder().withName("Émile").build();
+    private static final Person OLGA = new PersonBuilder().withName("Olga").build();
+    private static final Person OSTEN = new PersonBuilder().withName("Östen").build();
+    private static final Person ZARA = new PersonBuilder().withName("Zara").build();
+    private static final Person ZOE = new PersonBuilder().withName("zoe").build();
+
+    private final List<Person> persons = Arrays.asList(ZARA, OSTEN, EMILE, ZOE, OLGA, EDDIE);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new NameCollationOrder(null));
+    }
+
+    @Test
+    public void compare_englishLocale_accentedLettersWithPlainLetters() {
+        NameCollationOrder order = new NameCollationOrder(Locale.ENGLISH);
+        assertEquals(Arrays.asList(EDDIE, EMILE, OLGA, OSTEN, ZARA, ZOE), sorted(order));
+    }
+
+    @Test
+    public void setLocale_swedishLocale_orderOfNewLocaleUsed() {
+        NameCollationOrder order = new NameCollationOrder(Locale.ENGLISH);
+        sorted(order);
+
+        // Ö is a letter of its own after Z in Swedish
+        order.setLocale(Locale.forLanguageTag("sv-SE"));
+        assertEquals(Arrays.asList(EDDIE, EMILE, OLGA, ZARA, ZOE, OSTEN), sorted(order));
+    }
+
+    @Test
+    public void compare_namesDifferingInCaseOrAccents_notEqual() {
+        NameCollationOrder order = new NameCollationOrder(Locale.ENGLISH);
+        Person lowerEmile = new PersonBuilder().withName("emile").build();
+        Person plainEmile = new PersonBuilder().withName("Emile").build();
+        assertTrue(order.compare(lowerEmile, plainEmile) != 0);
+        assertEquals(-Integer.signum(order.compare(lowerEmile, plainEmile)),
+                Integer.signum(order.compare(plainEmile, lowerEmile)));
+        assertTrue(order.compare(plainEmile, EMILE) < 0);
+    }
+
+    @Test
+    public void sort_samePersonsAsCompare() {
+        NameCollationOrder order = new NameCollationOrder(Locale.forLanguageTag("sv-SE"));
+        List<Person> manyPersons = new ArrayList<>(persons);
+        manyPersons.add(new PersonBuilder().withName("emile").build());
+        manyPersons.add(new PersonBuilder().withName("Emile").build());
+        Person[] sortedPersons = manyPersons.toArray(new Person[0]);
+
+        order.sort(sortedPersons);
+        manyPersons.sort(order);
+        assertEquals(manyPersons, Arrays.asList(sortedPersons));
+    }
+
+    private List<Person> sorted(NameCollationOrder order) {
+        List<Person> sortedPersons = new ArrayList<>(persons);
+        sortedPersons.sort(order);
+        return sortedPersons;
+    }
+}
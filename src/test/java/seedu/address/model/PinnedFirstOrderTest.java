@@ -0,0 +1,47 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PinnedFirstOrderTest {
+
+    private static final Person ALICE = new PersonBuilder().withName("Alice").build();
+    private static final Person BOB = new PersonBuilder().withName("Bob")
+            .withPinnedAt("2025-01-01T00:00:00Z").build();
+    private static final Person CARL = new PersonBuilder().withName("Carl").build();
+    private static final Person DAN = new PersonBuilder().withName("Dan")
+            .withPinnedAt("2025-02-01T00:00:00Z").build();
+
+    private final NameCollationOrder nameOrder = new NameCollationOrder(Locale.ENGLISH);
+    private final Comparator<Person> comparator = Model.COMPARATOR_PINNED_FIRST.thenComparing(nameOrder);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PinnedFirstOrder(null, nameOrder));
+        assertThrows(NullPointerException.class, () -> new PinnedFirstOrder(comparator, null));
+    }
+
+    @Test
+    public void sort_pinnedAndUnpinnedPersons_sameOrderAsComparator() {
+        PinnedFirstOrder order = new PinnedFirstOrder(comparator, nameOrder);
+        Person[] persons = {CARL, BOB, ALICE, DAN};
+
+        order.sort(persons);
+        assertEquals(Arrays.asList(DAN, BOB, ALICE, CARL), Arrays.asList(persons));
+
+        List<Person> comparedPersons = new ArrayList<>(Arrays.asList(CARL, BOB, ALICE, DAN));
+        comparedPersons.sort(order);
+        assertEquals(comparedPersons, Arrays.asList(persons));
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class UnmodifiableAddressBookTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new UnmodifiableAddressBook(null));
+    }
+
+    @Test
+    public void getPersonList_personsOfList() {
+        UnmodifiableAddressBook addressBook = new UnmodifiableAddressBook(new ArrayList<>(getTypicalPersons()));
+        assertEquals(getTypicalPersons(), addressBook.getPersonList());
+        assertEquals(getTypicalAddressBook(), new AddressBook(addressBook));
+    }
+
+    @Test
+    public void getPersonList_modifyList_throwsUnsupportedOperationException() {
+        UnmodifiableAddressBook addressBook = new UnmodifiableAddressBook(new ArrayList<>(getTypicalPersons()));
+        assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().add(BENSON));
+    }
+
+    @Test
+    public void equals() {
+        UnmodifiableAddressBook addressBook = new UnmodifiableAddressBook(new ArrayList<>(getTypicalPersons()));
+        assertEquals(addressBook, new UnmodifiableAddressBook(new ArrayList<>(getTypicalPersons())));
+        assertFalse(addressBook.equals(new UnmodifiableAddressBook(Collections.emptyList())));
+        assertFalse(addressBook.equals(null));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -18,4 +19,31 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setUndoHistoryDepth_negativeDepth_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setUndoHistoryDepth(-1));
+    }
+
+    @Test
+    public void setCommandHistoryCapacity_nonPositiveCapacity_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setCommandHistoryCapacity(0));
+    }
+
+    @Test
+    public void setNameSortLocale_invalidLocale_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setNameSortLocale(null));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setNameSortLocale(""));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setNameSortLocale("not a locale"));
+    }
+
+    @Test
+    public void setNameSortLocale_languageTag_localeSet() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setNameSortLocale("sv-SE");
+        assertEquals("sv-SE", userPrefs.getNameSortLocale());
+    }
+
 }
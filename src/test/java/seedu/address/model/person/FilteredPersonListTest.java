@@ -0,0 +1,133 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.testutil.PersonBuilder;
+
+public class FilteredPersonListTest {
+
+    private static final Predicate<Person> NAME_HAS_E = person -> person.getName().getIdentityKey().contains("e");
+
+    private final UniquePersonList persons = new UniquePersonList();
+
+    public FilteredPersonListTest() {
+        persons.addAll(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE));
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new FilteredPersonList(null, persons::getInsertionSequence));
+        assertThrows(NullPointerException.class, () ->
+                new FilteredPersonList(persons.asUnmodifiableObservableList(), null));
+    }
+
+    @Test
+    public void constructor_allPersonsShown() {
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE), createFilteredPersonList());
+    }
+
+    @Test
+    public void setPredicate_predicate_matchingPersonsShownInListOrder() {
+        FilteredPersonList filteredPersons = createFilteredPersonList();
+        filteredPersons.setPredicate(NAME_HAS_E);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL, ELLE), filteredPersons);
+    }
+
+    @Test
+    public void setPredicate_matches_onlyMatchesPlacedInListOrder() {
+        FilteredPersonList filteredPersons = createFilteredPersonList();
+        AtomicInteger tests = new AtomicInteger();
+        Predicate<Person> predicate = person -> {
+            tests.incrementAndGet();
+            return person == ELLE || person == BENSON;
+        };
+
+        filteredPersons.setPredicate(predicate, Arrays.asList(ELLE, BENSON));
+        assertEquals(Arrays.asList(BENSON, ELLE), filteredPersons);
+        assertEquals(0, tests.get());
+    }
+
+    @Test
+    public void sourceChanged_personsChangedWhileFiltered_onlyMatchingPersonsShown() {
+        FilteredPersonList filteredPersons = createFilteredPersonList();
+        filteredPersons.setPredicate(NAME_HAS_E, Arrays.asList(ALICE, BENSON, DANIEL, ELLE));
+
+        Person renamedCarl = new PersonBuilder(CARL).withName("Carlene").build();
+        persons.setPerson(CARL, renamedCarl);
+        assertEquals(Arrays.asList(ALICE, BENSON, renamedCarl, DANIEL, ELLE), filteredPersons);
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Ann").build();
+        persons.setPerson(ALICE, renamedAlice);
+        persons.remove(DANIEL);
+        Person fiona = new PersonBuilder().withName("Fiona Kunz").build();
+        Person eve = new PersonBuilder().withName("Eve").build();
+        persons.add(fiona);
+        persons.add(eve);
+        assertEquals(Arrays.asList(BENSON, renamedCarl, ELLE, eve), filteredPersons);
+    }
+
+    @Test
+    public void sourceChanged_manyPersonsChanged_onlyMatchingPersonsShown() {
+        FilteredPersonList filteredPersons = createFilteredPersonList();
+        filteredPersons.setPredicate(NAME_HAS_E);
+        List<Person> added = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            added.add(new PersonBuilder().withName((i % 2 == 0 ? "Eve " : "Bob ") + i).build());
+        }
+
+        persons.addAll(added);
+        persons.remove(BENSON);
+
+        List<Person> expected = new ArrayList<>(Arrays.asList(ALICE, DANIEL, ELLE));
+        added.stream().filter(NAME_HAS_E).forEach(expected::add);
+        assertEquals(expected, filteredPersons);
+    }
+
+    @Test
+    public void sourceChanged_listContentsReplaced_filteredAgain() {
+        FilteredPersonList filteredPersons = createFilteredPersonList();
+        PersistentList<Person> snapshot = persons.getSnapshot();
+        filteredPersons.setPredicate(NAME_HAS_E);
+        persons.remove(ALICE);
+        persons.remove(DANIEL);
+
+        // Restoring the snapshot numbers the persons again
+        persons.restoreSnapshot(snapshot);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL, ELLE), filteredPersons);
+    }
+
+    @Test
+    public void getSourceIndexAndGetViewIndex_filteredList_indexesMapped() {
+        FilteredPersonList filteredPersons = createFilteredPersonList();
+        filteredPersons.setPredicate(NAME_HAS_E);
+        assertEquals(3, filteredPersons.getSourceIndex(2));
+        assertEquals(2, filteredPersons.getViewIndex(3));
+        assertEquals(-1, filteredPersons.getViewIndex(2));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        FilteredPersonList filteredPersons = createFilteredPersonList();
+        assertThrows(UnsupportedOperationException.class, () -> filteredPersons.add(ALICE));
+        assertThrows(UnsupportedOperationException.class, () -> filteredPersons.remove(0));
+    }
+
+    private FilteredPersonList createFilteredPersonList() {
+        return new FilteredPersonList(persons.asUnmodifiableObservableList(), persons::getInsertionSequence);
+    }
+}
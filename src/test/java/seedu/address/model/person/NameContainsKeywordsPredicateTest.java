@@ -3,17 +3,30 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.FXCollections;
+import seedu.address.model.search.PersonSearchIndex;
 import seedu.address.testutil.PersonBuilder;
 
 public class NameContainsKeywordsPredicateTest {
 
+    @Test
+    public void constructor_invalidKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new NameContainsKeywordsPredicate(List.of(" ")));
+        assertThrows(IllegalArgumentException.class, () -> new NameContainsKeywordsPredicate(List.of("alice bob")));
+    }
+
     @Test
     public void equals() {
         List<String> firstPredicateKeywordList = Collections.singletonList("first");
@@ -74,6 +87,13 @@ public class NameContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").build()));
     }
 
+    @Test
+    public void findMatches_returnsIndexedMatches() {
+        PersonSearchIndex index = new PersonSearchIndex(FXCollections.observableArrayList(ALICE, BENSON, CARL));
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Alice", "Carl"));
+        assertEquals(Set.of(ALICE, CARL), predicate.findMatches(index));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
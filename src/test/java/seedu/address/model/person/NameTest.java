@@ -1,9 +1,16 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -60,4 +67,37 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void equals_differentCase_returnsTrueWithSameHashCode() {
+        Name name = new Name("Valid Name");
+        Name differentCase = new Name("vALID nAME");
+
+        assertTrue(name.equals(differentCase));
+        assertEquals(name.hashCode(), differentCase.hashCode());
+        assertEquals(name.getIdentityKey(), differentCase.getIdentityKey());
+    }
+
+    @Test
+    public void getIdentityKey_caseFoldedName() {
+        assertEquals("valid name", new Name("Valid NAME").getIdentityKey());
+
+        // lowercase name -> same string as the name
+        Name lowercaseName = new Name("valid name");
+        assertSame(lowercaseName.fullName, lowercaseName.getIdentityKey());
+    }
+
+    @Test
+    public void getCollationKey_sameCollator_keyWorkedOutOnce() {
+        Name name = new Name("Émile");
+        Collator collator = Collator.getInstance(Locale.ENGLISH);
+        CollationKey key = name.getCollationKey(collator);
+        assertEquals(collator.getCollationKey("Émile"), key);
+        assertSame(key, name.getCollationKey(collator));
+
+        // different collator -> new key
+        Collator otherCollator = Collator.getInstance(Locale.FRENCH);
+        assertNotSame(key, name.getCollationKey(otherCollator));
+        assertEquals(0, name.getCollationKey(otherCollator).compareTo(otherCollator.getCollationKey("Émile")));
+    }
 }
@@ -0,0 +1,36 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PackedFieldsTest {
+
+    @Test
+    public void get_packedValues_returnsValues() {
+        byte[] packed = PackedFields.pack("91234567", null, "amy_bee", "a".repeat(255));
+
+        assertEquals("91234567", PackedFields.get(packed, 0));
+        assertNull(PackedFields.get(packed, 1));
+        assertEquals("amy_bee", PackedFields.get(packed, 2));
+        assertEquals("a".repeat(255), PackedFields.get(packed, 3));
+    }
+
+    @Test
+    public void isNull() {
+        byte[] packed = PackedFields.pack("91234567", null);
+
+        assertFalse(PackedFields.isNull(packed, 0));
+        assertTrue(PackedFields.isNull(packed, 1));
+    }
+
+    @Test
+    public void pack_valuesCannotBePacked_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> PackedFields.pack("a".repeat(256)));
+        assertThrows(IllegalArgumentException.class, () -> PackedFields.pack("café"));
+    }
+}
@@ -0,0 +1,147 @@
+package seedu.address.model.person;
+
+import java.lang.ref.Reference;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures how much heap a great many persons take, compared with the layout persons had before their contact
+ * details were packed, in which every detail was kept as a value object and the tags in a {@code HashSet}.
+ * <p>
+ * Usage: {@code PersonFootprintBenchmark [--persons=N]}
+ * <p>
+ * Each layout is measured on its own, as the difference in used heap after a full collection before and after
+ * {@code --persons} persons (1,000,000 by default) are created, from the same generated details. Run it with
+ * {@code gradlew personFootprintBenchmark --args="..."}, which gives the JVM enough heap for the default.
+ */
+public class PersonFootprintBenchmark {
+    private static final String PERSONS_PREFIX = "--persons=";
+
+    private static final String[] NAME_WORDS = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Yeoh",
+        "Li", "Oliveiro", "Balakrishnan", "Tan", "Lim", "Ng", "Wong", "Kumar", "Chen"};
+    private static final String[] TAG_NAMES = {"friends", "family", "colleagues", "neighbours", "CS2103", "CS2101",
+        "CS1101S", "MA1521", "club", "gym", "owesMoney", "mentor", "client", "vendor", "alumni", "VIP"};
+
+    private static final long SEED = 2103;
+    private static final int GC_ROUNDS = 5;
+
+    public static void main(String[] args) throws Exception {
+        int personCount = 1_000_000;
+        for (String arg : args) {
+            if (arg.startsWith(PERSONS_PREFIX)) {
+                personCount = Integer.parseInt(arg.substring(PERSONS_PREFIX.length()));
+            } else {
+                throw new IllegalArgumentException("Unknown parameter: " + arg);
+            }
+        }
+
+        System.out.printf("%d persons%n", personCount);
+        System.out.printf("%-10s %12s %14s%n", "layout", "heap MB", "bytes/person");
+        long compactBytes = measure("compact", personCount, PersonFootprintBenchmark::createPersons);
+        long expandedBytes = measure("expanded", personCount, PersonFootprintBenchmark::createExpandedPersons);
+        System.out.printf("The compact layout takes %.0f%% of the heap of the expanded layout%n",
+                100.0 * compactBytes / expandedBytes);
+    }
+
+    /**
+     * Prints and returns the heap taken by the persons {@code create} creates.
+     */
+    private static long measure(String layout, int personCount, IntFunction<Object[]> create) throws Exception {
+        long before = usedHeapAfterCollection();
+        Object[] persons = create.apply(personCount);
+        long bytes = usedHeapAfterCollection() - before;
+        // Keeps the persons from being collected before they have been measured
+        Reference.reachabilityFence(persons);
+        System.out.printf("%-10s %12.1f %14.1f%n", layout, bytes / 1e6, (double) bytes / personCount);
+        return bytes;
+    }
+
+    private static long usedHeapAfterCollection() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < GC_ROUNDS; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static Object[] createPersons(int personCount) {
+        Random random = new Random(SEED);
+        Person[] persons = new Person[personCount];
+        for (int i = 0; i < personCount; i++) {
+            Details details = new Details(i, random);
+            persons[i] = new Person(details.name, details.phone, details.email, details.telegram, details.github,
+                    PreferredCommunicationMode.PHONE, details.tags, details.pinnedAt);
+        }
+        return persons;
+    }
+
+    private static Object[] createExpandedPersons(int personCount) {
+        Random random = new Random(SEED);
+        ExpandedPerson[] persons = new ExpandedPerson[personCount];
+        for (int i = 0; i < personCount; i++) {
+            persons[i] = new ExpandedPerson(new Details(i, random));
+        }
+        return persons;
+    }
+
+    /**
+     * The details of a generated person, created the way they are when the address book is read from its file.
+     */
+    private static class Details {
+        private final Name name;
+        private final Phone phone;
+        private final Email email;
+        private final Telegram telegram;
+        private final Github github;
+        private final Set<Tag> tags = new HashSet<>();
+        private final Instant pinnedAt;
+
+        Details(int number, Random random) {
+            String firstName = NAME_WORDS[random.nextInt(NAME_WORDS.length)];
+            String lastName = NAME_WORDS[random.nextInt(NAME_WORDS.length)];
+            name = new Name(firstName + " " + lastName + " " + number);
+            phone = new Phone(String.valueOf(80_000_000 + random.nextInt(20_000_000)));
+            email = random.nextInt(4) == 0 ? new Email()
+                    : new Email(firstName.toLowerCase() + number + "@example.com");
+            telegram = random.nextBoolean() ? new Telegram()
+                    : new Telegram(String.format("%s_%06d", lastName, number));
+            github = random.nextInt(3) != 0 ? new Github() : new Github(firstName + "-" + number);
+            int tagCount = random.nextInt(4);
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(Tag.of(TAG_NAMES[random.nextInt(TAG_NAMES.length)]));
+            }
+            pinnedAt = random.nextInt(20) == 0 ? Instant.now() : null;
+        }
+    }
+
+    /**
+     * A person laid out the way {@code Person} was before its contact details were packed.
+     */
+    private static class ExpandedPerson {
+        private final Name name;
+        private final Phone phone;
+        private final Email email;
+        private final Telegram telegram;
+        private final Github github;
+        private final PreferredCommunicationMode preferredMode;
+        private final Set<Tag> tags = new HashSet<>();
+        private final PinStatus pinStatus;
+
+        ExpandedPerson(Details details) {
+            name = details.name;
+            phone = details.phone;
+            email = details.email;
+            telegram = details.telegram;
+            github = details.github;
+            preferredMode = PreferredCommunicationMode.PHONE;
+            tags.addAll(details.tags);
+            pinStatus = new PinStatus(details.pinnedAt);
+        }
+    }
+}
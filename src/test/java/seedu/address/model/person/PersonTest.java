@@ -15,6 +15,8 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.PersonBuilder;
@@ -55,6 +57,33 @@ public class PersonTest {
         assertFalse(BOB.isSamePerson(editedBob));
     }
 
+    @Test
+    public void getContactDetails_returnsDetailsGivenToConstructor() {
+        Phone phone = new Phone(VALID_PHONE_BOB);
+        Email email = new Email(VALID_EMAIL_BOB);
+        Telegram telegram = new Telegram(VALID_TELEGRAM_BOB);
+        Person person = new Person(new Name(VALID_NAME_BOB), phone, email, telegram, new Github(),
+                PreferredCommunicationMode.PHONE, Set.of());
+
+        assertEquals(phone, person.getPhone());
+        assertEquals(email, person.getEmail());
+        assertEquals(telegram, person.getTelegram());
+        assertTrue(person.getGithub().isEmpty());
+        assertEquals(Set.of(PreferredCommunicationMode.PHONE, PreferredCommunicationMode.EMAIL,
+                PreferredCommunicationMode.TELEGRAM), person.getAvailableModes());
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Phone phone = new Phone(VALID_PHONE_BOB);
+        assertThrows(NullPointerException.class, () -> new Person(null, phone, new Email(), new Telegram(),
+                new Github(), PreferredCommunicationMode.PHONE, Set.of()));
+        assertThrows(NullPointerException.class, () -> new Person(new Name(VALID_NAME_BOB), null, new Email(),
+                new Telegram(), new Github(), PreferredCommunicationMode.PHONE, Set.of()));
+        assertThrows(NullPointerException.class, () -> new Person(new Name(VALID_NAME_BOB), phone, new Email(),
+                new Telegram(), new Github(), PreferredCommunicationMode.PHONE, null));
+    }
+
     @Test
     public void pin_personNotPinned_returnsPinnedPerson() {
         Person pinnedBenson = BENSON.pin();
@@ -0,0 +1,172 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.PersonBuilder;
+
+public class SortedPersonListTest {
+
+    private static final Comparator<Person> BY_NAME =
+            Comparator.comparing(person -> person.getName().getIdentityKey());
+
+    private final ObservableList<Person> source = FXCollections.observableArrayList(DANIEL, ALICE, ELLE, CARL);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SortedPersonList(null, BY_NAME));
+        assertThrows(NullPointerException.class, () -> new SortedPersonList(source, null));
+    }
+
+    @Test
+    public void constructor_unsortedSource_sorted() {
+        assertEquals(Arrays.asList(ALICE, CARL, DANIEL, ELLE), new SortedPersonList(source, BY_NAME));
+    }
+
+    @Test
+    public void sourceChanged_singlePersonChanges_viewKeptSorted() {
+        SortedPersonList sortedPersons = new SortedPersonList(source, BY_NAME);
+
+        source.add(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE), sortedPersons);
+
+        source.remove(DANIEL);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, ELLE), sortedPersons);
+
+        // edited person moves to its new place
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Frank").build();
+        source.set(source.indexOf(ALICE), renamedAlice);
+        assertEquals(Arrays.asList(BENSON, CARL, ELLE, renamedAlice), sortedPersons);
+    }
+
+    @Test
+    public void sourceChanged_personAdded_singleAddReported() {
+        SortedPersonList sortedPersons = new SortedPersonList(source, BY_NAME);
+        List<String> changes = new ArrayList<>();
+        sortedPersons.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + "+" + change.getAddedSize() + "-" + change.getRemovedSize());
+            }
+        });
+
+        source.add(BENSON);
+        assertEquals(List.of("1+1-0"), changes);
+    }
+
+    @Test
+    public void sourceChanged_personAddedToLargeList_logarithmicComparisons() {
+        ObservableList<Person> largeSource = FXCollections.observableArrayList();
+        for (int i = 0; i < 1024; i++) {
+            largeSource.add(new PersonBuilder().withName(String.format("Person %04d", i * 2)).build());
+        }
+        AtomicInteger comparisons = new AtomicInteger();
+        SortedPersonList sortedPersons = new SortedPersonList(largeSource, (p1, p2) -> {
+            comparisons.incrementAndGet();
+            return BY_NAME.compare(p1, p2);
+        });
+
+        comparisons.set(0);
+        Person added = new PersonBuilder().withName("Person 1001").build();
+        largeSource.add(added);
+        assertEquals(added, sortedPersons.get(501));
+        assertTrue(comparisons.get() <= 11, "took " + comparisons.get() + " comparisons");
+
+        comparisons.set(0);
+        largeSource.remove(added);
+        assertEquals(1024, sortedPersons.size());
+        assertTrue(comparisons.get() <= 12, "took " + comparisons.get() + " comparisons");
+    }
+
+    @Test
+    public void sourceChanged_manyPersonsChanged_viewKeptSorted() {
+        SortedPersonList sortedPersons = new SortedPersonList(source, BY_NAME);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 99; i >= 0; i--) {
+            persons.add(new PersonBuilder().withName(String.format("Person %02d", i)).build());
+        }
+
+        source.setAll(persons);
+        List<Person> expected = new ArrayList<>(persons);
+        expected.sort(BY_NAME);
+        assertEquals(expected, sortedPersons);
+    }
+
+    @Test
+    public void sourceChanged_manyPersonsAddedToLargeList_onlyAddedPersonsSorted() {
+        ObservableList<Person> largeSource = FXCollections.observableArrayList();
+        for (int i = 0; i < 1024; i++) {
+            largeSource.add(new PersonBuilder().withName(String.format("Person %04d", i * 2)).build());
+        }
+        AtomicInteger comparisons = new AtomicInteger();
+        SortedPersonList sortedPersons = new SortedPersonList(largeSource, (p1, p2) -> {
+            comparisons.incrementAndGet();
+            return BY_NAME.compare(p1, p2);
+        });
+
+        comparisons.set(0);
+        List<Person> added = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            added.add(new PersonBuilder().withName(String.format("Person %04d", 1999 - i * 20)).build());
+        }
+        largeSource.addAll(added);
+
+        List<Person> expected = new ArrayList<>(largeSource);
+        expected.sort(BY_NAME);
+        assertEquals(expected, sortedPersons);
+        // Sorting the whole view again would take over 10000 comparisons
+        assertTrue(comparisons.get() <= 2000, "took " + comparisons.get() + " comparisons");
+    }
+
+    @Test
+    public void sourceChanged_comparatorNoLongerOrdersRemovedPerson_personRemoved() {
+        Map<Person, Integer> ranks = new HashMap<>(Map.of(ALICE, 1, CARL, 2, DANIEL, 3, ELLE, 4));
+        SortedPersonList sortedPersons = new SortedPersonList(source, Comparator.comparing(ranks::get));
+
+        ranks.put(CARL, 5);
+        source.remove(CARL);
+        assertEquals(Arrays.asList(ALICE, DANIEL, ELLE), sortedPersons);
+    }
+
+    @Test
+    public void setComparator_newComparator_viewSortedAgain() {
+        SortedPersonList sortedPersons = new SortedPersonList(source, BY_NAME);
+        sortedPersons.setComparator(BY_NAME.reversed());
+        assertEquals(Arrays.asList(ELLE, DANIEL, CARL, ALICE), sortedPersons);
+
+        source.add(BENSON);
+        assertEquals(Arrays.asList(ELLE, DANIEL, CARL, BENSON, ALICE), sortedPersons);
+    }
+
+    @Test
+    public void getViewIndex_personInSource_indexInView() {
+        SortedPersonList sortedPersons = new SortedPersonList(source, BY_NAME);
+        assertEquals(2, sortedPersons.getViewIndex(0));
+        assertEquals(3, sortedPersons.getSourceIndex(1));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        SortedPersonList sortedPersons = new SortedPersonList(source, BY_NAME);
+        assertThrows(UnsupportedOperationException.class, () -> sortedPersons.add(BENSON));
+        assertThrows(UnsupportedOperationException.class, () -> sortedPersons.remove(0));
+    }
+}
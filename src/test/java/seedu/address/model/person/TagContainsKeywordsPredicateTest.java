@@ -3,13 +3,19 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.FXCollections;
+import seedu.address.model.search.PersonSearchIndex;
 import seedu.address.testutil.PersonBuilder;
 
 public class TagContainsKeywordsPredicateTest {
@@ -69,6 +75,13 @@ public class TagContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new PersonBuilder().withTags("friend", "family").build()));
     }
 
+    @Test
+    public void findMatches_returnsIndexedMatches() {
+        PersonSearchIndex index = new PersonSearchIndex(FXCollections.observableArrayList(ALICE, BENSON, CARL));
+        TagContainsKeywordsPredicate predicate = new TagContainsKeywordsPredicate(Arrays.asList("owes"));
+        assertEquals(Set.of(BENSON), predicate.findMatches(index));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("friend", "family");
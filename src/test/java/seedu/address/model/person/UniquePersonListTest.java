@@ -6,14 +6,24 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -46,6 +56,106 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameNameDifferentCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void addAll_newPersons_appendedInOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(Arrays.asList(BOB, CARL));
+        assertEquals(Arrays.asList(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.getInsertionSequence(BOB) < uniquePersonList.getInsertionSequence(CARL));
+    }
+
+    @Test
+    public void addAll_personAlreadyInList_throwsDuplicatePersonExceptionAndListUnchanged() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, ALICE)));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonException() {
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, BOB)));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void contains_removedPerson_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_afterRenamingPerson_tracksNewIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void getInsertionSequence_personNotInList_returnsMinusOne() {
+        assertEquals(-1, uniquePersonList.getInsertionSequence(ALICE));
+    }
+
+    @Test
+    public void getInsertionSequence_duringChange_replacedAndRemovedPersonsStillNumbered() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(CARL);
+        long aliceSequence = uniquePersonList.getInsertionSequence(ALICE);
+        long carlSequence = uniquePersonList.getInsertionSequence(CARL);
+        List<Long> sequencesSeen = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(person -> sequencesSeen.add(uniquePersonList.getInsertionSequence(person)));
+            }
+        });
+
+        uniquePersonList.setPerson(ALICE, BOB);
+        uniquePersonList.remove(CARL);
+        assertEquals(Arrays.asList(aliceSequence, carlSequence), sequencesSeen);
+        assertEquals(-1, uniquePersonList.getInsertionSequence(ALICE));
+        assertEquals(-1, uniquePersonList.getInsertionSequence(CARL));
+    }
+
+    @Test
+    public void getInsertionSequence_addedPersons_increasesInInsertionOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertTrue(uniquePersonList.getInsertionSequence(ALICE) < uniquePersonList.getInsertionSequence(BOB));
+    }
+
+    @Test
+    public void getInsertionSequence_editedPerson_keepsSequenceOfTarget() {
+        uniquePersonList.add(ALICE);
+        long aliceSequence = uniquePersonList.getInsertionSequence(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(aliceSequence, uniquePersonList.getInsertionSequence(BOB));
+        assertEquals(-1, uniquePersonList.getInsertionSequence(ALICE));
+    }
+
+    @Test
+    public void getInsertionSequence_afterRemoval_newPersonsAreNumberedLater() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(BOB);
+        uniquePersonList.add(BOB);
+        assertTrue(uniquePersonList.getInsertionSequence(ALICE) < uniquePersonList.getInsertionSequence(BOB));
+    }
+
+    @Test
+    public void getInsertionSequence_setPersons_numberedInListOrder() {
+        uniquePersonList.setPersons(Arrays.asList(BOB, ALICE));
+        assertTrue(uniquePersonList.getInsertionSequence(BOB) < uniquePersonList.getInsertionSequence(ALICE));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -108,6 +218,128 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void replacePersons_nullReplacements_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.replacePersons(null));
+    }
+
+    @Test
+    public void replacePersons_editedPersons_replacedInPlaceKeepingSequence() {
+        uniquePersonList.addAll(Arrays.asList(ALICE, BOB, CARL));
+        long aliceSequence = uniquePersonList.getInsertionSequence(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        Person editedCarl = new PersonBuilder(CARL).withTags(VALID_TAG_HUSBAND).build();
+        Map<Person, Person> replacements = new HashMap<>();
+        replacements.put(ALICE, editedAlice);
+        replacements.put(CARL, editedCarl);
+
+        uniquePersonList.replacePersons(replacements);
+
+        assertEquals(Arrays.asList(editedAlice, BOB, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(aliceSequence, uniquePersonList.getInsertionSequence(editedAlice));
+    }
+
+    @Test
+    public void replacePersons_swappedIdentities_success() {
+        uniquePersonList.addAll(Arrays.asList(ALICE, BOB));
+        Map<Person, Person> replacements = new HashMap<>();
+        replacements.put(ALICE, BOB);
+        replacements.put(BOB, ALICE);
+
+        uniquePersonList.replacePersons(replacements);
+
+        assertEquals(Arrays.asList(BOB, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replacePersons_singleChangeFired() {
+        uniquePersonList.addAll(Arrays.asList(ALICE, BOB, CARL));
+        List<Integer> changeCount = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount.add(1));
+        Map<Person, Person> replacements = new HashMap<>();
+        replacements.put(ALICE, new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build());
+        replacements.put(CARL, new PersonBuilder(CARL).withTags(VALID_TAG_HUSBAND).build());
+
+        uniquePersonList.replacePersons(replacements);
+
+        assertEquals(1, changeCount.size());
+    }
+
+    @Test
+    public void replacePersons_changeCoversOnlyReplacedPositions() {
+        uniquePersonList.addAll(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA));
+        List<Integer> changedIndexes = new ArrayList<>();
+        List<Person> removedPersons = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                assertEquals(change.getRemovedSize(), change.getAddedSize());
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    changedIndexes.add(i);
+                }
+                removedPersons.addAll(change.getRemoved());
+            }
+        });
+        Map<Person, Person> replacements = new HashMap<>();
+        replacements.put(BENSON, new PersonBuilder(BENSON).withTags(VALID_TAG_HUSBAND).build());
+        replacements.put(CARL, new PersonBuilder(CARL).withTags(VALID_TAG_HUSBAND).build());
+        replacements.put(FIONA, new PersonBuilder(FIONA).withTags(VALID_TAG_HUSBAND).build());
+
+        uniquePersonList.replacePersons(replacements);
+
+        // Adjacent replaced positions may be reported together, but the persons in between are not
+        assertEquals(Arrays.asList(1, 2, 5), changedIndexes);
+        assertEquals(Arrays.asList(BENSON, CARL, FIONA), removedPersons);
+    }
+
+    @Test
+    public void replacePersons_targetNotInList_throwsPersonNotFoundExceptionAndListUnchanged() {
+        uniquePersonList.add(ALICE);
+        Map<Person, Person> replacements = new HashMap<>();
+        replacements.put(ALICE, new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build());
+        replacements.put(BOB, BOB);
+
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.replacePersons(replacements));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replacePersons_editedPersonHasExistingIdentity_throwsDuplicatePersonExceptionAndListUnchanged() {
+        uniquePersonList.addAll(Arrays.asList(ALICE, BOB));
+        Map<Person, Person> replacements = Collections.singletonMap(ALICE, BOB);
+
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.replacePersons(replacements));
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void getSnapshot_laterChanges_snapshotUnchanged() {
+        uniquePersonList.addAll(Arrays.asList(ALICE, BOB));
+        PersistentList<Person> snapshot = uniquePersonList.getSnapshot();
+
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(CARL);
+        uniquePersonList.setPerson(BOB, new PersonBuilder(BOB).withTags(VALID_TAG_HUSBAND).build());
+
+        assertEquals(Arrays.asList(ALICE, BOB), snapshot.toList());
+        assertEquals(uniquePersonList.asUnmodifiableObservableList(), uniquePersonList.getSnapshot().toList());
+    }
+
+    @Test
+    public void restoreSnapshot_earlierSnapshot_contentsAndIdentitiesRestored() {
+        uniquePersonList.addAll(Arrays.asList(ALICE, BOB));
+        PersistentList<Person> snapshot = uniquePersonList.getSnapshot();
+        uniquePersonList.setPersons(Collections.singletonList(CARL));
+
+        uniquePersonList.restoreSnapshot(snapshot);
+
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(CARL));
+        assertTrue(uniquePersonList.getInsertionSequence(ALICE) < uniquePersonList.getInsertionSequence(BOB));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -118,6 +350,14 @@ public class UniquePersonListTest {
         assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(ALICE));
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void remove_existingPerson_removesPerson() {
         uniquePersonList.add(ALICE);
@@ -126,6 +366,21 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPersonAndRemove_afterEarlierRemovals_rightPersonsFound() {
+        List<Person> persons = Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA);
+        uniquePersonList.addAll(persons);
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.remove(DANIEL);
+
+        // The sequence numbers of the persons left now have gaps
+        uniquePersonList.setPerson(ELLE, BOB);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(FIONA, DANIEL);
+        uniquePersonList.remove(CARL);
+        assertEquals(Arrays.asList(BOB, DANIEL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -161,6 +416,21 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameNameDifferentCase_throwsDuplicatePersonException() {
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, upperCaseAlice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void setPersons_listWithDuplicatePersons_keepsExistingIdentities() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(Arrays.asList(BOB, BOB)));
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
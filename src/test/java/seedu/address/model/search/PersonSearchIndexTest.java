@@ -0,0 +1,100 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(ALICE, BENSON, CARL);
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex(persons);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonSearchIndex(null));
+    }
+
+    @Test
+    public void findByNameKeywords_matchingPrefixes_returnsMatchingPersons() {
+        assertEquals(Set.of(ALICE), searchIndex.findByNameKeywords(List.of("pAuL")));
+        assertEquals(Set.of(BENSON, CARL), searchIndex.findByNameKeywords(Arrays.asList("Meier", "carl")));
+        assertTrue(searchIndex.findByNameKeywords(List.of("auline")).isEmpty());
+        assertTrue(searchIndex.findByNameKeywords(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void findByTagKeywords_matchingPrefixes_returnsMatchingPersons() {
+        assertEquals(Set.of(ALICE, BENSON), searchIndex.findByTagKeywords(List.of("FRIEND")));
+        assertEquals(Set.of(BENSON), searchIndex.findByTagKeywords(List.of("owes")));
+        assertTrue(searchIndex.findByTagKeywords(List.of("Pauline")).isEmpty());
+    }
+
+    @Test
+    public void findByTag_tagInUse_returnsPersonsWithTag() {
+        assertEquals(Set.of(ALICE, BENSON), searchIndex.findByTag(new Tag("friends")));
+        assertEquals(2, searchIndex.getTagUsageCount(Tag.of("friends")));
+        assertEquals(Set.of(BENSON), searchIndex.findByTag(Tag.of("owesMoney")));
+        assertEquals(1, searchIndex.getTagUsageCount(Tag.of("owesMoney")));
+    }
+
+    @Test
+    public void findByTag_tagNotInUse_returnsEmptySet() {
+        assertTrue(searchIndex.findByTag(Tag.of("friend")).isEmpty());
+        assertEquals(0, searchIndex.getTagUsageCount(Tag.of("friend")));
+    }
+
+    @Test
+    public void findByTag_lastPersonWithTagRemoved_tagNoLongerFound() {
+        persons.remove(BENSON);
+        assertTrue(searchIndex.findByTag(Tag.of("owesMoney")).isEmpty());
+        assertTrue(searchIndex.findByTagKeywords(List.of("owes")).isEmpty());
+        assertEquals(1, searchIndex.getTagUsageCount(Tag.of("friends")));
+    }
+
+    @Test
+    public void findByNameKeywords_invalidKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> searchIndex.findByNameKeywords(List.of(" ")));
+        assertThrows(IllegalArgumentException.class, () -> searchIndex.findByNameKeywords(List.of("alice bob")));
+    }
+
+    @Test
+    public void personListChanged_indexUpdated() {
+        persons.add(DANIEL);
+        assertEquals(Set.of(DANIEL), searchIndex.findByNameKeywords(List.of("daniel")));
+
+        persons.remove(ALICE);
+        assertTrue(searchIndex.findByNameKeywords(List.of("alice")).isEmpty());
+        assertEquals(Set.of(BENSON, DANIEL), searchIndex.findByTagKeywords(List.of("friends")));
+
+        Person editedCarl = new PersonBuilder(CARL).withName("Carlos Kurz").withTags("colleague").build();
+        persons.set(persons.indexOf(CARL), editedCarl);
+        assertEquals(Set.of(editedCarl), searchIndex.findByNameKeywords(List.of("carlos")));
+        assertEquals(Set.of(editedCarl), searchIndex.findByTagKeywords(List.of("colleague")));
+
+        persons.clear();
+        assertTrue(searchIndex.findByNameKeywords(List.of("k", "m", "d")).isEmpty());
+    }
+
+    @Test
+    public void personListSorted_indexUnchanged() {
+        FXCollections.sort(persons, (first, second) -> second.getName().fullName.compareTo(first.getName().fullName));
+        assertEquals(Set.of(ALICE, BENSON, CARL), searchIndex.findByNameKeywords(List.of("a", "b", "c")));
+    }
+}
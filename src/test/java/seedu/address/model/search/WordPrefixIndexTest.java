@@ -0,0 +1,72 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+
+public class WordPrefixIndexTest {
+
+    private final WordPrefixIndex<Person> index = new WordPrefixIndex<>();
+
+    @Test
+    public void collectValuesWithWordStartingWith_matchingPrefix_collectsPersons() {
+        index.add("alice", ALICE);
+        index.add("alex", BENSON);
+        index.add("bob", BENSON);
+
+        Set<Person> results = collect("al");
+        assertEquals(2, results.size());
+        assertTrue(results.contains(ALICE));
+        assertTrue(results.contains(BENSON));
+    }
+
+    @Test
+    public void collectValuesWithWordStartingWith_wholeWord_collectsPerson() {
+        index.add("alice", ALICE);
+        assertEquals(Set.of(ALICE), collect("alice"));
+    }
+
+    @Test
+    public void collectValuesWithWordStartingWith_noMatchingPrefix_collectsNothing() {
+        index.add("alice", ALICE);
+        assertTrue(collect("b").isEmpty());
+        assertTrue(collect("alicea").isEmpty());
+        assertTrue(collect("lice").isEmpty());
+    }
+
+    @Test
+    public void remove_lastPersonWithWord_removesWord() {
+        index.add("alice", ALICE);
+        index.add("alice", BENSON);
+
+        index.remove("alice", ALICE);
+        assertEquals(Set.of(BENSON), collect("alice"));
+        assertEquals(1, index.size());
+
+        index.remove("alice", BENSON);
+        assertTrue(collect("alice").isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void remove_absentWord_doesNothing() {
+        index.add("alice", ALICE);
+        index.remove("bob", ALICE);
+        assertEquals(1, index.size());
+    }
+
+    private Set<Person> collect(String prefix) {
+        Set<Person> results = Collections.newSetFromMap(new IdentityHashMap<>());
+        index.collectValuesWithWordStartingWith(prefix, results);
+        return results;
+    }
+}
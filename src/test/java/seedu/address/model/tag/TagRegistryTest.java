@@ -0,0 +1,50 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class TagRegistryTest {
+
+    private final TagRegistry registry = TagRegistry.getInstance();
+
+    @Test
+    public void intern_sameName_returnsSameTag() {
+        Tag tag = registry.intern("registryFriends");
+        assertSame(tag, registry.intern("registryFriends"));
+        assertSame(tag, Tag.of("registryFriends"));
+    }
+
+    @Test
+    public void intern_differentNames_differentIds() {
+        assertNotEquals(registry.intern("registryLower").getId(), registry.intern("REGISTRYLOWER").getId());
+    }
+
+    @Test
+    public void intern_invalidName_throwsException() {
+        assertThrows(NullPointerException.class, () -> registry.intern(null));
+        assertThrows(IllegalArgumentException.class, () -> registry.intern("not valid"));
+    }
+
+    @Test
+    public void getTag_registeredId_returnsTag() {
+        Tag tag = registry.intern("registryColleagues");
+        assertSame(tag, registry.getTag(tag.getId()));
+    }
+
+    @Test
+    public void getTag_unknownId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> registry.getTag(-1));
+        assertThrows(IllegalArgumentException.class, () -> registry.getTag(registry.size()));
+    }
+
+    @Test
+    public void constructor_registeredName_sameIdAsSharedTag() {
+        Tag tag = new Tag("registryNeighbours");
+        assertEquals(registry.intern("registryNeighbours").getId(), tag.getId());
+        assertEquals(registry.intern("registryNeighbours"), tag);
+    }
+}
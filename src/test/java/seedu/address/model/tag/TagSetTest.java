@@ -0,0 +1,72 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private final Tag friends = Tag.of("friends");
+    private final Tag colleagues = Tag.of("colleagues");
+    private final TagSet tagSet = TagSet.of(List.of(colleagues, friends, new Tag("friends")));
+
+    @Test
+    public void of_duplicateTags_keptOnce() {
+        assertEquals(2, tagSet.size());
+        assertTrue(tagSet.contains(friends));
+        assertTrue(tagSet.contains(new Tag("colleagues")));
+        assertFalse(tagSet.contains(Tag.of("family")));
+        assertFalse(tagSet.contains("friends"));
+    }
+
+    @Test
+    public void of_emptyOrTagSet_reused() {
+        assertSame(TagSet.EMPTY, TagSet.of(Set.of()));
+        assertSame(tagSet, TagSet.of(tagSet));
+    }
+
+    @Test
+    public void iterator_returnsSharedTagsInIdOrder() {
+        List<Tag> tags = new ArrayList<>(tagSet);
+        assertEquals(2, tags.size());
+        assertTrue(tags.get(0).getId() < tags.get(1).getId());
+        tags.forEach(tag -> assertSame(Tag.of(tag.tagName), tag));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(Tag.of("family")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.removeAll(Set.of(friends)));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.clear());
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.iterator().remove());
+    }
+
+    @Test
+    public void equals() {
+        Set<Tag> hashSet = new HashSet<>(List.of(friends, colleagues));
+
+        // same tags -> returns true
+        assertEquals(TagSet.of(hashSet), tagSet);
+        assertEquals(hashSet, tagSet);
+        assertEquals(tagSet, hashSet);
+        assertEquals(hashSet.hashCode(), tagSet.hashCode());
+
+        // different tags -> returns false
+        assertNotEquals(TagSet.of(List.of(friends)), tagSet);
+        assertNotEquals(TagSet.EMPTY, tagSet);
+
+        // different type -> returns false
+        assertNotEquals(List.of(colleagues, friends), tagSet);
+    }
+}
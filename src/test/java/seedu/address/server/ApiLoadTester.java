@@ -0,0 +1,283 @@
+package seedu.address.server;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.CommandPipeline;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.StateManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.CommandRegistry;
+import seedu.address.model.AddressBook;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.NewlineDelimitedCommandHistoryStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindStorage;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures the throughput and latency of an {@code ApiServer} under a mix of concurrent reads and writes.
+ * <p>
+ * Usage: {@code ApiLoadTester [--url=URL] [--persons=N] [--clients=N] [--seconds=N] [--writes=PERCENT]}
+ * <p>
+ * Without {@code --url}, a server is started in this process over a temporary address book of {@code --persons}
+ * generated persons. Each client sends requests one after another for {@code --seconds}. {@code --writes} percent of
+ * the requests add a person, and the rest are split between finding persons by name, getting a person by index and,
+ * less often, listing every person. The throughput and the 50th and 99th percentile latencies of each kind of request
+ * are printed at the end. Run it with {@code gradlew apiLoadTest --args="..."}.
+ */
+public class ApiLoadTester {
+    private static final String URL_PREFIX = "--url=";
+    private static final String PERSONS_PREFIX = "--persons=";
+    private static final String CLIENTS_PREFIX = "--clients=";
+    private static final String SECONDS_PREFIX = "--seconds=";
+    private static final String WRITES_PREFIX = "--writes=";
+
+    private static final String[] NAME_WORDS = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Yeoh",
+        "Li", "Oliveiro", "Balakrishnan", "Tan", "Lim", "Ng", "Wong", "Kumar", "Chen"};
+
+    /** Percentage of the reads that list every person, which are far larger than the other responses. */
+    private static final int LIST_PERCENT_OF_READS = 5;
+
+    private enum Operation {
+        LIST, FIND, GET, ADD
+    }
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final URI baseUri;
+    private final int clientCount;
+    private final long durationNanos;
+    private final int writePercent;
+    private final AtomicLong addCount = new AtomicLong();
+    private int initialPersonCount;
+
+    private ApiLoadTester(URI baseUri, int clientCount, int seconds, int writePercent) {
+        this.baseUri = baseUri;
+        this.clientCount = clientCount;
+        this.durationNanos = TimeUnit.SECONDS.toNanos(seconds);
+        this.writePercent = writePercent;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = null;
+        int personCount = 10_000;
+        int clientCount = 16;
+        int seconds = 10;
+        int writePercent = 5;
+        for (String arg : args) {
+            if (arg.startsWith(URL_PREFIX)) {
+                url = arg.substring(URL_PREFIX.length());
+            } else if (arg.startsWith(PERSONS_PREFIX)) {
+                personCount = Integer.parseInt(arg.substring(PERSONS_PREFIX.length()));
+            } else if (arg.startsWith(CLIENTS_PREFIX)) {
+                clientCount = Integer.parseInt(arg.substring(CLIENTS_PREFIX.length()));
+            } else if (arg.startsWith(SECONDS_PREFIX)) {
+                seconds = Integer.parseInt(arg.substring(SECONDS_PREFIX.length()));
+            } else if (arg.startsWith(WRITES_PREFIX)) {
+                writePercent = Integer.parseInt(arg.substring(WRITES_PREFIX.length()));
+            } else {
+                throw new IllegalArgumentException("Unknown parameter: " + arg);
+            }
+        }
+
+        if (url != null) {
+            new ApiLoadTester(URI.create(url), clientCount, seconds, writePercent).run();
+            return;
+        }
+
+        Path folder = Files.createTempDirectory("api-load-test");
+        WriteBehindStorage storage = new WriteBehindStorage(new StorageManager(
+                new JsonAddressBookStorage(folder.resolve("addressbook.json")),
+                new JsonUserPrefsStorage(folder.resolve("preferences.json")),
+                new NewlineDelimitedCommandHistoryStorage(folder.resolve("commandhistory.txt"))),
+                e -> System.err.println("Save failed: " + e));
+        CommandRegistry.initialize();
+        LogicManager logic = new LogicManager(
+                new ModelManager(generateAddressBook(personCount), new UserPrefs(), new CommandHistory()),
+                storage, new StateManager());
+        CommandPipeline pipeline = new CommandPipeline(logic, Runnable::run);
+        ApiServer server = new ApiServer(logic, pipeline, 0);
+        server.start();
+        try {
+            URI baseUri = URI.create("http://" + server.getAddress().getHostString() + ":"
+                    + server.getAddress().getPort());
+            System.out.println("Started a server over " + personCount + " persons at " + baseUri);
+            new ApiLoadTester(baseUri, clientCount, seconds, writePercent).run();
+        } finally {
+            server.stop();
+            pipeline.shutdown();
+            storage.close();
+        }
+    }
+
+    private static AddressBook generateAddressBook(int personCount) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < personCount; i++) {
+            addressBook.addPerson(new PersonBuilder().withName(generateName(i)).build());
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns a name made of two common words followed by {@code number}, so that every name is unique but finding by
+     * one of the words matches many persons.
+     */
+    private static String generateName(long number) {
+        return NAME_WORDS[(int) (number % NAME_WORDS.length)] + " "
+                + NAME_WORDS[(int) (number / NAME_WORDS.length % NAME_WORDS.length)] + " " + number;
+    }
+
+    private void run() throws Exception {
+        HttpResponse<String> persons = client.send(
+                HttpRequest.newBuilder(baseUri.resolve(ApiServer.PERSONS_PATH)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        // Indexes are picked among the persons there at the start, which are still there as persons are only added
+        initialPersonCount = ((List<?>) JsonUtil.fromJsonString(persons.body(), Map.class).get("persons")).size();
+
+        // Warm up the server so that the measurements are not dominated by class loading and compilation
+        runClients(Math.max(1, durationNanos / 5));
+        List<long[]>[] latencies = runClients(durationNanos);
+
+        System.out.printf("%d clients for %d s, %d%% writes%n", clientCount,
+                TimeUnit.NANOSECONDS.toSeconds(durationNanos), writePercent);
+        System.out.printf("%-6s %10s %10s %10s %10s %10s%n", "", "requests", "req/s", "p50 ms", "p99 ms", "max ms");
+        long totalCount = 0;
+        for (Operation operation : Operation.values()) {
+            long[] sorted = latencies[operation.ordinal()].stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            totalCount += sorted.length;
+            if (sorted.length == 0) {
+                continue;
+            }
+            System.out.printf("%-6s %10d %10.0f %10.2f %10.2f %10.2f%n", operation, sorted.length,
+                    perSecond(sorted.length), millis(percentile(sorted, 50)), millis(percentile(sorted, 99)),
+                    millis(sorted[sorted.length - 1]));
+        }
+        System.out.printf("%-6s %10d %10.0f%n", "TOTAL", totalCount, perSecond(totalCount));
+    }
+
+    /**
+     * Runs the clients for {@code nanos} and returns the latencies of the successful requests of each client, by
+     * operation.
+     */
+    @SuppressWarnings("unchecked")
+    private List<long[]>[] runClients(long nanos) throws Exception {
+        List<long[]>[] latencies = new List[Operation.values().length];
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = new ArrayList<>();
+        }
+
+        ExecutorService clients = Executors.newFixedThreadPool(clientCount);
+        try {
+            List<Future<long[][]>> results = new ArrayList<>();
+            long deadline = System.nanoTime() + nanos;
+            for (int i = 0; i < clientCount; i++) {
+                results.add(clients.submit(() -> runClient(deadline)));
+            }
+            for (Future<long[][]> result : results) {
+                long[][] clientLatencies = result.get();
+                for (int i = 0; i < latencies.length; i++) {
+                    latencies[i].add(clientLatencies[i]);
+                }
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+        return latencies;
+    }
+
+    private long[][] runClient(long deadline) throws Exception {
+        long[][] latencies = new long[Operation.values().length][1024];
+        int[] counts = new int[Operation.values().length];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        while (System.nanoTime() < deadline) {
+            Operation operation = pickOperation(random);
+            HttpRequest request = buildRequest(operation, random);
+            long start = System.nanoTime();
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            long latency = System.nanoTime() - start;
+            if (response.statusCode() != 200) {
+                System.err.println(operation + " failed with status " + response.statusCode());
+                continue;
+            }
+
+            int i = operation.ordinal();
+            if (counts[i] == latencies[i].length) {
+                latencies[i] = Arrays.copyOf(latencies[i], counts[i] * 2);
+            }
+            latencies[i][counts[i]++] = latency;
+        }
+
+        for (int i = 0; i < latencies.length; i++) {
+            latencies[i] = Arrays.copyOf(latencies[i], counts[i]);
+        }
+        return latencies;
+    }
+
+    private Operation pickOperation(ThreadLocalRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < writePercent) {
+            return Operation.ADD;
+        }
+        if (random.nextInt(100) < LIST_PERCENT_OF_READS) {
+            return Operation.LIST;
+        }
+        return random.nextBoolean() ? Operation.FIND : Operation.GET;
+    }
+
+    private HttpRequest buildRequest(Operation operation, ThreadLocalRandom random) {
+        switch (operation) {
+        case LIST:
+            return HttpRequest.newBuilder(baseUri.resolve(ApiServer.PERSONS_PATH)).GET().build();
+        case FIND:
+            return HttpRequest.newBuilder(baseUri.resolve(ApiServer.PERSONS_PATH + "?"
+                    + ApiServer.PARAMETER_NAME + "=" + NAME_WORDS[random.nextInt(NAME_WORDS.length)])).GET().build();
+        case GET:
+            int index = random.nextInt(Math.max(1, initialPersonCount)) + 1;
+            return HttpRequest.newBuilder(baseUri.resolve(ApiServer.PERSONS_PATH + "/" + index)).GET().build();
+        case ADD:
+            // Numbers past the generated persons keep the added names unique
+            String name = "Added " + generateName(Integer.MAX_VALUE + addCount.incrementAndGet());
+            String command = AddCommand.COMMAND_WORD + " " + PREFIX_NAME + name + " " + PREFIX_PHONE + "91234567";
+            return HttpRequest.newBuilder(baseUri.resolve(ApiServer.COMMANDS_PATH))
+                    .POST(HttpRequest.BodyPublishers.ofString(command)).build();
+        default:
+            throw new AssertionError("Unknown operation: " + operation);
+        }
+    }
+
+    private double perSecond(long count) {
+        return count * 1e9 / durationNanos;
+    }
+
+    private static long percentile(long[] sorted, int percent) {
+        int index = (int) Math.ceil(percent / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
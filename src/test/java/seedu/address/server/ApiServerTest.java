@@ -0,0 +1,243 @@
+package seedu.address.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.GITHUB_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.TELEGRAM_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.CommandPipeline;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.StateManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.CommandRegistry;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.PinCommand;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.NewlineDelimitedCommandHistoryStorage;
+import seedu.address.storage.StorageManager;
+
+public class ApiServerTest {
+    private static final String ADD_AMY = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY + TELEGRAM_DESC_AMY + GITHUB_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Logic logic;
+    private CommandPipeline pipeline;
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new NewlineDelimitedCommandHistoryStorage(temporaryFolder.resolve(".hist")));
+        CommandRegistry.initialize();
+        logic = new LogicManager(new ModelManager(getTypicalAddressBook(), new UserPrefs(), new CommandHistory()),
+                storage, new StateManager());
+        pipeline = new CommandPipeline(logic, Runnable::run);
+        server = new ApiServer(logic, pipeline, 0);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+        pipeline.shutdown();
+    }
+
+    @Test
+    public void getPersons_noQuery_returnsAllPersonsInDisplayedOrder() throws Exception {
+        // Pinning a person moves it ahead of the others
+        assertEquals(200, post(ApiServer.COMMANDS_PATH, PinCommand.COMMAND_WORD + " 4").statusCode());
+
+        HttpResponse<String> response = get(ApiServer.PERSONS_PATH);
+
+        assertEquals(200, response.statusCode());
+        List<String> expectedNames = logic.getFilteredPersonList().stream()
+                .map(person -> person.getName().fullName).collect(Collectors.toList());
+        assertEquals(CARL.getName().fullName, expectedNames.get(0));
+        assertEquals(expectedNames, names(response));
+    }
+
+    @Test
+    public void getPersons_nameKeywords_returnsMatchingPersons() throws Exception {
+        HttpResponse<String> response = get(ApiServer.PERSONS_PATH + "?name=alice%20ben");
+
+        assertEquals(200, response.statusCode());
+        assertEquals(List.of(ALICE.getName().fullName, BENSON.getName().fullName), names(response));
+    }
+
+    @Test
+    public void getPersons_tagKeywords_returnsMatchingPersons() throws Exception {
+        HttpResponse<String> response = get(ApiServer.PERSONS_PATH + "?tag=owes");
+
+        assertEquals(200, response.statusCode());
+        assertEquals(List.of(BENSON.getName().fullName), names(response));
+    }
+
+    @Test
+    public void getPersons_invalidQuery_badRequest() throws Exception {
+        assertEquals(400, get(ApiServer.PERSONS_PATH + "?name=alice&tag=friends").statusCode());
+        assertEquals(400, get(ApiServer.PERSONS_PATH + "?name=%20").statusCode());
+    }
+
+    @Test
+    public void getPerson_validIndex_returnsPerson() throws Exception {
+        // Pinned persons come first
+        HttpResponse<String> response = get(ApiServer.PERSONS_PATH + "/3");
+
+        assertEquals(200, response.statusCode());
+        assertEquals(BENSON.getName().fullName, parse(response).get("name"));
+    }
+
+    @Test
+    public void getPerson_invalidIndex_errorReturned() throws Exception {
+        assertEquals(404, get(ApiServer.PERSONS_PATH + "/100").statusCode());
+        assertEquals(400, get(ApiServer.PERSONS_PATH + "/0").statusCode());
+        assertEquals(400, get(ApiServer.PERSONS_PATH + "/first").statusCode());
+    }
+
+    @Test
+    public void postCommand_add_servedToLaterReads() throws Exception {
+        int sizeBefore = names(get(ApiServer.PERSONS_PATH)).size();
+
+        HttpResponse<String> response = post(ApiServer.COMMANDS_PATH, ADD_AMY);
+
+        assertEquals(200, response.statusCode());
+        assertTrue(((String) parse(response).get("feedback")).contains(VALID_NAME_AMY));
+        List<String> names = names(get(ApiServer.PERSONS_PATH));
+        assertEquals(sizeBefore + 1, names.size());
+        assertEquals(VALID_NAME_AMY, names.get(names.size() - 1));
+    }
+
+    @Test
+    public void postCommand_confirmationNotGiven_conflictAndNotCarriedOut() throws Exception {
+        HttpResponse<String> response = post(ApiServer.COMMANDS_PATH, ClearCommand.COMMAND_WORD);
+
+        assertEquals(409, response.statusCode());
+        assertEquals(getTypicalAddressBook().getPersonList().size(), names(get(ApiServer.PERSONS_PATH)).size());
+
+        // The cancelled confirmation does not swallow the next command
+        assertEquals(200, post(ApiServer.COMMANDS_PATH, ADD_AMY).statusCode());
+    }
+
+    @Test
+    public void postCommand_confirmationGiven_carriedOut() throws Exception {
+        HttpResponse<String> response = post(ApiServer.COMMANDS_PATH + "?confirm=yes", ClearCommand.COMMAND_WORD);
+
+        assertEquals(200, response.statusCode());
+        assertEquals(List.of(), names(get(ApiServer.PERSONS_PATH)));
+    }
+
+    @Test
+    public void postCommand_invalidCommand_badRequest() throws Exception {
+        assertEquals(400, post(ApiServer.COMMANDS_PATH, "uicfhmowqewca").statusCode());
+        assertEquals(400, post(ApiServer.COMMANDS_PATH, "  ").statusCode());
+        assertEquals(400, post(ApiServer.COMMANDS_PATH, ListCommand.COMMAND_WORD).statusCode());
+    }
+
+    @Test
+    public void request_unsupportedMethodOrPath_errorReturned() throws Exception {
+        assertEquals(405, post(ApiServer.PERSONS_PATH, ADD_AMY).statusCode());
+        assertEquals(405, get(ApiServer.COMMANDS_PATH).statusCode());
+        assertEquals(404, get(ApiServer.COMMANDS_PATH + "/add").statusCode());
+        assertEquals(404, get(ApiServer.PERSONS_PATH + "/1/name").statusCode());
+    }
+
+    @Test
+    public void requests_concurrentReadsAndWrites_allWritesApplied() throws Exception {
+        int clientCount = 8;
+        int addsPerClient = 5;
+        ExecutorService clients = Executors.newFixedThreadPool(clientCount);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < clientCount; i++) {
+            int clientNumber = i;
+            results.add(clients.submit(() -> {
+                boolean isSuccessful = true;
+                for (int j = 0; j < addsPerClient; j++) {
+                    String name = "Client " + (char) ('A' + clientNumber) + " Contact " + (char) ('A' + j);
+                    String command = AddCommand.COMMAND_WORD + " " + PREFIX_NAME + name
+                            + PHONE_DESC_AMY + EMAIL_DESC_AMY;
+                    isSuccessful &= post(ApiServer.COMMANDS_PATH, command).statusCode() == 200;
+                    isSuccessful &= get(ApiServer.PERSONS_PATH).statusCode() == 200;
+                }
+                return isSuccessful;
+            }));
+        }
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get());
+        }
+        clients.shutdown();
+
+        int expectedSize = getTypicalAddressBook().getPersonList().size() + clientCount * addsPerClient;
+        assertEquals(expectedSize, names(get(ApiServer.PERSONS_PATH)).size());
+    }
+
+    @Test
+    public void parseQuery() {
+        assertEquals(Map.of(), ApiServer.parseQuery(null));
+        assertEquals(Map.of("name", "alice bob", "confirm", ""), ApiServer.parseQuery("name=alice+bob&confirm"));
+        assertEquals(Map.of("tag", "a&b"), ApiServer.parseQuery("tag=a%26b&tag=c"));
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path)).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(path)).POST(HttpRequest.BodyPublishers.ofString(body)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + path);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> parse(HttpResponse<String> response) throws Exception {
+        return JsonUtil.fromJsonString(response.body(), Map.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> names(HttpResponse<String> response) throws Exception {
+        List<Map<String, Object>> persons = (List<Map<String, Object>>) parse(response).get("persons");
+        return persons.stream().map(person -> (String) person.get("name")).collect(Collectors.toList());
+    }
+}
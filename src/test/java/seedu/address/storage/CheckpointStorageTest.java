@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.CommandHistory;
+
+public class CheckpointStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private CheckpointStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new CheckpointStorage(new StorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("userPrefs.json")),
+                new NewlineDelimitedCommandHistoryStorage(testFolder.resolve(".hist"))));
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CheckpointStorage(null));
+    }
+
+    @Test
+    public void saveAddressBook_beforeCheckpoint_notWritten() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertTrue(storage.hasPendingSave());
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void checkpoint_afterSaves_writesLatestState() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(new AddressBook());
+        storage.saveAddressBook(addressBook);
+        // Changes made before the checkpoint are part of the save
+        addressBook.removePerson(ALICE);
+
+        storage.checkpoint();
+
+        assertFalse(storage.hasPendingSave());
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void checkpoint_noPendingSave_nothingWritten() throws Exception {
+        storage.checkpoint();
+
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void close_pendingSave_written() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        storage.close();
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void commandHistory_savedOrAppended_notWritten() throws Exception {
+        CommandHistory history = new CommandHistory();
+        history.addCommandToHistory("list");
+        storage.saveCommandHistory(history);
+        storage.appendCommandToHistory("list");
+
+        assertFalse(storage.readCommandHistory().isPresent());
+    }
+}
@@ -0,0 +1,200 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JournaledAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressBook.json");
+        storage = new JournaledAddressBookStorage(filePath);
+    }
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(null));
+    }
+
+    @Test
+    public void getJournalFilePath_returnsPathNextToSnapshot() {
+        assertEquals(testFolder.resolve("addressBook.json.journal"), storage.getJournalFilePath());
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_notRead_writesSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_appendsChangesToJournal() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        String snapshot = Files.readString(filePath);
+
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        // the snapshot is left untouched
+        assertEquals(snapshot, Files.readString(filePath));
+        List<String> journal = Files.readAllLines(storage.getJournalFilePath());
+        assertEquals(4, journal.size());
+        assertTrue(journal.get(0).contains("\"op\":\"base\""));
+        assertTrue(journal.get(1).contains("\"op\":\"add\""));
+        assertTrue(journal.get(2).contains("\"op\":\"set\""));
+        assertTrue(journal.get(3).contains("\"op\":\"remove\""));
+
+        // the journal is replayed on top of the snapshot
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_writesNothing() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void close_withJournal_compactsIntoSnapshot() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        storage.close();
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOtherSnapshot_journalIgnored() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        // snapshot replaced without the journal being discarded
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(CARL);
+        new JsonAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        assertEquals(replacement, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_recordIgnored() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Files.write(storage.getJournalFilePath(), "{\"op\":\"add\",\"ind".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(reopened.readAddressBook().get());
+        assertEquals(addressBook, readBack);
+
+        // the next save is written to a new snapshot instead of after the incomplete record
+        readBack.addPerson(IDA);
+        reopened.saveAddressBook(readBack);
+        assertFalse(Files.exists(reopened.getJournalFilePath()));
+        assertEquals(readBack, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidRecordIndex_throwsDataLoadingException() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Files.write(storage.getJournalFilePath(), "{\"op\":\"remove\",\"index\":100}\n".getBytes(
+                StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersonInJournal_throwsDataLoadingException() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        String duplicateAlice = JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.add(0, ALICE)) + "\n";
+        Files.write(storage.getJournalFilePath(), duplicateAlice.getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> new JournaledAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void diff_singleChange_singleRecord() {
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("99999999").build();
+
+        assertRecords(List.of(ALICE, BENSON), List.of(ALICE, BENSON, CARL), "add:2");
+        assertRecords(List.of(ALICE, BENSON, CARL), List.of(ALICE, CARL), "remove:1");
+        assertRecords(List.of(ALICE, BENSON, CARL), List.of(ALICE, editedBenson, CARL), "set:1");
+        assertRecords(List.of(ALICE, BENSON), List.of(ALICE, BENSON));
+    }
+
+    @Test
+    public void diff_multipleChanges_recordsChangedRange() {
+        assertRecords(List.of(ALICE, BENSON, CARL), List.of(), "remove:0", "remove:0", "remove:0");
+        assertRecords(List.of(ALICE, BENSON, CARL), List.of(HOON, CARL), "set:0", "remove:1");
+        assertRecords(List.of(ALICE), List.of(HOON, IDA, ALICE), "add:0", "add:1");
+    }
+
+    private static void assertRecords(List<Person> oldPersons, List<Person> newPersons, String... expected) {
+        List<JsonAdaptedJournalRecord> records = JournaledAddressBookStorage.diff(PersistentList.of(oldPersons),
+                PersistentList.of(newPersons));
+        assertEquals(List.of(expected), records.stream()
+                .map(record -> record.getOp() + ":" + record.getIndex())
+                .toList());
+    }
+}
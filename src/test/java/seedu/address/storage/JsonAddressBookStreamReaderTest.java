@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookStreamReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        try (InputStream in = Files.newInputStream(TYPICAL_PERSONS_FILE)) {
+            assertEquals(TypicalPersons.getTypicalPersons(), JsonAddressBookStreamReader.read(in));
+        }
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(INVALID_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, () -> JsonAddressBookStreamReader.read(in));
+        }
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(DUPLICATE_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                    JsonAddressBookStreamReader.read(in));
+        }
+    }
+
+    @Test
+    public void read_unknownFields_ignored() throws Exception {
+        List<Person> persons = read("{ \"version\": { \"major\": 1 }, \"persons\": [], \"notes\": [ 1, 2 ] }");
+        assertEquals(Collections.emptyList(), persons);
+    }
+
+    @Test
+    public void read_truncated_throwsIoException() {
+        assertThrows(IOException.class, () -> read("{ \"persons\": [ { \"name\": \"Alice\" "));
+        assertThrows(IOException.class, () -> read("[]"));
+    }
+
+    @Test
+    public void read_wholeStreamConsumed() throws Exception {
+        ByteArrayInputStream in = new ByteArrayInputStream(
+                "{ \"persons\": [] }\n\n".getBytes(StandardCharsets.UTF_8));
+        JsonAddressBookStreamReader.read(in);
+        assertEquals(0, in.available());
+    }
+
+    private static List<Person> read(String json) throws Exception {
+        return JsonAddressBookStreamReader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
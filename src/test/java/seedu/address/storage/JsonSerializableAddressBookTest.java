@@ -5,12 +5,18 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -44,4 +50,35 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_manyPersons_convertedInFileOrder() throws Exception {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        AddressBook expected = new AddressBook();
+        for (int i = 0; i < 3 * JsonSerializableAddressBook.PARALLEL_CONVERSION_THRESHOLD; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(80000000 + i))
+                    .build();
+            adaptedPersons.add(new JsonAdaptedPerson(person));
+            expected.addPerson(person);
+        }
+
+        assertEquals(expected, new JsonSerializableAddressBook(adaptedPersons).toModelType());
+    }
+
+    @Test
+    public void toModelType_manyInvalidPersons_allErrorsReported() {
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        adaptedPersons.add(new JsonAdaptedPerson(TypicalPersons.ALICE));
+        adaptedPersons.add(new JsonAdaptedPerson("R@chel", "94351253", null, null, null, null, null, false, null));
+        adaptedPersons.add(new JsonAdaptedPerson(TypicalPersons.BENSON));
+        adaptedPersons.add(new JsonAdaptedPerson("Rachel", "+651234", null, null, null, null, null, false, null));
+        adaptedPersons.add(new JsonAdaptedPerson(TypicalPersons.ALICE));
+
+        // invalid persons are reported instead of the duplicate
+        String expectedMessage = String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON, 2,
+                Name.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(JsonSerializableAddressBook.MESSAGE_INVALID_PERSON, 4, Phone.MESSAGE_CONSTRAINTS);
+        assertThrows(IllegalValueException.class, expectedMessage,
+                new JsonSerializableAddressBook(adaptedPersons)::toModelType);
+    }
+
 }
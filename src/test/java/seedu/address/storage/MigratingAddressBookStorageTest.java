@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+
+public class MigratingAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path jsonFilePath;
+    private Path binaryFilePath;
+    private MigratingAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        jsonFilePath = testFolder.resolve("addressBook.json");
+        binaryFilePath = BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath);
+        storage = new MigratingAddressBookStorage(new BinaryAddressBookStorage(binaryFilePath),
+                new JournaledAddressBookStorage(jsonFilePath));
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new MigratingAddressBookStorage(null, new JsonAddressBookStorage(jsonFilePath)));
+        assertThrows(NullPointerException.class, () ->
+                new MigratingAddressBookStorage(new JsonAddressBookStorage(jsonFilePath), null));
+    }
+
+    @Test
+    public void getMigratedFilePath() {
+        assertEquals(Paths.get("data", "addressbook.json.migrated"),
+                MigratingAddressBookStorage.getMigratedFilePath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_noFiles_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_onlyMigrationFile_migratedAndMigrationFileRenamedOnSave() throws Exception {
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        assertTrue(Files.exists(jsonFilePath));
+
+        AddressBook changed = getTypicalAddressBook();
+        changed.removePerson(ALICE);
+        storage.saveAddressBook(changed);
+        storage.close();
+
+        assertTrue(Files.exists(binaryFilePath));
+        assertFalse(Files.exists(jsonFilePath));
+        assertTrue(Files.exists(MigratingAddressBookStorage.getMigratedFilePath(jsonFilePath)));
+        assertEquals(changed, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_formatSwitchedBack_latestDataMigratedBack() throws Exception {
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        storage.readAddressBook();
+        AddressBook changed = getTypicalAddressBook();
+        changed.removePerson(ALICE);
+        storage.saveAddressBook(changed);
+
+        MigratingAddressBookStorage jsonStorage = new MigratingAddressBookStorage(
+                new JournaledAddressBookStorage(jsonFilePath), new BinaryAddressBookStorage(binaryFilePath));
+        assertEquals(changed, new AddressBook(jsonStorage.readAddressBook().get()));
+        changed.removePerson(BENSON);
+        jsonStorage.saveAddressBook(changed);
+
+        assertFalse(Files.exists(binaryFilePath));
+        assertEquals(changed, new AddressBook(new JsonAddressBookStorage(jsonFilePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_fileExists_migrationFileKept() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(new AddressBook());
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        storage.saveAddressBook(new AddressBook());
+        assertTrue(Files.exists(jsonFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_migrationFileKept() throws Exception {
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        storage.readAddressBook();
+
+        Path exportPath = testFolder.resolve("export.json");
+        storage.saveAddressBook(getTypicalAddressBook(), exportPath);
+        assertTrue(Files.exists(jsonFilePath));
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(exportPath).readAddressBook().get()));
+    }
+}
@@ -7,12 +7,14 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.CommandHistory;
 
 public class NewlineDelimitedCommandHistoryStorageTest {
@@ -108,5 +110,60 @@ public class NewlineDelimitedCommandHistoryStorageTest {
         assertEquals(history, readBack);
     }
 
+    @Test
+    public void appendCommandToHistory_existingFile_commandsAppended() throws Exception {
+        Path histFilePath = testFolder.resolve(".append_history");
+        NewlineDelimitedCommandHistoryStorage commandHistoryStorage =
+            new NewlineDelimitedCommandHistoryStorage(histFilePath);
+        CommandHistory history = new CommandHistory();
+        history.addCommandToHistory("list");
+        commandHistoryStorage.saveCommandHistory(history);
+
+        commandHistoryStorage.appendCommandToHistory("delete 1");
+        // A fresh storage does not know how many commands the file holds yet
+        new NewlineDelimitedCommandHistoryStorage(histFilePath).appendCommandToHistory("exit");
+
+        assertEquals("list\ndelete 1\nexit\n", FileUtil.readFromFile(histFilePath));
+        assertEquals(List.of("exit", "delete 1", "list"),
+            commandHistoryStorage.readCommandHistory().get().getHistory());
+    }
+
+    @Test
+    public void appendCommandToHistory_missingFile_fileCreated() throws Exception {
+        Path histFilePath = testFolder.resolve("folder").resolve(".new_history");
+
+        new NewlineDelimitedCommandHistoryStorage(histFilePath).appendCommandToHistory("list");
+
+        assertEquals("list\n", FileUtil.readFromFile(histFilePath));
+    }
 
+    @Test
+    public void appendCommandToHistory_fileHoldsTooManyCommands_fileCompacted() throws Exception {
+        Path histFilePath = testFolder.resolve(".compacted_history");
+        int capacity = 3;
+        NewlineDelimitedCommandHistoryStorage commandHistoryStorage =
+            new NewlineDelimitedCommandHistoryStorage(histFilePath, capacity);
+
+        int maxCommandsInFile = NewlineDelimitedCommandHistoryStorage.COMPACTION_FACTOR * capacity;
+        for (int i = 1; i <= maxCommandsInFile; i++) {
+            commandHistoryStorage.appendCommandToHistory("command " + i);
+        }
+        assertEquals(maxCommandsInFile, FileUtil.readFromFile(histFilePath).split("\n").length);
+
+        commandHistoryStorage.appendCommandToHistory("newest");
+
+        assertEquals("command 5\ncommand 6\nnewest\n", FileUtil.readFromFile(histFilePath));
+        assertEquals(List.of("newest", "command 6", "command 5"),
+            commandHistoryStorage.readCommandHistory().get().getHistory());
+    }
+
+    @Test
+    public void readCommandHistory_moreCommandsThanCapacity_mostRecentKept() throws Exception {
+        Path histFilePath = testFolder.resolve(".long_history");
+        FileUtil.writeToFile(histFilePath, "first\nsecond\nthird\n");
+
+        CommandHistory history = new NewlineDelimitedCommandHistoryStorage(histFilePath, 2).readCommandHistory().get();
+
+        assertEquals(List.of("third", "second"), history.getHistory());
+    }
 }
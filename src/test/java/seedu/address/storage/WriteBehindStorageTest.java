@@ -0,0 +1,201 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+public class WriteBehindStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private RecordingStorageManager recordingStorage;
+    private List<IOException> errors;
+
+    @BeforeEach
+    public void setUp() {
+        recordingStorage = new RecordingStorageManager(testFolder);
+        errors = new ArrayList<>();
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindStorage(null, errors::add));
+        assertThrows(NullPointerException.class, () -> new WriteBehindStorage(recordingStorage, null));
+    }
+
+    @Test
+    public void saveAddressBook_thenFlush_snapshotSaved() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(recordingStorage, errors::add);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        // later changes are not part of the snapshot
+        addressBook.removePerson(ALICE);
+        storage.flush();
+
+        assertEquals(1, recordingStorage.savedAddressBooks.size());
+        assertEquals(getTypicalAddressBook(), new AddressBook(recordingStorage.savedAddressBooks.get(0)));
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_whileWriting_savesMerged() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(recordingStorage, errors::add);
+        recordingStorage.blockNextSave();
+        storage.saveAddressBook(addressBookWith());
+        assertTrue(recordingStorage.saveStarted.await(5, TimeUnit.SECONDS));
+
+        storage.saveAddressBook(addressBookWith(ALICE));
+        storage.saveAddressBook(addressBookWith(ALICE, BENSON));
+        storage.saveAddressBook(addressBookWith(ALICE, BENSON, CARL));
+        recordingStorage.releaseSave.countDown();
+        storage.flush();
+
+        assertEquals(2, recordingStorage.savedAddressBooks.size());
+        assertEquals(addressBookWith(ALICE, BENSON, CARL), new AddressBook(recordingStorage.savedAddressBooks.get(1)));
+    }
+
+    @Test
+    public void saveCommandHistory_thenFlush_snapshotSaved() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(recordingStorage, errors::add);
+        CommandHistory history = new CommandHistory();
+        history.addCommandToHistory("list");
+        storage.saveCommandHistory(history);
+        history.addCommandToHistory("clear");
+        storage.flush();
+
+        assertEquals(List.of("list"), storage.readCommandHistory().get().getHistory());
+    }
+
+    @Test
+    public void appendCommandToHistory_thenFlush_commandsAppendedInOrder() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(recordingStorage, errors::add);
+        storage.appendCommandToHistory("list");
+        storage.appendCommandToHistory("delete 1");
+        storage.flush();
+
+        assertEquals(List.of("delete 1", "list"), storage.readCommandHistory().get().getHistory());
+    }
+
+    @Test
+    public void appendCommandToHistory_appendFails_laterCommandsKeptInOrder() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(recordingStorage, errors::add);
+        recordingStorage.failingCommand = "delete 1";
+        storage.appendCommandToHistory("list");
+        storage.appendCommandToHistory("delete 1");
+        storage.appendCommandToHistory("clear");
+        storage.flush();
+        assertEquals(1, errors.size());
+        assertEquals(List.of("list"), storage.readCommandHistory().get().getHistory());
+
+        // the commands that were not appended are appended before later ones
+        storage.appendCommandToHistory("undo");
+        storage.flush();
+        assertEquals(List.of("undo", "clear", "delete 1", "list"), storage.readCommandHistory().get().getHistory());
+    }
+
+    @Test
+    public void saveAddressBook_saveFails_errorReported() {
+        IOException failure = new IOException("disk full");
+        recordingStorage.failure = failure;
+        WriteBehindStorage storage = new WriteBehindStorage(recordingStorage, errors::add);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.flush();
+
+        assertEquals(1, errors.size());
+        assertSame(failure, errors.get(0));
+    }
+
+    @Test
+    public void close_pendingSave_savedBeforeStorageClosed() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(recordingStorage, errors::add);
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.close();
+
+        assertEquals(1, recordingStorage.savedAddressBooks.size());
+        assertTrue(recordingStorage.isClosed);
+    }
+
+    private static AddressBook addressBookWith(Person... persons) {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : persons) {
+            addressBook.addPerson(person);
+        }
+        return addressBook;
+    }
+
+    /**
+     * A {@code StorageManager} that records the address books it saves, and can hold a save until released.
+     */
+    private static class RecordingStorageManager extends StorageManager {
+        private final List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+        private final CountDownLatch saveStarted = new CountDownLatch(1);
+        private CountDownLatch releaseSave = new CountDownLatch(0);
+        private IOException failure;
+        private String failingCommand;
+        private boolean isClosed = false;
+
+        RecordingStorageManager(Path folder) {
+            super(new JsonAddressBookStorage(folder.resolve("addressBook.json")),
+                    new JsonUserPrefsStorage(folder.resolve("prefs.json")),
+                    new NewlineDelimitedCommandHistoryStorage(folder.resolve(".hist")));
+        }
+
+        void blockNextSave() {
+            releaseSave = new CountDownLatch(1);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            saveStarted.countDown();
+            try {
+                releaseSave.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            savedAddressBooks.add(addressBook);
+            super.saveAddressBook(addressBook);
+        }
+
+        @Override
+        public void appendCommandToHistory(String command) throws IOException {
+            if (command.equals(failingCommand)) {
+                // Only fails once
+                failingCommand = null;
+                throw new IOException("disk full");
+            }
+            super.appendCommandToHistory(command);
+        }
+
+        @Override
+        public void close() throws IOException {
+            isClosed = true;
+            super.close();
+        }
+    }
+}
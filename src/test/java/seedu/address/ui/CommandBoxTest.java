@@ -1,8 +1,11 @@
 package seedu.address.ui;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +17,7 @@ import org.testfx.framework.junit5.Start;
 
 import javafx.scene.Scene;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
 import javafx.stage.Stage;
 import seedu.address.logic.autocomplete.Autocompletor;
 import seedu.address.logic.commands.CommandRegistry;
@@ -162,13 +166,73 @@ public class CommandBoxTest {
         assertEquals(contents, t.getText());
     }
 
+    @Test
+    public void searchHistory_typedText_showsMostRecentMatchThenOlderMatches(FxRobot robot) {
+        chm.addCommandToHistory("delete 1");
+        chm.addCommandToHistory("list");
+        chm.addCommandToHistory("delete 2");
+        TextField t = robot.lookup("#commandTextField").queryAs(TextField.class);
+        robot.clickOn("#commandTextField");
+
+        robot.push(KeyCode.CONTROL, KeyCode.R);
+        robot.write("del");
+        assertEquals("delete 2", t.getText());
+
+        robot.push(KeyCode.CONTROL, KeyCode.R);
+        assertEquals("delete 1", t.getText());
+
+        // No older match, so the current match is kept
+        robot.push(KeyCode.CONTROL, KeyCode.R);
+        assertEquals("delete 1", t.getText());
+    }
+
+    @Test
+    public void searchHistory_cancelled_restoresUserInput(FxRobot robot) {
+        String userInput = "find n\\alex";
+        chm.addCommandToHistory("list");
+        TextField t = robot.lookup("#commandTextField").queryAs(TextField.class);
+        t.setText(userInput);
+        robot.clickOn("#commandTextField");
+
+        robot.push(KeyCode.CONTROL, KeyCode.R);
+        robot.write("lis");
+        assertEquals("list", t.getText());
+
+        robot.push(CommandBox.CANCEL_SEARCH_HISTORY);
+        assertEquals(userInput, t.getText());
+    }
+
+    @Test
+    public void enterCommand_success_clearsCommandBox(FxRobot robot) {
+        TextField t = robot.lookup("#commandTextField").queryAs(TextField.class);
+        robot.clickOn("#commandTextField");
+        robot.write("list");
+
+        robot.push(KeyCode.ENTER);
+
+        assertEquals("", t.getText());
+        assertFalse(t.getStyleClass().contains(CommandBox.ERROR_STYLE_CLASS));
+    }
+
+    @Test
+    public void enterCommand_failure_restoresCommandWithErrorStyle(FxRobot robot) {
+        TextField t = robot.lookup("#commandTextField").queryAs(TextField.class);
+        robot.clickOn("#commandTextField");
+        robot.write("invalid command");
+
+        robot.push(KeyCode.ENTER);
+
+        assertEquals("invalid command", t.getText());
+        assertTrue(t.getStyleClass().contains(CommandBox.ERROR_STYLE_CLASS));
+    }
+
     private class CommandExecutorStub implements CommandBox.CommandExecutor {
         @Override
-        public CommandResult execute(String commandText) throws CommandException {
+        public CompletableFuture<CommandResult> execute(String commandText) {
             if (commandText.equals("invalid command")) {
-                throw new CommandException("This command is invalid");
+                return CompletableFuture.failedFuture(new CommandException("This command is invalid"));
             }
-            return new CommandResult(commandText);
+            return CompletableFuture.completedFuture(new CommandResult(commandText));
         }
     }
 }
@@ -1,6 +1,11 @@
 package seedu.address.ui;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Locale;
 
 import org.junit.jupiter.api.Test;
 
@@ -60,7 +65,7 @@ public class CommandHistoryTest {
 
     @Test
     public void addCommand_exceedCapacity_oldestCommandRemoved() {
-        CommandHistory chm = new CommandHistory();
+        CommandHistory chm = new CommandHistory(15);
         for (int i = 1; i <= 16; i++) {
             chm.addCommandToHistory("command " + i);
         }
@@ -69,5 +74,92 @@ public class CommandHistoryTest {
             String command = chm.getPreviousCommandFromHistory("");
             assert command.equals("command " + i);
         }
+        assertEquals("command 2", chm.getPreviousCommandFromHistory(""));
+        assertEquals(15, chm.size());
+    }
+
+    @Test
+    public void getCommand_wrappedAround_returnsMostRecentFirst() {
+        CommandHistory chm = new CommandHistory(3);
+        for (int i = 1; i <= 7; i++) {
+            chm.addCommandToHistory("command " + i);
+        }
+
+        assertEquals("command 7", chm.getCommand(0));
+        assertEquals("command 5", chm.getCommand(2));
+        assertEquals(List.of("command 7", "command 6", "command 5"), chm.getHistory());
+        assertThrows(IndexOutOfBoundsException.class, () -> chm.getCommand(3));
+    }
+
+    @Test
+    public void constructor_smallerCapacity_keepsMostRecentCommands() {
+        CommandHistory chm = new CommandHistory();
+        for (int i = 1; i <= 5; i++) {
+            chm.addCommandToHistory("command " + i);
+        }
+
+        CommandHistory copy = new CommandHistory(chm, 2);
+
+        assertEquals(List.of("command 5", "command 4"), copy.getHistory());
+        assertThrows(IllegalArgumentException.class, () -> new CommandHistory(0));
+    }
+
+    @Test
+    public void constructor_copyOfHistoryAboveDefaultCapacity_keepsCapacityAndCommands() {
+        int capacity = CommandHistory.DEFAULT_CAPACITY + 10;
+        CommandHistory chm = new CommandHistory(capacity);
+        for (int i = 1; i <= capacity; i++) {
+            chm.addCommandToHistory("command " + i);
+        }
+
+        CommandHistory copy = new CommandHistory(chm);
+
+        assertEquals(capacity, copy.getCapacity());
+        assertEquals(chm.getHistory(), copy.getHistory());
+    }
+
+    @Test
+    public void findCommandContaining_matchingCommands_returnsMostRecentFromIndex() {
+        CommandHistory chm = new CommandHistory();
+        chm.addCommandToHistory("delete 1");
+        chm.addCommandToHistory("list");
+        chm.addCommandToHistory("Delete 3");
+
+        assertEquals(0, chm.findCommandContaining("dele", 0));
+        assertEquals(2, chm.findCommandContaining("dele", 1));
+        assertEquals(1, chm.findCommandContaining("is", 0));
+        assertEquals(-1, chm.findCommandContaining("clear", 0));
+        assertEquals(-1, chm.findCommandContaining("", 0));
+        assertEquals(-1, chm.findCommandContaining("list", 3));
+    }
+
+    @Test
+    public void findCommandContaining_turkishDefaultLocale_caseIgnoredAsInOtherLocales() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+            CommandHistory chm = new CommandHistory();
+            chm.addCommandToHistory("find t\\INTERN");
+            chm.addCommandToHistory("list");
+
+            assertEquals(1, chm.findCommandContaining("intern", 0));
+            assertEquals(1, chm.findCommandContaining("INTERN", 0));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void findCommandContaining_oldestCommandOverwritten_notFound() {
+        CommandHistory chm = new CommandHistory(2);
+        chm.addCommandToHistory("delete 1");
+        chm.addCommandToHistory("list");
+        chm.addCommandToHistory("clear");
+
+        assertEquals(-1, chm.findCommandContaining("delete", 0));
+        assertEquals(1, chm.findCommandContaining("list", 0));
+
+        chm.clearHistory();
+        assertEquals(-1, chm.findCommandContaining("list", 0));
     }
 }
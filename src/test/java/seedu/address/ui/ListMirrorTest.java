@@ -0,0 +1,101 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class ListMirrorTest {
+    private ObservableList<String> source;
+    private List<Runnable> pendingChanges;
+    private ListMirror<String> mirror;
+
+    @BeforeEach
+    public void setUp() {
+        source = FXCollections.observableArrayList("alice", "bob", "carl");
+        pendingChanges = new ArrayList<>();
+        mirror = new ListMirror<>(source, pendingChanges::add);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ListMirror<>(null, pendingChanges::add));
+        assertThrows(NullPointerException.class, () -> new ListMirror<>(source, null));
+    }
+
+    @Test
+    public void getList_initially_copiesSource() {
+        assertEquals(List.of("alice", "bob", "carl"), mirror.getList());
+    }
+
+    @Test
+    public void getList_modified_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> mirror.getList().add("daniel"));
+    }
+
+    @Test
+    public void sourceChanged_beforeExecutorRuns_mirrorUnchanged() {
+        source.add("daniel");
+        source.remove("alice");
+
+        assertEquals(List.of("alice", "bob", "carl"), mirror.getList());
+        runPendingChanges();
+        assertEquals(List.of("bob", "carl", "daniel"), mirror.getList());
+    }
+
+    @Test
+    public void sourceChanged_addRemoveAndReplace_mirrorMatchesSource() {
+        source.add(1, "daniel");
+        source.set(0, "elle");
+        source.remove(2);
+        source.addAll("fiona", "george");
+        source.remove(1, 3);
+        runPendingChanges();
+
+        assertEquals(source, mirror.getList());
+    }
+
+    @Test
+    public void sourceChanged_sorted_mirrorMatchesSource() {
+        source.addAll("zack", "daniel");
+        FXCollections.sort(source, Comparator.reverseOrder());
+        runPendingChanges();
+
+        assertEquals(source, mirror.getList());
+    }
+
+    @Test
+    public void sourceChanged_randomChanges_mirrorMatchesSource() {
+        Random random = new Random(18);
+        for (int i = 0; i < 500; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 || source.isEmpty()) {
+                source.add(random.nextInt(source.size() + 1), "person " + i);
+            } else if (operation == 1) {
+                source.remove(random.nextInt(source.size()));
+            } else if (operation == 2) {
+                source.set(random.nextInt(source.size()), "person " + i);
+            } else {
+                int from = random.nextInt(source.size());
+                source.remove(from, from + random.nextInt(source.size() - from + 1));
+            }
+        }
+        runPendingChanges();
+
+        assertEquals(source, mirror.getList());
+    }
+
+    private void runPendingChanges() {
+        pendingChanges.forEach(Runnable::run);
+        pendingChanges.clear();
+    }
+}
@@ -14,8 +14,10 @@ import org.testfx.api.FxRobot;
 import org.testfx.framework.junit5.ApplicationExtension;
 import org.testfx.framework.junit5.Start;
 
+import javafx.application.Platform;
 import javafx.scene.control.TextField;
 import javafx.stage.Stage;
+import seedu.address.logic.CommandPipeline;
 import seedu.address.logic.LogicManager;
 import seedu.address.logic.StateManager;
 import seedu.address.logic.autocomplete.Autocompletor;
@@ -53,7 +55,8 @@ public class MainWindowTest {
         model.setAddressBook(getTypicalAddressBook());
 
         // Create the MainWindow
-        mainWindow = new MainWindow(stage, new LogicManager(model, storage, new StateManager()));
+        LogicManager logic = new LogicManager(model, storage, new StateManager());
+        mainWindow = new MainWindow(stage, logic, new CommandPipeline(logic, Platform::runLater));
         mainWindow.show();
         mainWindow.fillInnerParts();
         mainWindow.createCommandBox(new Autocompletor(), chm);